@@ -16,9 +16,54 @@ public class CacheConfig {
     private long ttlSeconds = 5;
     private boolean resetTtlOnAccess = true;
     private long backendLatencyMs = 100;
+    private int segmentCount = 16;  // Lock stripes for the segmented LRU (rounded up to a power of two)
+    private int offHeapSlotBytes = 128;  // Fixed slot size for the off-heap cache (header + key + value)
+    private boolean timingWheelEnabled = false;  // Proactive TTL expiration for the LRU strategy
+    private long clockTickMs = 10;  // Resolution of the coarse clock and timing wheel
+    private long staleGraceMs = 10000;  // How long past its TTL an entry may still be served stale
+    private int refreshThreads = 4;  // Background revalidation pool size
+    private int refreshQueueCapacity = 32;  // Pending revalidations before the queue-full policy applies
+    private RefreshQueueFullPolicy refreshQueueFullPolicy = RefreshQueueFullPolicy.DISCARD;
+    private long batchMaxDelayMs = 5;  // Micro-batching loader: longest a miss waits for its batch
+    private int batchMaxSize = 32;  // Micro-batching loader: dispatch once this many misses are queued
+    private int l1MaxSize = 128;  // Tiered cache: striped L1 capacity (L2 uses maxSize)
+    private long l1TtlMs = 1000;  // Tiered cache: L1 copies expire sooner, bounding staleness and demoting idle keys
+    private int l1PromotionThreshold = 2;  // Tiered cache: recent L2 hits (sketch estimate) before a key is copied to L1
+    private boolean l1PromoteOnWrite = false;  // Tiered cache: also write loaded values to L1
+    private int diskSegmentBytes = 1 << 20;  // Disk tier: size of each memory-mapped segment file
+    private long diskMaxBytes = 64L << 20;  // Disk tier: mapped bytes before the oldest segment is dropped
+    private double diskCompactionThreshold = 0.5;  // Disk tier: live fraction below which a segment is compacted
+    private String diskDirectory = "";  // Disk tier: segment directory (blank = a fresh temp directory)
+    private long maxWeightBytes = 0;  // LRU strategies: evict by estimated bytes instead of maxSize (0 = off)
+    private ValueSizeDistribution valueSizeDistribution = ValueSizeDistribution.FIXED;  // Worker payload sizes
+    private int valueSizeBytes = 0;  // Worker: typical value size (0 = short "value_for_{key}" values)
+    private int valueSizeMaxBytes = 1 << 20;  // Worker: cap on a single value
+    private boolean xfetchEnabled = false;  // LRU: probabilistic early recompute before expiry (XFetch)
+    private double xfetchBeta = 1.0;  // XFetch: >1 recomputes earlier, <1 later
+    private int clusterNodes = 4;  // Cluster: cache nodes on the consistent-hash ring (maxSize is split between them)
+    private int clusterVirtualNodes = 150;  // Cluster: ring points per node
+    private long clusterHopLatencyMicros = 200;  // Cluster: simulated network hop per get/put
+    private String snapshotPath = "";  // LRU snapshot restored at startup and written at shutdown (blank = off)
+    private String traceDirectory = "traces";  // Key traces: the only directory the trace endpoints read or write
+
+    /**
+     * What to do with a revalidation when the refresh queue is full.
+     */
+    public enum RefreshQueueFullPolicy {
+        DISCARD,  // Drop it, a later stale hit will try again
+        CALLER_RUNS  // Refresh on the request thread (turns the stale hit into a blocking fetch)
+    }
+
+    /**
+     * How backend value sizes vary between keys.
+     */
+    public enum ValueSizeDistribution {
+        FIXED,  // Every value is valueSizeBytes
+        UNIFORM,  // Uniform between 1 and twice valueSizeBytes
+        LOG_NORMAL  // Median valueSizeBytes, long tail of large values
+    }
     
     // TODO: Add more configuration options
-    // - Different cache sizes for tiers
     // - TTL configurations
     // - Backend latency settings
     
@@ -54,5 +99,237 @@ public class CacheConfig {
     public void setBackendLatencyMs(long backendLatencyMs) {
         this.backendLatencyMs = backendLatencyMs;
     }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public void setSegmentCount(int segmentCount) {
+        this.segmentCount = segmentCount;
+    }
+
+    public int getOffHeapSlotBytes() {
+        return offHeapSlotBytes;
+    }
+
+    public void setOffHeapSlotBytes(int offHeapSlotBytes) {
+        this.offHeapSlotBytes = offHeapSlotBytes;
+    }
+
+    public boolean isTimingWheelEnabled() {
+        return timingWheelEnabled;
+    }
+
+    public void setTimingWheelEnabled(boolean timingWheelEnabled) {
+        this.timingWheelEnabled = timingWheelEnabled;
+    }
+
+    public long getClockTickMs() {
+        return clockTickMs;
+    }
+
+    public void setClockTickMs(long clockTickMs) {
+        this.clockTickMs = clockTickMs;
+    }
+
+    public long getStaleGraceMs() {
+        return staleGraceMs;
+    }
+
+    public void setStaleGraceMs(long staleGraceMs) {
+        this.staleGraceMs = staleGraceMs;
+    }
+
+    public int getRefreshThreads() {
+        return refreshThreads;
+    }
+
+    public void setRefreshThreads(int refreshThreads) {
+        this.refreshThreads = refreshThreads;
+    }
+
+    public int getRefreshQueueCapacity() {
+        return refreshQueueCapacity;
+    }
+
+    public void setRefreshQueueCapacity(int refreshQueueCapacity) {
+        this.refreshQueueCapacity = refreshQueueCapacity;
+    }
+
+    public RefreshQueueFullPolicy getRefreshQueueFullPolicy() {
+        return refreshQueueFullPolicy;
+    }
+
+    public void setRefreshQueueFullPolicy(RefreshQueueFullPolicy refreshQueueFullPolicy) {
+        this.refreshQueueFullPolicy = refreshQueueFullPolicy;
+    }
+
+    public long getBatchMaxDelayMs() {
+        return batchMaxDelayMs;
+    }
+
+    public void setBatchMaxDelayMs(long batchMaxDelayMs) {
+        this.batchMaxDelayMs = batchMaxDelayMs;
+    }
+
+    public int getBatchMaxSize() {
+        return batchMaxSize;
+    }
+
+    public void setBatchMaxSize(int batchMaxSize) {
+        this.batchMaxSize = batchMaxSize;
+    }
+
+    public int getL1MaxSize() {
+        return l1MaxSize;
+    }
+
+    public void setL1MaxSize(int l1MaxSize) {
+        this.l1MaxSize = l1MaxSize;
+    }
+
+    public long getL1TtlMs() {
+        return l1TtlMs;
+    }
+
+    public void setL1TtlMs(long l1TtlMs) {
+        this.l1TtlMs = l1TtlMs;
+    }
+
+    public int getL1PromotionThreshold() {
+        return l1PromotionThreshold;
+    }
+
+    public void setL1PromotionThreshold(int l1PromotionThreshold) {
+        this.l1PromotionThreshold = l1PromotionThreshold;
+    }
+
+    public boolean isL1PromoteOnWrite() {
+        return l1PromoteOnWrite;
+    }
+
+    public void setL1PromoteOnWrite(boolean l1PromoteOnWrite) {
+        this.l1PromoteOnWrite = l1PromoteOnWrite;
+    }
+
+    public int getDiskSegmentBytes() {
+        return diskSegmentBytes;
+    }
+
+    public void setDiskSegmentBytes(int diskSegmentBytes) {
+        this.diskSegmentBytes = diskSegmentBytes;
+    }
+
+    public long getDiskMaxBytes() {
+        return diskMaxBytes;
+    }
+
+    public void setDiskMaxBytes(long diskMaxBytes) {
+        this.diskMaxBytes = diskMaxBytes;
+    }
+
+    public double getDiskCompactionThreshold() {
+        return diskCompactionThreshold;
+    }
+
+    public void setDiskCompactionThreshold(double diskCompactionThreshold) {
+        this.diskCompactionThreshold = diskCompactionThreshold;
+    }
+
+    public String getDiskDirectory() {
+        return diskDirectory;
+    }
+
+    public void setDiskDirectory(String diskDirectory) {
+        this.diskDirectory = diskDirectory;
+    }
+
+    public String getSnapshotPath() {
+        return snapshotPath;
+    }
+
+    public void setSnapshotPath(String snapshotPath) {
+        this.snapshotPath = snapshotPath;
+    }
+
+    public String getTraceDirectory() {
+        return traceDirectory;
+    }
+
+    public void setTraceDirectory(String traceDirectory) {
+        this.traceDirectory = traceDirectory;
+    }
+
+    public int getClusterNodes() {
+        return clusterNodes;
+    }
+
+    public void setClusterNodes(int clusterNodes) {
+        this.clusterNodes = clusterNodes;
+    }
+
+    public int getClusterVirtualNodes() {
+        return clusterVirtualNodes;
+    }
+
+    public void setClusterVirtualNodes(int clusterVirtualNodes) {
+        this.clusterVirtualNodes = clusterVirtualNodes;
+    }
+
+    public long getClusterHopLatencyMicros() {
+        return clusterHopLatencyMicros;
+    }
+
+    public void setClusterHopLatencyMicros(long clusterHopLatencyMicros) {
+        this.clusterHopLatencyMicros = clusterHopLatencyMicros;
+    }
+
+    public boolean isXfetchEnabled() {
+        return xfetchEnabled;
+    }
+
+    public void setXfetchEnabled(boolean xfetchEnabled) {
+        this.xfetchEnabled = xfetchEnabled;
+    }
+
+    public double getXfetchBeta() {
+        return xfetchBeta;
+    }
+
+    public void setXfetchBeta(double xfetchBeta) {
+        this.xfetchBeta = xfetchBeta;
+    }
+
+    public long getMaxWeightBytes() {
+        return maxWeightBytes;
+    }
+
+    public void setMaxWeightBytes(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    public ValueSizeDistribution getValueSizeDistribution() {
+        return valueSizeDistribution;
+    }
+
+    public void setValueSizeDistribution(ValueSizeDistribution valueSizeDistribution) {
+        this.valueSizeDistribution = valueSizeDistribution;
+    }
+
+    public int getValueSizeBytes() {
+        return valueSizeBytes;
+    }
+
+    public void setValueSizeBytes(int valueSizeBytes) {
+        this.valueSizeBytes = valueSizeBytes;
+    }
+
+    public int getValueSizeMaxBytes() {
+        return valueSizeMaxBytes;
+    }
+
+    public void setValueSizeMaxBytes(int valueSizeMaxBytes) {
+        this.valueSizeMaxBytes = valueSizeMaxBytes;
+    }
 }
 
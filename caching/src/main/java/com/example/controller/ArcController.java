@@ -0,0 +1,87 @@
+package com.example.controller;
+
+import com.example.infrastructure.LoadGenerator.ArrivalProcess;
+import com.example.infrastructure.LoadGenerator.ExecutionMode;
+import com.example.service.impl.ArcServiceImpl;
+import com.example.vo.TestResult;
+import com.example.workload.WorkloadType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for ARC strategy
+ */
+@RestController
+@RequestMapping("/api/arc")
+public class ArcController {
+
+    @Autowired
+    private ArcServiceImpl arcService;
+
+    @GetMapping("/different-cache-sizes")
+    public TestResult runDifferentCacheSizes(
+            @RequestParam(name = "cacheSize", defaultValue = "100") int cacheSize) {
+        return arcService.runDifferentCacheSizes(cacheSize);
+    }
+
+    @GetMapping("/freshness-requirements")
+    public TestResult runFreshnessRequirements() {
+        return arcService.runFreshnessRequirements();
+    }
+
+    @GetMapping("/freshness-requirements/simulated")
+    public TestResult runFreshnessSimulated(
+            @RequestParam(name = "totalRequests", defaultValue = "100000") int totalRequests,
+            @RequestParam(name = "ttlMs", defaultValue = "5000") long ttlMs,
+            @RequestParam(name = "cacheSize", defaultValue = "100") int cacheSize,
+            @RequestParam(name = "uniqueKeys", defaultValue = "50") int uniqueKeys,
+            @RequestParam(name = "requestIntervalMs", defaultValue = "50") double requestIntervalMs,
+            @RequestParam(name = "backendLatencyMs", defaultValue = "100") long backendLatencyMs) {
+        return arcService.runFreshnessSimulated(totalRequests, ttlMs, cacheSize, uniqueKeys,
+            requestIntervalMs, backendLatencyMs);
+    }
+
+    @GetMapping("/concurrency-sweep")
+    public TestResult runConcurrencySweep(
+            @RequestParam(name = "mode", defaultValue = "VIRTUAL") ExecutionMode mode,
+            @RequestParam(name = "levels", defaultValue = "10,100,1000,10000") List<Integer> levels,
+            @RequestParam(name = "backendLatencyMs", defaultValue = "100") long backendLatencyMs) {
+        return arcService.runConcurrencySweep(mode, levels, backendLatencyMs);
+    }
+
+    @GetMapping("/network-delays")
+    public TestResult runNetworkDelays() {
+        return arcService.runNetworkDelays();
+    }
+
+    @GetMapping("/network-delays/open-loop")
+    public TestResult runNetworkDelaysOpenLoop(
+            @RequestParam(name = "ratePerSec", defaultValue = "1000") double ratePerSec,
+            @RequestParam(name = "arrivals", defaultValue = "POISSON") ArrivalProcess arrivals,
+            @RequestParam(name = "totalRequests", defaultValue = "5000") int totalRequests,
+            @RequestParam(name = "seed", defaultValue = "42") long seed) {
+        return arcService.runNetworkDelaysOpenLoop(ratePerSec, arrivals, totalRequests, seed);
+    }
+
+    @GetMapping("/hot-keys")
+    public TestResult runHotKeys() {
+        return arcService.runHotKeys();
+    }
+
+    @GetMapping("/hot-keys/workload")
+    public TestResult runHotKeysWorkload(
+            @RequestParam(name = "type", defaultValue = "ZIPF") WorkloadType type,
+            @RequestParam(name = "seed", defaultValue = "42") long seed) {
+        return arcService.runHotKeys(type, seed);
+    }
+
+    @GetMapping("/footprint")
+    public TestResult runFootprint(@RequestParam(name = "entries", defaultValue = "1000000") int entries) {
+        return arcService.runFootprint(entries);
+    }
+}
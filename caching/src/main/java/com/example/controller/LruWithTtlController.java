@@ -1,12 +1,21 @@
 package com.example.controller;
 
+import com.example.infrastructure.LoadGenerator.ArrivalProcess;
+import com.example.infrastructure.LoadGenerator.ExecutionMode;
+import com.example.service.impl.BufferedLruWithTtlServiceImpl;
 import com.example.service.impl.LruWithTtlServiceImpl;
+import com.example.service.impl.SegmentedLruWithTtlServiceImpl;
+import com.example.util.CacheTestUtils.KeyPattern;
 import com.example.vo.TestResult;
+import com.example.workload.WorkloadType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * REST controller for LRU with TTL strategy
  */
@@ -17,9 +26,32 @@ public class LruWithTtlController {
     @Autowired
     private LruWithTtlServiceImpl lruWithTtlService;
 
+    @Autowired
+    private SegmentedLruWithTtlServiceImpl segmentedLruWithTtlService;
+
+    @Autowired
+    private BufferedLruWithTtlServiceImpl bufferedLruWithTtlService;
+
     @GetMapping("/different-cache-sizes")
-    public TestResult runDifferentCacheSizes() {
-        return lruWithTtlService.runDifferentCacheSizes();
+    public TestResult runDifferentCacheSizes(
+            @RequestParam(name = "cacheSize", defaultValue = "100") int cacheSize) {
+        return lruWithTtlService.runDifferentCacheSizes(cacheSize);
+    }
+
+    @GetMapping("/different-cache-sizes/miss-ratio-curve")
+    public TestResult runMissRatioCurve(
+            @RequestParam(name = "pattern", defaultValue = "SEQUENTIAL") KeyPattern pattern,
+            @RequestParam(name = "workload", required = false) WorkloadType workload,
+            @RequestParam(name = "seed", defaultValue = "42") long seed,
+            @RequestParam(name = "totalRequests", defaultValue = "1000") int totalRequests,
+            @RequestParam(name = "uniqueKeys", defaultValue = "200") int uniqueKeys,
+            @RequestParam(name = "cacheSize", defaultValue = "100") int cacheSize,
+            @RequestParam(name = "samplingRate", defaultValue = "1.0") double samplingRate) {
+        if (workload != null) {
+            return lruWithTtlService.runMissRatioCurve(workload, seed, totalRequests, uniqueKeys,
+                cacheSize, samplingRate);
+        }
+        return lruWithTtlService.runMissRatioCurve(pattern, totalRequests, uniqueKeys, cacheSize, samplingRate);
     }
 
     @GetMapping("/freshness-requirements")
@@ -27,9 +59,154 @@ public class LruWithTtlController {
         return lruWithTtlService.runFreshnessRequirements();
     }
 
+    @GetMapping("/freshness-requirements/simulated")
+    public TestResult runFreshnessSimulated(
+            @RequestParam(name = "totalRequests", defaultValue = "100000") int totalRequests,
+            @RequestParam(name = "ttlMs", defaultValue = "5000") long ttlMs,
+            @RequestParam(name = "cacheSize", defaultValue = "100") int cacheSize,
+            @RequestParam(name = "uniqueKeys", defaultValue = "50") int uniqueKeys,
+            @RequestParam(name = "requestIntervalMs", defaultValue = "50") double requestIntervalMs,
+            @RequestParam(name = "backendLatencyMs", defaultValue = "100") long backendLatencyMs) {
+        return lruWithTtlService.runFreshnessSimulated(totalRequests, ttlMs, cacheSize, uniqueKeys,
+            requestIntervalMs, backendLatencyMs);
+    }
+
+    @GetMapping("/concurrency-sweep")
+    public TestResult runConcurrencySweep(
+            @RequestParam(name = "mode", defaultValue = "VIRTUAL") ExecutionMode mode,
+            @RequestParam(name = "levels", defaultValue = "10,100,1000,10000") List<Integer> levels,
+            @RequestParam(name = "backendLatencyMs", defaultValue = "100") long backendLatencyMs) {
+        return lruWithTtlService.runConcurrencySweep(mode, levels, backendLatencyMs);
+    }
+
     @GetMapping("/network-delays")
     public TestResult runNetworkDelays() {
         return lruWithTtlService.runNetworkDelays();
     }
+
+    @GetMapping("/network-delays/open-loop")
+    public TestResult runNetworkDelaysOpenLoop(
+            @RequestParam(name = "ratePerSec", defaultValue = "1000") double ratePerSec,
+            @RequestParam(name = "arrivals", defaultValue = "POISSON") ArrivalProcess arrivals,
+            @RequestParam(name = "totalRequests", defaultValue = "5000") int totalRequests,
+            @RequestParam(name = "seed", defaultValue = "42") long seed) {
+        return lruWithTtlService.runNetworkDelaysOpenLoop(ratePerSec, arrivals, totalRequests, seed);
+    }
+
+    @GetMapping("/freshness-requirements/synchronized-expiry")
+    public TestResult runFreshnessSynchronizedExpiry(
+            @RequestParam(name = "xfetch", defaultValue = "false") boolean xfetch,
+            @RequestParam(name = "beta", defaultValue = "1.0") double beta) {
+        return lruWithTtlService.runFreshnessSynchronizedExpiry(xfetch, beta);
+    }
+
+    @GetMapping("/different-cache-sizes/warm-start")
+    public TestResult runDifferentCacheSizesWarmStart() {
+        return lruWithTtlService.runDifferentCacheSizesWarmStart();
+    }
+
+    @GetMapping("/network-delays/warm-start")
+    public TestResult runNetworkDelaysWarmStart() {
+        return lruWithTtlService.runNetworkDelaysWarmStart();
+    }
+
+    @GetMapping("/burst")
+    public TestResult runBurst() {
+        return lruWithTtlService.runBurst();
+    }
+
+    @GetMapping("/network-delays/expiring")
+    public TestResult runNetworkDelaysExpiring() {
+        return lruWithTtlService.runNetworkDelaysExpiring();
+    }
+
+    @GetMapping("/network-delays/batched")
+    public TestResult runNetworkDelaysBatched(
+            @RequestParam(name = "maxDelayMs", defaultValue = "5") long maxDelayMs,
+            @RequestParam(name = "maxBatchSize", defaultValue = "32") int maxBatchSize) {
+        return lruWithTtlService.runNetworkDelaysBatched(maxDelayMs, maxBatchSize);
+    }
+
+    @GetMapping("/hot-keys")
+    public TestResult runHotKeys() {
+        return lruWithTtlService.runHotKeys();
+    }
+
+    @GetMapping("/hot-keys/workload")
+    public TestResult runHotKeysWorkload(
+            @RequestParam(name = "type", defaultValue = "ZIPF") WorkloadType type,
+            @RequestParam(name = "seed", defaultValue = "42") long seed) {
+        return lruWithTtlService.runHotKeys(type, seed);
+    }
+
+    @GetMapping("/payload-sizes")
+    public TestResult runPayloadSizes(@RequestParam(name = "maxWeightBytes", defaultValue = "0") long maxWeightBytes) {
+        return lruWithTtlService.runPayloadSizes(maxWeightBytes);
+    }
+
+    @GetMapping("/thread-sweep")
+    public TestResult runThreadSweep() {
+        return lruWithTtlService.runThreadSweep();
+    }
+
+    @GetMapping("/multi-get")
+    public TestResult runMultiGet(@RequestParam(name = "batched", defaultValue = "true") boolean batched) {
+        return lruWithTtlService.runMultiGet(batched);
+    }
+
+    @GetMapping("/footprint")
+    public TestResult runFootprint(@RequestParam(name = "entries", defaultValue = "1000000") int entries) {
+        return lruWithTtlService.runFootprint(entries);
+    }
+
+    // Lock-striped variant, same scenarios
+
+    @GetMapping("/segmented/different-cache-sizes")
+    public TestResult runSegmentedDifferentCacheSizes() {
+        return segmentedLruWithTtlService.runDifferentCacheSizes();
+    }
+
+    @GetMapping("/segmented/freshness-requirements")
+    public TestResult runSegmentedFreshnessRequirements() {
+        return segmentedLruWithTtlService.runFreshnessRequirements();
+    }
+
+    @GetMapping("/segmented/network-delays")
+    public TestResult runSegmentedNetworkDelays() {
+        return segmentedLruWithTtlService.runNetworkDelays();
+    }
+
+    @GetMapping("/segmented/hot-keys")
+    public TestResult runSegmentedHotKeys() {
+        return segmentedLruWithTtlService.runHotKeys();
+    }
+
+    @GetMapping("/segmented/payload-sizes")
+    public TestResult runSegmentedPayloadSizes(
+            @RequestParam(name = "maxWeightBytes", defaultValue = "0") long maxWeightBytes) {
+        return segmentedLruWithTtlService.runPayloadSizes(maxWeightBytes);
+    }
+
+    @GetMapping("/segmented/multi-get")
+    public TestResult runSegmentedMultiGet(@RequestParam(name = "batched", defaultValue = "true") boolean batched) {
+        return segmentedLruWithTtlService.runMultiGet(batched);
+    }
+
+    // Lock-free read path with buffered LRU reordering, same scenarios
+
+    @GetMapping("/buffered/different-cache-sizes")
+    public TestResult runBufferedDifferentCacheSizes() {
+        return bufferedLruWithTtlService.runDifferentCacheSizes();
+    }
+
+    @GetMapping("/buffered/freshness-requirements")
+    public TestResult runBufferedFreshnessRequirements() {
+        return bufferedLruWithTtlService.runFreshnessRequirements();
+    }
+
+    @GetMapping("/buffered/network-delays")
+    public TestResult runBufferedNetworkDelays() {
+        return bufferedLruWithTtlService.runNetworkDelays();
+    }
 }
 
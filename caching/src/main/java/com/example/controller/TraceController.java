@@ -0,0 +1,64 @@
+package com.example.controller;
+
+import com.example.infrastructure.KeyTraces;
+import com.example.vo.TraceStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * REST controller for key-trace recording and replay.
+ * While a trace is replayed, every scenario of every strategy uses its keys.
+ * Traces are named by file name inside the configured trace directory;
+ * everything that changes state is a POST.
+ */
+@RestController
+@RequestMapping("/api/traces")
+public class TraceController {
+
+    @Autowired
+    private KeyTraces keyTraces;
+
+    @GetMapping
+    public TraceStatus getStatus() {
+        return keyTraces.getStatus();
+    }
+
+    @PostMapping("/record/start")
+    public TraceStatus startRecording(@RequestParam(name = "name") String name) throws IOException {
+        keyTraces.startRecording(keyTraces.resolve(name));
+        return keyTraces.getStatus();
+    }
+
+    @PostMapping("/record/stop")
+    public TraceStatus stopRecording() {
+        keyTraces.stopRecording();
+        return keyTraces.getStatus();
+    }
+
+    @PostMapping("/replay/start")
+    public TraceStatus startReplay(@RequestParam(name = "name") String name) throws IOException {
+        keyTraces.startReplay(keyTraces.resolve(name));
+        return keyTraces.getStatus();
+    }
+
+    @PostMapping("/replay/stop")
+    public TraceStatus stopReplay() {
+        keyTraces.stopReplay();
+        return keyTraces.getStatus();
+    }
+
+    @PostMapping("/import")
+    public TraceStatus importText(
+            @RequestParam(name = "source") String source,
+            @RequestParam(name = "target") String target) throws IOException {
+        KeyTraces.importText(keyTraces.resolve(source), keyTraces.resolve(target));
+        keyTraces.startReplay(keyTraces.resolve(target));
+        return keyTraces.getStatus();
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.infrastructure;
+
+import com.example.config.CacheConfig;
+import com.example.vo.BatchingStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Micro-batching loader in front of the Worker (DataLoader-style).
+ * Misses arriving within a short window are collected and sent to the
+ * backend as one Worker.fetchBatch call; each caller's future completes
+ * with its own value.
+ * 
+ * Features:
+ * - A batch is dispatched when it reaches maxBatchSize or when maxDelayMs
+ *   has passed since its first key, whichever comes first
+ * - Duplicate keys in a batch are fetched once
+ * - Tracks the batch-size distribution and the queueing delay added per key
+ */
+@Component
+public class BatchingLoader {
+
+    // Batch sizes are bucketed by power of two: 1, 2-3, 4-7, ..., 128+
+    private static final int HISTOGRAM_BUCKETS = 8;
+
+    @Autowired
+    private Worker worker;
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // A caller waiting for its key to be loaded
+    private static class PendingLoad {
+        final String key;
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        final long enqueuedAtNanos = System.nanoTime();
+
+        PendingLoad(String key) {
+            this.key = key;
+        }
+    }
+
+    // Current window, guarded by lock
+    private final Object lock = new Object();
+    private List<PendingLoad> pending = new ArrayList<>();
+    private ScheduledFuture<?> flushTimer;
+
+    private long maxDelayMs = 5;
+    private int maxBatchSize = 32;
+
+    private ScheduledExecutorService timer;
+    private ExecutorService dispatcher;
+
+    // Statistics
+    private final AtomicInteger batches = new AtomicInteger(0);
+    private final AtomicInteger keysLoaded = new AtomicInteger(0);
+    private final AtomicInteger maxObservedBatchSize = new AtomicInteger(0);
+    private final AtomicIntegerArray batchSizeHistogram = new AtomicIntegerArray(HISTOGRAM_BUCKETS);
+    private final AtomicInteger queuedLoads = new AtomicInteger(0);
+    private final AtomicLong totalQueueDelayMicros = new AtomicLong(0);
+    private final AtomicLong maxQueueDelayMicros = new AtomicLong(0);
+
+    @PostConstruct
+    public void start() {
+        applyConfig();
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batching-loader-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "batching-loader-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Queue a key for the next batch.
+     * @param key The data key to fetch
+     * @return Future completed with the value when the batch returns
+     */
+    public CompletableFuture<String> load(String key) {
+        PendingLoad load = new PendingLoad(key);
+        List<PendingLoad> ready = null;
+        synchronized (lock) {
+            pending.add(load);
+            if (pending.size() >= maxBatchSize || maxDelayMs <= 0) {
+                ready = drainPending();
+            } else if (pending.size() == 1) {
+                flushTimer = timer.schedule(this::flush, maxDelayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (ready != null) {
+            dispatch(ready);
+        }
+        return load.future;
+    }
+
+    /**
+     * Queue a key and wait for its batch. Usable as a CacheStrategy loader.
+     */
+    public String loadBlocking(String key) {
+        try {
+            return load(key).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Take the current window. Must hold the lock.
+     */
+    private List<PendingLoad> drainPending() {
+        List<PendingLoad> batch = pending;
+        pending = new ArrayList<>();
+        if (flushTimer != null) {
+            flushTimer.cancel(false);
+            flushTimer = null;
+        }
+        return batch;
+    }
+
+    private void flush() {
+        List<PendingLoad> batch;
+        synchronized (lock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = drainPending();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(List<PendingLoad> batch) {
+        dispatcher.execute(() -> {
+            long now = System.nanoTime();
+            Map<String, List<PendingLoad>> waitersByKey = new LinkedHashMap<>();
+            for (PendingLoad load : batch) {
+                recordQueueDelay(now - load.enqueuedAtNanos);
+                waitersByKey.computeIfAbsent(load.key, key -> new ArrayList<>()).add(load);
+            }
+            recordBatch(waitersByKey.size());
+
+            try {
+                Map<String, String> values = worker.fetchBatch(waitersByKey.keySet());
+                waitersByKey.forEach((key, waiters) -> {
+                    String value = values.get(key);
+                    waiters.forEach(waiter -> waiter.future.complete(value));
+                });
+            } catch (Throwable t) {
+                // Errors too: an unfailed future blocks its caller forever
+                batch.forEach(load -> load.future.completeExceptionally(t));
+                throw t;
+            }
+        });
+    }
+
+    private void recordQueueDelay(long delayNanos) {
+        long delayMicros = TimeUnit.NANOSECONDS.toMicros(delayNanos);
+        queuedLoads.incrementAndGet();
+        totalQueueDelayMicros.addAndGet(delayMicros);
+        maxQueueDelayMicros.accumulateAndGet(delayMicros, Math::max);
+    }
+
+    private void recordBatch(int size) {
+        batches.incrementAndGet();
+        keysLoaded.addAndGet(size);
+        maxObservedBatchSize.accumulateAndGet(size, Math::max);
+        int bucket = Math.min(31 - Integer.numberOfLeadingZeros(size), HISTOGRAM_BUCKETS - 1);
+        batchSizeHistogram.incrementAndGet(bucket);
+    }
+
+    /**
+     * Set the batching window for the next run.
+     * @param maxDelayMs Longest a key waits for its batch to fill (0 disables batching)
+     * @param maxBatchSize Dispatch as soon as this many keys are queued
+     */
+    public void configure(long maxDelayMs, int maxBatchSize) {
+        synchronized (lock) {
+            this.maxDelayMs = maxDelayMs;
+            this.maxBatchSize = Math.max(1, maxBatchSize);
+        }
+    }
+
+    /**
+     * Apply configuration from CacheConfig.
+     */
+    public void applyConfig() {
+        if (cacheConfig != null) {
+            configure(cacheConfig.getBatchMaxDelayMs(), cacheConfig.getBatchMaxSize());
+        }
+    }
+
+    public long getMaxDelayMs() {
+        return maxDelayMs;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void resetStats() {
+        batches.set(0);
+        keysLoaded.set(0);
+        maxObservedBatchSize.set(0);
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            batchSizeHistogram.set(i, 0);
+        }
+        queuedLoads.set(0);
+        totalQueueDelayMicros.set(0);
+        maxQueueDelayMicros.set(0);
+    }
+
+    /**
+     * Snapshot the batching statistics since the last reset.
+     */
+    public BatchingStats getStats() {
+        BatchingStats stats = new BatchingStats();
+        int batchCount = batches.get();
+        int loads = queuedLoads.get();
+        stats.setMaxDelayMs(maxDelayMs);
+        stats.setMaxBatchSize(maxBatchSize);
+        stats.setBatches(batchCount);
+        stats.setKeysLoaded(keysLoaded.get());
+        stats.setAverageBatchSize(batchCount == 0 ? 0.0 : (double) keysLoaded.get() / batchCount);
+        stats.setLargestBatch(maxObservedBatchSize.get());
+        stats.setAverageQueueDelayMs(loads == 0 ? 0.0 : totalQueueDelayMicros.get() / 1000.0 / loads);
+        stats.setMaxQueueDelayMs(maxQueueDelayMicros.get() / 1000.0);
+
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            int count = batchSizeHistogram.get(i);
+            if (count > 0) {
+                histogram.put(bucketLabel(i), count);
+            }
+        }
+        stats.setBatchSizeHistogram(histogram);
+        return stats;
+    }
+
+    private static String bucketLabel(int bucket) {
+        int low = 1 << bucket;
+        if (bucket == HISTOGRAM_BUCKETS - 1) {
+            return low + "+";
+        }
+        int high = (low << 1) - 1;
+        return low == high ? String.valueOf(low) : low + "-" + high;
+    }
+}
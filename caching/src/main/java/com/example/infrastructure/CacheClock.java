@@ -0,0 +1,66 @@
+package com.example.infrastructure;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Time source for all TTL logic.
+ * Reads the system clock, or a virtual clock that only moves when the
+ * simulator advances it, so TTL behaviour over hours of traffic can be
+ * replayed in seconds.
+ *
+ * Strategies start with SYSTEM and get the Spring bean injected; strategies
+ * built inside another strategy are handed the enclosing strategy's clock.
+ * Virtual time is global to the bean: scenarios using real time must not
+ * run while a simulation does.
+ */
+@Component
+public class CacheClock {
+
+    /**
+     * System-time clock for strategies not (yet) wired to the bean.
+     * Never switched to virtual time.
+     */
+    public static final CacheClock SYSTEM = new CacheClock();
+
+    private volatile boolean virtual;
+    private volatile long virtualTimeMillis;
+
+    /**
+     * Get the current time.
+     * @return Milliseconds since the epoch, virtual while a simulation runs
+     */
+    public long currentTimeMillis() {
+        return virtual ? virtualTimeMillis : System.currentTimeMillis();
+    }
+
+    /**
+     * Freeze time at startMillis; from now on only advanceTo moves it.
+     */
+    public void useVirtualTime(long startMillis) {
+        if (this == SYSTEM) {
+            throw new IllegalStateException("The SYSTEM clock cannot use virtual time");
+        }
+        this.virtualTimeMillis = startMillis;
+        this.virtual = true;
+    }
+
+    /**
+     * Move virtual time forward (never backward).
+     */
+    public void advanceTo(long millis) {
+        if (millis > virtualTimeMillis) {
+            this.virtualTimeMillis = millis;
+        }
+    }
+
+    /**
+     * Go back to the system clock.
+     */
+    public void useSystemTime() {
+        this.virtual = false;
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.infrastructure;
+
+import com.example.strategy.CacheStrategy;
+import com.example.vo.LatencyStats;
+import com.example.vo.SimulationStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Trace-driven cache simulator on a virtual clock.
+ * Replays a key stream through any CacheStrategy on a single thread: an
+ * event loop takes request arrivals and backend fetch completions in time
+ * order and advances the CacheClock to each one, so TTLs, request pacing and
+ * backend latency cost no wall time.
+ *
+ * Features:
+ * - Requests arrive every requestIntervalMs of virtual time
+ * - A miss issues a backend fetch with modeled latency (base plus or minus
+ *   jitter, from a seeded Random so runs are repeatable); the value is put
+ *   when the fetch completes, and requests for the key in the meantime miss
+ *   and fetch too, as with a plain cache-aside client
+ * - Results are aggregated as the run goes (latency histogram, counters),
+ *   so memory does not grow with the number of requests
+ * - While KeyTraces replays a trace, its keys replace the generator's and
+ *   its inter-arrival times (if it has any) replace requestIntervalMs;
+ *   while it records, arrivals are recorded with their virtual spacing
+ *
+ * The clock is switched to virtual time for the whole run, including setup.
+ * Loader-aware strategy features (coalescing, stale serving, XFetch) are not
+ * exercised: the simulator only calls get and put.
+ */
+@Component
+public class CacheSimulator {
+
+    @Autowired
+    private CacheClock clock;
+
+    @Autowired
+    private Worker worker;
+
+    @Autowired
+    private KeyTraces keyTraces;
+
+    private static final long MICROS_PER_MS = 1000;
+
+    private double requestIntervalMs = 50;
+    private long backendLatencyMs = 100;
+    private int jitterMs = 10;
+    private long seed = 42;
+
+    /**
+     * Backend fetch in flight, completing at a virtual time.
+     */
+    private record Fetch(String key, long completesAtMicros, long sequence) {
+    }
+
+    /**
+     * Aggregated outcome of a simulated run.
+     */
+    public record Result(int hits, int misses, int backendFetches, int maxBackendFetchesPer100Ms,
+                         LatencyStats latency, SimulationStats stats) {
+    }
+
+    /**
+     * Replay a key stream through a strategy on virtual time.
+     *
+     * @param strategy The cache strategy to simulate
+     * @param setup Configures the strategy; runs after the clock is switched,
+     *              so entries and timers start from virtual time
+     * @param totalRequests Number of requests to replay
+     * @param keyGenerator Function to generate keys from request index
+     * @return Counters, latency stats and simulation stats of the run
+     */
+    public Result simulate(CacheStrategy strategy, Runnable setup, int totalRequests,
+                           Function<Integer, String> keyGenerator) {
+        long wallClockStart = System.nanoTime();
+        long startMillis = System.currentTimeMillis();
+        clock.useVirtualTime(startMillis);
+        try {
+            setup.run();
+
+            Random random = new Random(seed);
+            PriorityQueue<Fetch> fetches = new PriorityQueue<>(
+                Comparator.comparingLong(Fetch::completesAtMicros).thenComparingLong(Fetch::sequence));
+            long[] latencyCounts = new long[(int) (backendLatencyMs + jitterMs) + 2];
+            double intervalMicros = requestIntervalMs * MICROS_PER_MS;
+            Function<Integer, String> keys = keyTraces.keyGenerator(keyGenerator);
+            KeyTraceFile.Reader trace = keyTraces.getReplay();
+            boolean traceTiming = trace != null && trace.isTimed();
+            long traceArrivalMicros = 0;
+            long previousArrivalMicros = 0;
+
+            int hits = 0;
+            int misses = 0;
+            long sequence = 0;
+            long events = 0;
+            long nowMicros = 0;
+            int peakInFlight = 0;
+            long fetchWindow = -1;
+            int fetchesInWindow = 0;
+            int maxFetchesPerWindow = 0;
+
+            int next = 1;
+            while (next <= totalRequests || !fetches.isEmpty()) {
+                long arrivalMicros;
+                if (next > totalRequests) {
+                    arrivalMicros = Long.MAX_VALUE;
+                } else if (traceTiming) {
+                    arrivalMicros = next == 1
+                        ? 0
+                        : traceArrivalMicros + trace.interArrivalMicrosAt((next - 1) % trace.size());
+                } else {
+                    arrivalMicros = Math.round((next - 1) * intervalMicros);
+                }
+                Fetch fetch = fetches.peek();
+
+                if (fetch != null && fetch.completesAtMicros() <= arrivalMicros) {
+                    // Fetch completion: store the value
+                    fetches.poll();
+                    nowMicros = fetch.completesAtMicros();
+                    clock.advanceTo(startMillis + nowMicros / MICROS_PER_MS);
+                    strategy.put(fetch.key(), worker.valueFor(fetch.key()));
+
+                    long window = nowMicros / (100 * MICROS_PER_MS);
+                    fetchesInWindow = window == fetchWindow ? fetchesInWindow + 1 : 1;
+                    fetchWindow = window;
+                    maxFetchesPerWindow = Math.max(maxFetchesPerWindow, fetchesInWindow);
+                } else {
+                    // Request arrival: look the key up, fetch on a miss
+                    nowMicros = arrivalMicros;
+                    traceArrivalMicros = arrivalMicros;
+                    clock.advanceTo(startMillis + nowMicros / MICROS_PER_MS);
+                    String key = keys.apply(next++);
+                    keyTraces.recordArrival(key, nowMicros - previousArrivalMicros);
+                    previousArrivalMicros = nowMicros;
+                    if (strategy.get(key) != null) {
+                        hits++;
+                        latencyCounts[0]++;
+                    } else {
+                        misses++;
+                        long latency = modelLatency(random);
+                        latencyCounts[(int) latency]++;
+                        fetches.add(new Fetch(key, nowMicros + latency * MICROS_PER_MS, sequence++));
+                        peakInFlight = Math.max(peakInFlight, fetches.size());
+                    }
+                }
+                events++;
+            }
+
+            long wallClockMs = Math.max(1, (System.nanoTime() - wallClockStart) / 1_000_000);
+            SimulationStats stats = new SimulationStats();
+            stats.setRequestIntervalMs(requestIntervalMs);
+            stats.setBackendLatencyMs(backendLatencyMs);
+            stats.setVirtualDurationMs(nowMicros / MICROS_PER_MS);
+            stats.setWallClockMs(wallClockMs);
+            stats.setSpeedup((double) stats.getVirtualDurationMs() / wallClockMs);
+            stats.setEvents(events);
+            stats.setPeakInFlightFetches(peakInFlight);
+            stats.setKeyTrace(trace != null ? trace.getPath().toString() : null);
+
+            return new Result(hits, misses, misses, maxFetchesPerWindow,
+                latencyStats(latencyCounts, hits + misses), stats);
+        } finally {
+            clock.useSystemTime();
+        }
+    }
+
+    /**
+     * Fetch latency in whole milliseconds: base plus or minus jitter, at least 1.
+     */
+    private long modelLatency(Random random) {
+        long latency = backendLatencyMs;
+        if (jitterMs > 0) {
+            latency += random.nextInt(jitterMs * 2 + 1) - jitterMs;
+        }
+        return Math.max(1, latency);
+    }
+
+    /**
+     * Latency stats from a histogram indexed by milliseconds, with the same
+     * percentile definition as CacheTestUtils.getPercentile.
+     */
+    private static LatencyStats latencyStats(long[] counts, long total) {
+        LatencyStats stats = new LatencyStats();
+        if (total == 0) {
+            return stats;
+        }
+
+        long sum = 0;
+        long min = -1;
+        long max = 0;
+        for (int latency = 0; latency < counts.length; latency++) {
+            if (counts[latency] > 0) {
+                if (min < 0) {
+                    min = latency;
+                }
+                max = latency;
+                sum += latency * counts[latency];
+            }
+        }
+        stats.setMin(min);
+        stats.setMax(max);
+        stats.setAverage((double) sum / total);
+        stats.setP50(percentile(counts, total, 50));
+        stats.setP95(percentile(counts, total, 95));
+        stats.setP99(percentile(counts, total, 99));
+        return stats;
+    }
+
+    private static long percentile(long[] counts, long total, int percentile) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int latency = 0; latency < counts.length; latency++) {
+            seen += counts[latency];
+            if (seen >= rank) {
+                return latency;
+            }
+        }
+        return counts.length - 1;
+    }
+
+    public void setRequestIntervalMs(double requestIntervalMs) {
+        this.requestIntervalMs = requestIntervalMs;
+    }
+
+    public double getRequestIntervalMs() {
+        return requestIntervalMs;
+    }
+
+    public void setBackendLatency(long backendLatencyMs) {
+        this.backendLatencyMs = backendLatencyMs;
+    }
+
+    public void setJitter(int jitterMs) {
+        this.jitterMs = jitterMs;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.infrastructure;
+
+import com.example.config.CacheConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Millisecond clock updated by a background ticker.
+ * Reading it is a volatile load instead of a System.currentTimeMillis() call,
+ * at the cost of being up to one tick behind. While the CacheClock runs on
+ * virtual time, reads return the virtual time instead.
+ */
+@Component
+public class CoarseClock {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    @Autowired
+    private CacheClock cacheClock;
+
+    private volatile long currentTimeMillis = System.currentTimeMillis();
+    private long tickMs = 10;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    public void start() {
+        if (cacheConfig != null) {
+            this.tickMs = Math.max(1, cacheConfig.getClockTickMs());
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(
+            () -> currentTimeMillis = System.currentTimeMillis(), tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Get the time of the last tick.
+     * @return Milliseconds since the epoch, at most one tick stale
+     */
+    public long currentTimeMillis() {
+        if (cacheClock.isVirtual()) {
+            return cacheClock.currentTimeMillis();
+        }
+        return currentTimeMillis;
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+}
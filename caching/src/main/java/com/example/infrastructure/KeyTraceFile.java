@@ -0,0 +1,216 @@
+package com.example.infrastructure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Compact binary key trace: the keys of a run in request order, with the
+ * time between arrivals.
+ *
+ * File layout:
+ * - Header: [int magic][int version][int flags][long recordedAtMs]
+ * - Records to EOF: [long keyId][int interArrivalMicros]
+ *
+ * Flags are written when the trace is closed; FLAG_TIMED says some
+ * inter-arrival time is non-zero (key-only traces have none).
+ *
+ * Key ids are the numeric part of "key_{n}" keys. Records have a fixed width,
+ * so the record count follows from the file length and record i can be read
+ * directly. The reader maps the file in read-only regions of whole records
+ * (a single mapping is limited to 2 GB) and reads with absolute gets, so
+ * traces of any size stream without parsing or allocation.
+ */
+public final class KeyTraceFile {
+
+    private static final int MAGIC = 0x4B545243;  // "KTRC"
+    private static final int VERSION = 1;
+    private static final int FLAGS_OFFSET = Integer.BYTES * 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES;
+    private static final int FLAG_TIMED = 1;
+    private static final int RECORD_BYTES = Long.BYTES + Integer.BYTES;
+    private static final int RECORDS_PER_REGION = (1 << 30) / RECORD_BYTES;  // ~1 GB mappings
+    private static final int WRITE_BUFFER_RECORDS = 4096;
+
+    private KeyTraceFile() {
+    }
+
+    /**
+     * Appends records through a buffer. Not thread-safe.
+     */
+    public static final class Writer implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(RECORD_BYTES * WRITE_BUFFER_RECORDS);
+        private long records;
+        private boolean timed;
+
+        private Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        public void write(long keyId, int interArrivalMicros) {
+            if (!buffer.hasRemaining()) {
+                flush();
+            }
+            buffer.putLong(keyId).putInt(interArrivalMicros);
+            records++;
+            timed |= interArrivalMicros != 0;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+
+        private void flush() {
+            buffer.flip();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write key trace", e);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() {
+            try {
+                flush();
+                ByteBuffer flags = ByteBuffer.allocate(Integer.BYTES).putInt(timed ? FLAG_TIMED : 0).flip();
+                while (flags.hasRemaining()) {
+                    channel.write(flags, FLAGS_OFFSET + flags.position());
+                }
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close key trace", e);
+            }
+        }
+    }
+
+    /**
+     * Read-only mapping of a trace file. Reads are thread-safe.
+     */
+    public static final class Reader implements AutoCloseable {
+        private final Path path;
+        private final MappedByteBuffer[] regions;
+        private final long records;
+        private final int flags;
+        private final long recordedAtMs;
+
+        private Reader(Path path, MappedByteBuffer[] regions, long records, int flags, long recordedAtMs) {
+            this.path = path;
+            this.regions = regions;
+            this.records = records;
+            this.flags = flags;
+            this.recordedAtMs = recordedAtMs;
+        }
+
+        public long size() {
+            return records;
+        }
+
+        /**
+         * Key id of record index (0-based).
+         */
+        public long keyAt(long index) {
+            return regions[(int) (index / RECORDS_PER_REGION)]
+                .getLong((int) (index % RECORDS_PER_REGION) * RECORD_BYTES);
+        }
+
+        /**
+         * Microseconds between the previous record's arrival and this one's.
+         */
+        public int interArrivalMicrosAt(long index) {
+            return regions[(int) (index / RECORDS_PER_REGION)]
+                .getInt((int) (index % RECORDS_PER_REGION) * RECORD_BYTES + Long.BYTES);
+        }
+
+        /**
+         * Whether the trace carries inter-arrival times (all 0 otherwise).
+         */
+        public boolean isTimed() {
+            return (flags & FLAG_TIMED) != 0;
+        }
+
+        public long getRecordedAtMs() {
+            return recordedAtMs;
+        }
+
+        public Path getPath() {
+            return path;
+        }
+
+        /**
+         * Mappings are released when the buffers are collected; nothing to do.
+         */
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Create a trace file, replacing any existing one, and write its header.
+     */
+    public static Writer create(Path path, long recordedAtMs) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(0)
+                .putLong(recordedAtMs)
+                .flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return new Writer(channel);
+    }
+
+    /**
+     * Map a trace file for reading.
+     * A partly written last record (from an interrupted recording) is ignored.
+     */
+    public static Reader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileBytes = channel.size();
+            if (fileBytes < HEADER_BYTES) {
+                throw new IOException("Not a key trace (too short): " + path);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // Positional reads until the header is full
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a key trace (bad magic): " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported key trace version " + version + ": " + path);
+            }
+            int flags = header.getInt();
+            long recordedAtMs = header.getLong();
+
+            long records = (fileBytes - HEADER_BYTES) / RECORD_BYTES;
+            int regionCount = (int) ((records + RECORDS_PER_REGION - 1) / RECORDS_PER_REGION);
+            MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+            for (int r = 0; r < regionCount; r++) {
+                long first = (long) r * RECORDS_PER_REGION;
+                long count = Math.min(RECORDS_PER_REGION, records - first);
+                regions[r] = channel.map(FileChannel.MapMode.READ_ONLY,
+                    HEADER_BYTES + first * RECORD_BYTES, count * RECORD_BYTES);
+            }
+            return new Reader(path, regions, records, flags, recordedAtMs);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.example.infrastructure;
+
+import com.example.config.CacheConfig;
+import com.example.vo.TraceStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Records and replays key traces for every scenario.
+ * The load generator and the simulator route their key generators through
+ * this component, so a trace can be recorded from any run and replayed in
+ * place of any scenario's keys: policy comparisons then see identical inputs
+ * instead of draws from the shared, unseeded Random in CacheTestUtils.
+ *
+ * Features:
+ * - Recording: each request's key id and the microseconds since the previous
+ *   request are appended to a KeyTraceFile (see KeyTraceFile for the format)
+ * - Replay: request i gets the trace's key (i - 1) modulo the trace length,
+ *   read from the memory-mapped file; the simulator also takes its arrival
+ *   times from the trace
+ * - Import of external text traces ("key" or "timestampMs key" per line)
+ *
+ * Keys are mapped to "key_{id}". Keys not of that form (imported traces)
+ * get a non-negative 64-bit hash as their id.
+ * Recording and replay are global to the bean, like the CacheClock.
+ * Requests name trace files; resolve() confines them to the configured
+ * trace directory.
+ */
+@Component
+public class KeyTraces {
+
+    private static final String KEY_PREFIX = "key_";
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    private KeyTraceFile.Writer recorder;  // Guarded by this
+    private Path recordingPath;  // Guarded by this
+    private long lastArrivalNanos;  // Guarded by this
+
+    private volatile KeyTraceFile.Reader replay;
+
+    /**
+     * Resolve a trace file name against the trace directory (cache.trace-directory),
+     * creating the directory if needed. The name must be a single file name:
+     * absolute paths, separators, "." and "..", and symbolic links are rejected.
+     */
+    public Path resolve(String name) throws IOException {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Trace name must not be blank");
+        }
+        Path directory = Path.of(cacheConfig != null ? cacheConfig.getTraceDirectory() : "traces")
+            .toAbsolutePath().normalize();
+        Path fileName = Path.of(name);
+        if (fileName.isAbsolute() || fileName.getNameCount() != 1
+                || name.equals(".") || name.equals("..")) {
+            throw new IllegalArgumentException("Trace name must be a plain file name: " + name);
+        }
+        Path resolved = directory.resolve(fileName).normalize();
+        if (!directory.equals(resolved.getParent())) {
+            throw new IllegalArgumentException("Trace name resolves outside the trace directory: " + name);
+        }
+        Files.createDirectories(directory);
+        if (Files.isSymbolicLink(resolved)) {
+            throw new IllegalArgumentException("Trace file must not be a symbolic link: " + name);
+        }
+        return resolved;
+    }
+
+    // Recording
+
+    /**
+     * Start recording the keys of every following request to path,
+     * replacing any recording in progress.
+     */
+    public synchronized void startRecording(Path path) throws IOException {
+        stopRecording();
+        this.recorder = KeyTraceFile.create(path, System.currentTimeMillis());
+        this.recordingPath = path;
+        this.lastArrivalNanos = 0;
+    }
+
+    /**
+     * Finish the recording in progress, if any.
+     * @return Requests recorded
+     */
+    public synchronized long stopRecording() {
+        if (recorder == null) {
+            return 0;
+        }
+        long records = recorder.getRecords();
+        recorder.close();
+        recorder = null;
+        recordingPath = null;
+        return records;
+    }
+
+    /**
+     * Record a request arriving now (wall clock).
+     * The first request of a recording has an inter-arrival time of 0.
+     */
+    public synchronized void recordArrival(String key) {
+        if (recorder == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        long interArrivalMicros = lastArrivalNanos == 0 ? 0 : (now - lastArrivalNanos) / 1000;
+        lastArrivalNanos = now;
+        recorder.write(keyId(key), (int) Math.min(interArrivalMicros, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Record a request with a given inter-arrival time (virtual clock).
+     */
+    public synchronized void recordArrival(String key, long interArrivalMicros) {
+        if (recorder == null) {
+            return;
+        }
+        recorder.write(keyId(key), (int) Math.min(interArrivalMicros, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Record a request for a numeric key arriving now.
+     */
+    public void recordArrival(long key) {
+        if (isRecording()) {
+            recordArrival(KEY_PREFIX + key);
+        }
+    }
+
+    public synchronized boolean isRecording() {
+        return recorder != null;
+    }
+
+    // Replay
+
+    /**
+     * Replace every scenario's keys with the keys of a trace file.
+     */
+    public void startReplay(Path path) throws IOException {
+        KeyTraceFile.Reader reader = KeyTraceFile.open(path);
+        if (reader.size() == 0) {
+            throw new IOException("Key trace has no records: " + path);
+        }
+        this.replay = reader;
+    }
+
+    /**
+     * Go back to the scenarios' own key generators.
+     */
+    public void stopReplay() {
+        KeyTraceFile.Reader reader = replay;
+        replay = null;
+        if (reader != null) {
+            reader.close();
+        }
+    }
+
+    public boolean isReplaying() {
+        return replay != null;
+    }
+
+    /**
+     * The trace being replayed, or null.
+     * Taken once per run, so a run never mixes two traces.
+     */
+    public KeyTraceFile.Reader getReplay() {
+        return replay;
+    }
+
+    /**
+     * The scenario's key generator, or the trace's keys while replaying.
+     */
+    public Function<Integer, String> keyGenerator(Function<Integer, String> scenarioKeys) {
+        KeyTraceFile.Reader reader = replay;
+        if (reader == null) {
+            return scenarioKeys;
+        }
+        return index -> KEY_PREFIX + reader.keyAt((index - 1) % reader.size());
+    }
+
+    /**
+     * The scenario's key number generator, or the trace's key ids while replaying.
+     */
+    public IntToLongFunction longKeyGenerator(IntToLongFunction scenarioKeys) {
+        KeyTraceFile.Reader reader = replay;
+        if (reader == null) {
+            return scenarioKeys;
+        }
+        return index -> reader.keyAt((index - 1) % reader.size());
+    }
+
+    /**
+     * The scenario's batch generator, or batches of the same sizes filled
+     * with consecutive trace keys while replaying.
+     * The returned generator must be called for batches in order.
+     */
+    public Function<Integer, List<String>> batchKeyGenerator(Function<Integer, List<String>> scenarioBatches) {
+        KeyTraceFile.Reader reader = replay;
+        if (reader == null) {
+            return scenarioBatches;
+        }
+        long[] cursor = new long[1];
+        return index -> {
+            int batchSize = scenarioBatches.apply(index).size();
+            List<String> keys = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                keys.add(KEY_PREFIX + reader.keyAt(cursor[0]++ % reader.size()));
+            }
+            return keys;
+        };
+    }
+
+    // Import
+
+    /**
+     * Convert a text trace to a key trace file.
+     * Each non-blank line holds a key, or a millisecond timestamp and a key
+     * separated by whitespace; timestamps give the inter-arrival times,
+     * otherwise they are 0. Lines starting with '#' are skipped.
+     * @return Requests written
+     */
+    public static long importText(Path source, Path target) throws IOException {
+        try (BufferedReader in = Files.newBufferedReader(source, StandardCharsets.UTF_8);
+             KeyTraceFile.Writer out = KeyTraceFile.create(target, System.currentTimeMillis())) {
+            long previousTimestamp = -1;
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int space = indexOfWhitespace(line);
+                String key = line;
+                long interArrivalMicros = 0;
+                if (space > 0) {
+                    long timestamp;
+                    try {
+                        timestamp = Long.parseLong(line, 0, space, 10);
+                    } catch (NumberFormatException e) {
+                        throw new IOException("Bad timestamp in trace line: " + line, e);
+                    }
+                    key = line.substring(space + 1).strip();
+                    if (previousTimestamp >= 0) {
+                        interArrivalMicros = Math.max(0, timestamp - previousTimestamp) * 1000;
+                    }
+                    previousTimestamp = timestamp;
+                }
+                out.write(keyId(key), (int) Math.min(interArrivalMicros, Integer.MAX_VALUE));
+            }
+            return out.getRecords();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static int indexOfWhitespace(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Id of a key: n for "key_{n}", otherwise a non-negative 64-bit hash.
+     */
+    static long keyId(String key) {
+        if (key.startsWith(KEY_PREFIX)) {
+            try {
+                return Long.parseLong(key, KEY_PREFIX.length(), key.length(), 10);
+            } catch (NumberFormatException e) {
+                // Not numeric, hash it
+            }
+        }
+        // FNV-1a, then a MurmurHash3 finalizer to spread short keys
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h & Long.MAX_VALUE;
+    }
+
+    /**
+     * Current recording and replay state.
+     */
+    public synchronized TraceStatus getStatus() {
+        TraceStatus status = new TraceStatus();
+        status.setRecording(recorder != null);
+        status.setRecordingPath(recordingPath != null ? recordingPath.toString() : null);
+        status.setRecordedRequests(recorder != null ? recorder.getRecords() : 0);
+        KeyTraceFile.Reader reader = replay;
+        status.setReplaying(reader != null);
+        status.setReplayPath(reader != null ? reader.getPath().toString() : null);
+        status.setReplayRecords(reader != null ? reader.size() : 0);
+        return status;
+    }
+}
@@ -1,15 +1,24 @@
 package com.example.infrastructure;
 
 import com.example.strategy.CacheStrategy;
+import com.example.strategy.LongKeyedCacheStrategy;
+import com.example.vo.LoadResult;
 import com.example.vo.RequestRecord;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongFunction;
 
 /**
  * Generates concurrent load for cache testing.
@@ -18,7 +27,19 @@ import java.util.function.Function;
  * Features:
  * - Configurable concurrency level
  * - Support for different key generation patterns
- * - Collects detailed metrics per request
+ * - Collects detailed metrics per request, including heap bytes allocated
+ *   by the request thread where the JVM supports it
+ * - Key generators go through KeyTraces, so any run can be recorded and
+ *   any scenario can replay a trace instead of its own keys
+ * - Platform thread pool (default) or virtual threads: a virtual thread per
+ *   request with a semaphore capping requests in flight, so 10k concurrent
+ *   clients blocked on backend fetches cost 10k virtual threads, not 10k
+ *   OS threads. Blocking inside a synchronized block pins the carrier
+ *   thread (Java 21), so strategies that fetch under a monitor serialize
+ * - Open-loop mode: requests are sent on a fixed or Poisson schedule at a
+ *   target rate whatever the cache's response times, and latency is also
+ *   measured from each request's intended send time, correcting for
+ *   coordinated omission
  */
 @Component
 public class LoadGenerator {
@@ -26,8 +47,32 @@ public class LoadGenerator {
     @Autowired
     private Worker worker;
 
+    @Autowired
+    private KeyTraces keyTraces;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMxBean();
+
     private ExecutorService executorService;
     private int threadPoolSize = 100;
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+    private int maxConcurrency = 100;  // Requests in flight
+    private Semaphore inFlight;  // Caps virtual-thread requests in flight (null on the pool)
+
+    /**
+     * Inter-arrival times of open-loop runs.
+     */
+    public enum ArrivalProcess {
+        FIXED,  // Evenly spaced at 1 / rate
+        POISSON  // Exponential gaps with mean 1 / rate
+    }
+
+    /**
+     * How requests are run.
+     */
+    public enum ExecutionMode {
+        PLATFORM,  // Fixed pool of platform threads, one per concurrent request
+        VIRTUAL  // A virtual thread per request, at most maxConcurrency in flight
+    }
 
     public LoadGenerator() {
         this.executorService = Executors.newFixedThreadPool(threadPoolSize);
@@ -46,14 +91,35 @@ public class LoadGenerator {
             CacheStrategy strategy,
             Function<Integer, String> keyGenerator) {
         
+        return generateLoad(totalRequests, strategy, keyGenerator, worker::fetchData);
+    }
+
+    /**
+     * Generate concurrent load with a custom miss loader
+     * (e.g. the micro-batching loader instead of a direct Worker fetch).
+     * 
+     * @param totalRequests Number of requests to generate
+     * @param strategy The cache strategy to test
+     * @param keyGenerator Function to generate keys from request index
+     * @param loader Backend fetch used on a miss
+     * @return List of request results with metrics
+     */
+    public List<RequestRecord> generateLoad(
+            int totalRequests,
+            CacheStrategy strategy,
+            Function<Integer, String> keyGenerator,
+            Function<String, String> loader) {
+        
         List<Future<RequestRecord>> futures = new ArrayList<>();
+        Function<Integer, String> keys = keyTraces.keyGenerator(keyGenerator);
         
         for (int i = 1; i <= totalRequests; i++) {
             final int requestIndex = i;
-            final String key = keyGenerator.apply(requestIndex);
+            final String key = keys.apply(requestIndex);
+            keyTraces.recordArrival(key);
             
-            Future<RequestRecord> future = executorService.submit(() -> 
-                executeRequest(key, strategy));
+            Future<RequestRecord> future = submit(() -> 
+                executeRequest(key, strategy, loader));
             futures.add(future);
         }
         
@@ -72,6 +138,58 @@ public class LoadGenerator {
         return results;
     }
 
+    /**
+     * Generate concurrent load with primitive long keys.
+     * No key String is built on the request path: each task generates its key
+     * number, looks it up and on a miss loads and stores it, all inside the
+     * measured window. The record's "key_{n}" String is built afterwards.
+     * 
+     * @param totalRequests Number of requests to generate
+     * @param strategy The long-keyed cache strategy to test
+     * @param keyGenerator Function to generate key numbers from request index
+     * @param loader Backend fetch used on a miss
+     * @return List of request results with metrics
+     */
+    public List<RequestRecord> generateLongKeyLoad(
+            int totalRequests,
+            LongKeyedCacheStrategy strategy,
+            IntToLongFunction keyGenerator,
+            LongFunction<String> loader) {
+        
+        List<Future<RequestRecord>> futures = new ArrayList<>();
+        IntToLongFunction keys = keyTraces.longKeyGenerator(keyGenerator);
+        boolean recording = keyTraces.isRecording();
+        
+        for (int i = 1; i <= totalRequests; i++) {
+            final int requestIndex = i;
+            
+            Future<RequestRecord> future;
+            if (recording) {
+                // The key is needed before submission to record it
+                final long key = keys.applyAsLong(requestIndex);
+                keyTraces.recordArrival(key);
+                future = submit(() -> executeLongKeyRequest(key, strategy, loader));
+            } else {
+                future = submit(() -> 
+                    executeLongKeyRequest(keys.applyAsLong(requestIndex), strategy, loader));
+            }
+            futures.add(future);
+        }
+        
+        // Collect results
+        List<RequestRecord> results = new ArrayList<>();
+        for (Future<RequestRecord> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException | ExecutionException e) {
+                results.add(new RequestRecord(
+                    "unknown", 0, false, false, false, false, false));
+            }
+        }
+        
+        return results;
+    }
+
     /**
      * Generate load with controlled concurrency and pacing.
      * Useful for scenarios that need specific timing patterns.
@@ -89,12 +207,14 @@ public class LoadGenerator {
             long delayBetweenRequestsMs) {
         
         List<Future<RequestRecord>> futures = new ArrayList<>();
+        Function<Integer, String> keys = keyTraces.keyGenerator(keyGenerator);
         
         for (int i = 1; i <= totalRequests; i++) {
             final int requestIndex = i;
-            final String key = keyGenerator.apply(requestIndex);
+            final String key = keys.apply(requestIndex);
+            keyTraces.recordArrival(key);
             
-            Future<RequestRecord> future = executorService.submit(() -> 
+            Future<RequestRecord> future = submit(() -> 
                 executeRequest(key, strategy));
             futures.add(future);
             
@@ -123,29 +243,143 @@ public class LoadGenerator {
     }
 
     /**
-     * Execute a single cache request.
-     * Tries to get from cache first, fetches from backend on miss.
+     * Generate open-loop load at a constant arrival rate.
+     * Closed-loop generators send fewer requests while the cache or backend
+     * is slow, so the stall delays only the requests in flight and the tail
+     * is under-reported (coordinated omission). Here request i has an
+     * intended send time fixed by the schedule, and each record carries two
+     * latencies: latencyMs from when a thread started the request (what the
+     * other generators report) and correctedLatencyMs from the intended send
+     * time, which also counts time spent waiting for a free thread or for
+     * the sender to catch up.
+     * Requests bypass the virtual-thread in-flight cap: an open-loop client
+     * does not wait for earlier responses. On the platform pool they wait in
+     * the pool's queue.
+     * 
+     * @param totalRequests Number of requests to generate
+     * @param strategy The cache strategy to test
+     * @param keyGenerator Function to generate keys from request index
+     * @param ratePerSec Target arrival rate (positive and finite)
+     * @param arrivals Fixed or Poisson inter-arrival times
+     * @param seed Seed for Poisson gaps
+     * @return List of request results with metrics
      */
-    private RequestRecord executeRequest(String key, CacheStrategy strategy) {
+    public List<RequestRecord> generateOpenLoopLoad(
+            int totalRequests,
+            CacheStrategy strategy,
+            Function<Integer, String> keyGenerator,
+            double ratePerSec,
+            ArrivalProcess arrivals,
+            long seed) {
+        if (!(ratePerSec > 0) || Double.isInfinite(ratePerSec)) {
+            throw new IllegalArgumentException("ratePerSec must be positive and finite: " + ratePerSec);
+        }
+        
+        List<Future<RequestRecord>> futures = new ArrayList<>();
+        Function<Integer, String> keys = keyTraces.keyGenerator(keyGenerator);
+        SplittableRandom random = new SplittableRandom(seed);
+        double meanGapNanos = 1e9 / ratePerSec;
+        long startNanos = System.nanoTime();
+        double offsetNanos = 0;
+        
+        for (int i = 1; i <= totalRequests; i++) {
+            if (i > 1) {
+                offsetNanos += arrivals == ArrivalProcess.POISSON
+                    ? -Math.log(1 - random.nextDouble()) * meanGapNanos
+                    : meanGapNanos;
+            }
+            final long intendedNanos = startNanos + (long) offsetNanos;
+            long waitNanos;
+            while ((waitNanos = intendedNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            
+            final String key = keys.apply(i);
+            keyTraces.recordArrival(key);
+            Future<RequestRecord> future = executorService.submit(() -> {
+                RequestRecord record = executeRequest(key, strategy, worker::fetchData);
+                record.setCorrectedLatencyMs((System.nanoTime() - intendedNanos) / 1_000_000);
+                return record;
+            });
+            futures.add(future);
+        }
+        
+        // Collect results
+        List<RequestRecord> results = new ArrayList<>();
+        for (Future<RequestRecord> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException | ExecutionException e) {
+                results.add(new RequestRecord(
+                    "unknown", 0, false, false, false, false, false));
+            }
+        }
+        
+        return results;
+    }
+
+    /**
+     * Generate concurrent multi-get load.
+     * Each task looks up a whole batch of keys, either with one getAll whose
+     * misses are loaded by a single batch fetch, or key by key with a backend
+     * call per miss. Every key gets a record carrying its batch's latency,
+     * since the page waits for the slowest key.
+     * 
+     * @param totalBatches Number of batches to generate
+     * @param strategy The cache strategy to test
+     * @param batchKeyGenerator Function to generate a batch of keys from the batch index
+     * @param batchMisses Load the misses of a batch with one backend call
+     * @return One request record per key
+     */
+    public List<RequestRecord> generateMultiGetLoad(
+            int totalBatches,
+            CacheStrategy strategy,
+            Function<Integer, List<String>> batchKeyGenerator,
+            boolean batchMisses) {
+        
+        List<Future<List<RequestRecord>>> futures = new ArrayList<>();
+        Function<Integer, List<String>> batches = keyTraces.batchKeyGenerator(batchKeyGenerator);
+        
+        for (int i = 1; i <= totalBatches; i++) {
+            final List<String> keys = batches.apply(i);
+            for (String key : keys) {
+                keyTraces.recordArrival(key);
+            }
+            
+            Future<List<RequestRecord>> future = submit(() -> 
+                executeBatch(keys, strategy, batchMisses));
+            futures.add(future);
+        }
+        
+        // Collect results
+        List<RequestRecord> results = new ArrayList<>();
+        for (Future<List<RequestRecord>> future : futures) {
+            try {
+                results.addAll(future.get());
+            } catch (InterruptedException | ExecutionException e) {
+                results.add(new RequestRecord(
+                    "unknown", 0, false, false, false, false, false));
+            }
+        }
+        
+        return results;
+    }
+
+    /**
+     * Execute one batch of lookups and record every key with the batch latency.
+     */
+    private List<RequestRecord> executeBatch(List<String> keys, CacheStrategy strategy, boolean batchMisses) {
         long startTime = System.currentTimeMillis();
-        boolean cacheHit = false;
-        boolean backendFetch = false;
+        Map<String, LoadResult> loaded = new LinkedHashMap<>();
         boolean success = true;
         
         try {
-            // Try to get from cache
-            String value = strategy.get(key);
-            
-            if (value != null) {
-                // Cache hit
-                cacheHit = true;
+            if (batchMisses) {
+                loaded.putAll(strategy.getAll(keys, worker::fetchBatch));
             } else {
-                // Cache miss - fetch from backend
-                backendFetch = true;
-                value = worker.fetchData(key);
-                
-                // Store in cache
-                strategy.put(key, value);
+                for (String key : keys) {
+                    loaded.put(key, strategy.get(key, worker::fetchData));
+                }
             }
         } catch (Exception e) {
             success = false;
@@ -153,8 +387,25 @@ public class LoadGenerator {
         
         long latency = System.currentTimeMillis() - startTime;
         
-        return new RequestRecord(key, latency, cacheHit, backendFetch, 
-            false, false, success);
+        List<RequestRecord> records = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            LoadResult result = loaded.get(key);
+            if (result == null) {
+                records.add(new RequestRecord(key, latency, false, false, false, false, false));
+            } else {
+                records.add(new RequestRecord(key, latency, result.isCacheHit(), result.isBackendFetch(),
+                    result.isStale(), result.isCoalesced(), success));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Execute a single cache request.
+     * The strategy looks the key up and fetches from backend on miss.
+     */
+    private RequestRecord executeRequest(String key, CacheStrategy strategy) {
+        return executeRequest(key, strategy, worker::fetchData);
     }
 
     /**
@@ -165,35 +416,164 @@ public class LoadGenerator {
             CacheStrategy strategy, 
             long backendLatencyMs) {
         
+        return executeRequest(key, strategy,
+            k -> worker.fetchDataWithLatency(k, backendLatencyMs));
+    }
+
+    /**
+     * Execute a single request through the strategy's loader-aware get.
+     * The strategy reports whether the value was a hit, a fetch, stale or coalesced.
+     */
+    private RequestRecord executeRequest(
+            String key,
+            CacheStrategy strategy,
+            Function<String, String> fetcher) {
+
         long startTime = System.currentTimeMillis();
-        boolean cacheHit = false;
-        boolean backendFetch = false;
+        long startAllocated = allocatedBytes();
+        LoadResult result = null;
         boolean success = true;
-        
+
         try {
-            String value = strategy.get(key);
-            
-            if (value != null) {
-                cacheHit = true;
-            } else {
-                backendFetch = true;
-                value = worker.fetchDataWithLatency(key, backendLatencyMs);
-                strategy.put(key, value);
+            result = strategy.get(key, fetcher);
+        } catch (Exception e) {
+            success = false;
+        }
+
+        long allocated = allocatedSince(startAllocated);
+        long latency = System.currentTimeMillis() - startTime;
+
+        RequestRecord record;
+        if (result == null) {
+            record = new RequestRecord(key, latency, false, false, false, false, success);
+        } else {
+            record = new RequestRecord(key, latency, result.isCacheHit(), result.isBackendFetch(),
+                result.isStale(), result.isCoalesced(), success);
+        }
+        record.setAllocatedBytes(allocated);
+        return record;
+    }
+
+    /**
+     * Execute a single long-keyed request: get, and on a miss load and put.
+     */
+    private RequestRecord executeLongKeyRequest(
+            long key,
+            LongKeyedCacheStrategy strategy,
+            LongFunction<String> loader) {
+
+        long startTime = System.currentTimeMillis();
+        long startAllocated = allocatedBytes();
+        boolean hit = false;
+        boolean success = true;
+
+        try {
+            hit = strategy.get(key) != null;
+            if (!hit) {
+                strategy.put(key, loader.apply(key));
             }
         } catch (Exception e) {
             success = false;
         }
-        
+
+        long allocated = allocatedSince(startAllocated);
         long latency = System.currentTimeMillis() - startTime;
-        
-        return new RequestRecord(key, latency, cacheHit, backendFetch, 
+
+        RequestRecord record = new RequestRecord("key_" + key, latency, hit, success && !hit,
             false, false, success);
+        record.setAllocatedBytes(allocated);
+        return record;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMxBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+
+    /**
+     * Heap bytes allocated so far by the current thread, or -1 if the JVM
+     * cannot tell.
+     */
+    private static long allocatedBytes() {
+        return THREAD_MX_BEAN == null ? -1 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static long allocatedSince(long startAllocated) {
+        if (startAllocated < 0) {
+            return -1;
+        }
+        return allocatedBytes() - startAllocated;
+    }
+
+    /**
+     * Submit a task, first waiting for an in-flight slot in virtual mode
+     * (so the submitting loop paces itself like maxConcurrency clients).
+     */
+    private <T> Future<T> submit(Callable<T> task) {
+        Semaphore gate = inFlight;
+        if (gate == null) {
+            return executorService.submit(task);
+        }
+        gate.acquireUninterruptibly();
+        try {
+            return executorService.submit(() -> {
+                try {
+                    return task.call();
+                } finally {
+                    gate.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            gate.release();
+            throw e;
+        }
     }
 
     public void setThreadPoolSize(int size) {
-        this.threadPoolSize = size;
+        setExecutionMode(ExecutionMode.PLATFORM, size);
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    /**
+     * Switch between the platform pool and virtual threads.
+     * Waits for running requests to finish first.
+     * 
+     * @param mode Platform pool or virtual threads
+     * @param concurrency Pool size, or the cap on virtual-thread requests in flight (at least 1)
+     */
+    public void setExecutionMode(ExecutionMode mode, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1: " + concurrency);
+        }
         shutdown();
-        this.executorService = Executors.newFixedThreadPool(size);
+        this.executionMode = mode;
+        this.maxConcurrency = concurrency;
+        if (mode == ExecutionMode.VIRTUAL) {
+            this.inFlight = new Semaphore(concurrency);
+            this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        } else {
+            this.threadPoolSize = concurrency;
+            this.inFlight = null;
+            this.executorService = Executors.newFixedThreadPool(concurrency);
+        }
+    }
+
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Requests that can be in flight at once (the pool size on platform threads).
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
     }
 
     public void shutdown() {
@@ -1,9 +1,13 @@
 package com.example.infrastructure;
 
 import com.example.config.CacheConfig;
+import com.example.config.CacheConfig.ValueSizeDistribution;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -15,6 +19,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - Configurable base latency
  * - Random jitter to simulate real-world variance
  * - Request counting for metrics
+ * - Batch fetches costing one round trip plus a per-key cost
+ * - Optional value-size distribution so values have realistic payload sizes
  */
 @Component
 public class Worker {
@@ -22,10 +28,19 @@ public class Worker {
     @Autowired
     private CacheConfig cacheConfig;
 
+    // Defaults for the knobs CacheConfig doesn't cover
+    private static final int DEFAULT_JITTER_MS = 10;
+    private static final long DEFAULT_PER_KEY_LATENCY_MS = 1;
+
     private long baseLatencyMs = 100;
-    private int jitterMs = 10;
+    private int jitterMs = DEFAULT_JITTER_MS;
+    private long perKeyLatencyMs = DEFAULT_PER_KEY_LATENCY_MS;  // Extra cost per key in a batch fetch
+    private ValueSizeDistribution valueSizeDistribution = ValueSizeDistribution.FIXED;
+    private int valueSizeBytes = 0;  // 0 = short "value_for_{key}" values
+    private int valueSizeMaxBytes = 1 << 20;
     private final Random random = new Random();
-    private final AtomicInteger fetchCount = new AtomicInteger(0);
+    private final AtomicInteger fetchCount = new AtomicInteger(0);  // Keys fetched
+    private final AtomicInteger roundTripCount = new AtomicInteger(0);  // Backend calls
 
     /**
      * Fetch data from backend (simulated).
@@ -52,7 +67,19 @@ public class Worker {
         }
         
         fetchCount.incrementAndGet();
-        return "value_for_" + key;
+        roundTripCount.incrementAndGet();
+        return valueFor(key);
+    }
+
+    /**
+     * Fetch data for a numeric key (simulated), as fetchData("key_" + key).
+     * Used by long-keyed loads, which build no key String until a miss.
+     * 
+     * @param key The numeric data key to fetch
+     * @return The fetched value
+     */
+    public String fetchData(long key) {
+        return fetchData("key_" + key);
     }
 
     /**
@@ -80,7 +107,76 @@ public class Worker {
         }
         
         fetchCount.incrementAndGet();
-        return "value_for_" + key;
+        roundTripCount.incrementAndGet();
+        return valueFor(key);
+    }
+
+    /**
+     * Fetch several keys in one backend call (simulated).
+     * Costs one round trip (base latency plus jitter) plus perKeyLatencyMs per key.
+     * 
+     * @param keys The data keys to fetch
+     * @return The fetched values by key
+     */
+    public Map<String, String> fetchBatch(Collection<String> keys) {
+        long latency = baseLatencyMs + perKeyLatencyMs * keys.size();
+        
+        // Add jitter: ±jitterMs
+        if (jitterMs > 0) {
+            latency += random.nextInt(jitterMs * 2 + 1) - jitterMs;
+        }
+        
+        latency = Math.max(1, latency);
+        
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String key : keys) {
+            values.put(key, valueFor(key));
+        }
+        fetchCount.addAndGet(keys.size());
+        roundTripCount.incrementAndGet();
+        return values;
+    }
+
+    /**
+     * Build the value for a key.
+     * With a value size set, "value_for_{key}" is padded to a size drawn from
+     * the distribution. The draw is seeded by the key, so a key always gets
+     * the same size across refetches. Public for the simulator, which
+     * models fetch latency instead of sleeping.
+     */
+    public String valueFor(String key) {
+        String value = "value_for_" + key;
+        if (valueSizeBytes <= 0) {
+            return value;
+        }
+        Random sizeRandom = new Random(key.hashCode());
+        double size = switch (valueSizeDistribution) {
+            case FIXED -> valueSizeBytes;
+            case UNIFORM -> 1 + sizeRandom.nextInt(valueSizeBytes * 2);  // Mean valueSizeBytes
+            case LOG_NORMAL -> valueSizeBytes * Math.exp(sizeRandom.nextGaussian());  // Median valueSizeBytes, sigma 1
+        };
+        int padding = (int) Math.min(valueSizeMaxBytes, Math.round(size)) - value.length();
+        return padding > 0 ? value + ".".repeat(padding) : value;
+    }
+
+    /**
+     * Set the size of returned values.
+     * @param distribution How sizes vary between keys
+     * @param valueSizeBytes Typical size (mean, or median for LOG_NORMAL); 0 for short values
+     */
+    public void setValueSize(ValueSizeDistribution distribution, int valueSizeBytes) {
+        this.valueSizeDistribution = distribution;
+        this.valueSizeBytes = valueSizeBytes;
+    }
+
+    public int getValueSizeBytes() {
+        return valueSizeBytes;
     }
 
     public void setBaseLatency(long latencyMs) {
@@ -99,20 +195,39 @@ public class Worker {
         return jitterMs;
     }
 
+    public void setPerKeyLatency(long perKeyLatencyMs) {
+        this.perKeyLatencyMs = perKeyLatencyMs;
+    }
+
+    public long getPerKeyLatency() {
+        return perKeyLatencyMs;
+    }
+
     public int getFetchCount() {
         return fetchCount.get();
     }
 
+    public int getRoundTripCount() {
+        return roundTripCount.get();
+    }
+
     public void resetStats() {
         fetchCount.set(0);
+        roundTripCount.set(0);
     }
 
     /**
-     * Apply configuration from CacheConfig.
+     * Apply configuration from CacheConfig and reset jitter and per-key
+     * latency to their defaults, undoing any scenario's overrides.
      */
     public void applyConfig() {
+        this.jitterMs = DEFAULT_JITTER_MS;
+        this.perKeyLatencyMs = DEFAULT_PER_KEY_LATENCY_MS;
         if (cacheConfig != null) {
             this.baseLatencyMs = cacheConfig.getBackendLatencyMs();
+            this.valueSizeDistribution = cacheConfig.getValueSizeDistribution();
+            this.valueSizeBytes = cacheConfig.getValueSizeBytes();
+            this.valueSizeMaxBytes = cacheConfig.getValueSizeMaxBytes();
         }
     }
 }
@@ -0,0 +1,93 @@
+package com.example.scenario;
+
+import com.example.infrastructure.Worker;
+import com.example.strategy.ClusteredCacheStrategy;
+import com.example.util.CacheTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Cluster Topology Scenario.
+ * Random traffic against a consistent-hash cache cluster in three phases:
+ * the initial nodes, then one node added, then one of the original nodes removed.
+ * The cluster is large enough to hold every key, so misses after the first
+ * phase come from keys that moved to a different node.
+ * 
+ * Key metrics:
+ * - Share of keys remapped by each topology change (~1/N with consistent hashing)
+ * - Miss spike right after each change
+ * - Per-node load and Jain's fairness index
+ */
+@Component
+public class ClusterTopologyScenario implements Scenario {
+
+    @Autowired
+    private ClusteredCacheStrategy clusteredCacheStrategy;
+
+    @Autowired
+    private Worker worker;
+
+    // Scenario configuration
+    private int nodeCount = 4;
+    private int cacheSize = 1200;  // Whole cluster, split evenly between the initial nodes
+    private int requestsPerPhase = 3000;
+    private int uniqueKeys = 1000;
+    private int windowRequests = 200;  // Requests compared on each side of a topology change
+    private long ttlMs = 60000;  // 60s TTL (long enough to not expire during test)
+    private long backendLatencyMs = 20;
+    private int jitterMs = 5;
+
+    @Override
+    public void setup() {
+        // Configure cache
+        clusteredCacheStrategy.reset();
+        clusteredCacheStrategy.setNodeCount(nodeCount);
+        clusteredCacheStrategy.setMaxSize(cacheSize);
+        clusteredCacheStrategy.setTtlMs(ttlMs);
+        clusteredCacheStrategy.setResetTtlOnAccess(true);
+
+        // Configure backend worker
+        worker.setBaseLatency(backendLatencyMs);
+        worker.setJitter(jitterMs);
+        worker.resetStats();
+    }
+
+    @Override
+    public String getName() {
+        return "cluster-topology-change";
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    public int getRequestsPerPhase() {
+        return requestsPerPhase;
+    }
+
+    public int getUniqueKeys() {
+        return uniqueKeys;
+    }
+
+    public int getWindowRequests() {
+        return windowRequests;
+    }
+
+    /**
+     * Get key generator for this scenario.
+     * Uses the RANDOM pattern so every node sees a similar mix of keys.
+     */
+    public Function<Integer, String> keyGenerator() {
+        return CacheTestUtils.randomKeyGenerator(uniqueKeys);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.scenario;
 
+import com.example.strategy.BoundedCacheStrategy;
 import com.example.strategy.LRUWithTTLStrategy;
 import com.example.util.CacheTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,11 +32,20 @@ public class DifferentCacheSizesScenario implements Scenario {
 
     @Override
     public void setup() {
+        setup(lruWithTtlStrategy);
+    }
+
+    /**
+     * Setup the scenario against a specific bounded strategy.
+     * reset() reloads CacheConfig defaults, so it must run before the
+     * scenario-specific size and TTL are applied.
+     */
+    public void setup(BoundedCacheStrategy strategy) {
         // Configure cache with scenario-specific size
-        lruWithTtlStrategy.setMaxSize(cacheSize);
-        lruWithTtlStrategy.setTtlMs(ttlMs);
-        lruWithTtlStrategy.setResetTtlOnAccess(true);
-        lruWithTtlStrategy.reset();
+        strategy.reset();
+        strategy.setMaxSize(cacheSize);
+        strategy.setTtlMs(ttlMs);
+        strategy.setResetTtlOnAccess(true);
     }
 
     @Override
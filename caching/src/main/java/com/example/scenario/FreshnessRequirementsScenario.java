@@ -1,5 +1,6 @@
 package com.example.scenario;
 
+import com.example.strategy.BoundedCacheStrategy;
 import com.example.strategy.LRUWithTTLStrategy;
 import com.example.util.CacheTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,10 +34,17 @@ public class FreshnessRequirementsScenario implements Scenario {
 
     @Override
     public void setup() {
-        lruWithTtlStrategy.setMaxSize(cacheSize);
-        lruWithTtlStrategy.setTtlMs(ttlMs);
-        lruWithTtlStrategy.setResetTtlOnAccess(resetTtlOnAccess);
-        lruWithTtlStrategy.reset();
+        setup(lruWithTtlStrategy);
+    }
+
+    /**
+     * Setup against any bounded strategy with this scenario's TTL settings.
+     */
+    public void setup(BoundedCacheStrategy strategy) {
+        strategy.reset();
+        strategy.setMaxSize(cacheSize);
+        strategy.setTtlMs(ttlMs);
+        strategy.setResetTtlOnAccess(resetTtlOnAccess);
     }
 
     @Override
@@ -48,6 +56,7 @@ public class FreshnessRequirementsScenario implements Scenario {
      * Configure for short TTL test (frequent expirations).
      */
     public void configureShortTtl() {
+        useDefaultLoad();
         this.ttlMs = 1000;  // 1 second
         this.resetTtlOnAccess = false;
         this.requestPacingMs = 100;
@@ -57,6 +66,7 @@ public class FreshnessRequirementsScenario implements Scenario {
      * Configure for medium TTL test.
      */
     public void configureMediumTtl() {
+        useDefaultLoad();
         this.ttlMs = 5000;  // 5 seconds
         this.resetTtlOnAccess = true;
         this.requestPacingMs = 50;
@@ -66,19 +76,43 @@ public class FreshnessRequirementsScenario implements Scenario {
      * Configure for long TTL test (rare expirations).
      */
     public void configureLongTtl() {
+        useDefaultLoad();
         this.ttlMs = 30000;  // 30 seconds
         this.resetTtlOnAccess = true;
         this.requestPacingMs = 10;
     }
 
+    /**
+     * Configure for synchronized expiry: every key is loaded at once, TTLs are
+     * not extended on access, and the run lasts past the TTL, so all keys
+     * expire (and are refetched) in the same instant unless the strategy
+     * spreads the refetches out.
+     */
+    public void configureSynchronizedExpiry() {
+        this.ttlMs = 2000;  // 2 seconds
+        this.resetTtlOnAccess = false;
+        this.requestPacingMs = 2;
+        this.totalRequests = 2000;
+        this.uniqueKeys = 50;
+    }
+
     /**
      * Configure for TTL reset behavior comparison.
      */
     public void configureNoTtlReset() {
+        useDefaultLoad();
         this.ttlMs = 3000;  // 3 seconds
         this.resetTtlOnAccess = false;
     }
 
+    /**
+     * Restore the default request volume (the synchronized-expiry run changes it).
+     */
+    private void useDefaultLoad() {
+        this.totalRequests = 500;
+        this.uniqueKeys = 50;
+    }
+
     public void setTtlMs(long ttlMs) {
         this.ttlMs = ttlMs;
     }
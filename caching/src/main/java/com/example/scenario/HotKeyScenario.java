@@ -0,0 +1,102 @@
+package com.example.scenario;
+
+import com.example.infrastructure.Worker;
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.LRUWithTTLStrategy;
+import com.example.util.CacheTestUtils;
+import com.example.workload.Workload;
+import com.example.workload.WorkloadType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Hot Key Scenario.
+ * Many concurrent requests where 80% of traffic goes to 20% of keys.
+ * The backend is fast and the run is long, so the cost that shows up is
+ * the cache's own hit path (lock contention) rather than backend latency.
+ * 
+ * Key metrics:
+ * - Throughput (requests per wall-clock second)
+ * - Hit rate
+ * - Per-tier hits for tiered strategies
+ */
+@Component
+public class HotKeyScenario implements Scenario {
+
+    @Autowired
+    private LRUWithTTLStrategy lruWithTtlStrategy;
+
+    @Autowired
+    private Worker worker;
+
+    // Scenario configuration
+    private int cacheSize = 200;
+    private int totalRequests = 20000;
+    private int uniqueKeys = 500;  // Hot set is the first 100 keys
+    private long ttlMs = 30000;  // 30s TTL
+    private long backendLatencyMs = 5;
+    private int jitterMs = 1;
+
+    @Override
+    public void setup() {
+        setup(lruWithTtlStrategy);
+    }
+
+    /**
+     * Configure the given strategy and the backend worker for this scenario.
+     */
+    public void setup(BoundedCacheStrategy strategy) {
+        // Configure cache
+        strategy.reset();
+        strategy.setMaxSize(cacheSize);
+        strategy.setTtlMs(ttlMs);
+        strategy.setResetTtlOnAccess(true);
+
+        // Configure backend worker
+        worker.setBaseLatency(backendLatencyMs);
+        worker.setJitter(jitterMs);
+        worker.resetStats();
+    }
+
+    @Override
+    public String getName() {
+        return "hot-keys";
+    }
+
+    public void setTotalRequests(int totalRequests) {
+        this.totalRequests = totalRequests;
+    }
+
+    public int getTotalRequests() {
+        return totalRequests;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Get key generator for this scenario.
+     * Uses the HOT_KEY pattern (80% of requests to 20% of keys).
+     */
+    public Function<Integer, String> keyGenerator() {
+        return CacheTestUtils.hotKeyGenerator(uniqueKeys);
+    }
+
+    /**
+     * Get the same key distribution as key numbers, for long-keyed caches.
+     */
+    public IntToLongFunction longKeyGenerator() {
+        return CacheTestUtils.hotLongKeyGenerator(uniqueKeys);
+    }
+
+    /**
+     * Get a workload over this scenario's key set, in place of HOT_KEY.
+     */
+    public Workload workload(WorkloadType type, long seed) {
+        return type.create(uniqueKeys, seed);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.scenario;
+
+import com.example.infrastructure.Worker;
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.LRUWithTTLStrategy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Multi-Get Scenario.
+ * Each request is a page that needs a batch of keys at once.
+ * Compares loading the misses of a batch with one backend call
+ * against fetching them key by key.
+ * 
+ * Key metrics:
+ * - Throughput (keys per second)
+ * - Backend round trips
+ * - Per-page latency
+ */
+@Component
+public class MultiGetScenario implements Scenario {
+
+    @Autowired
+    private LRUWithTTLStrategy lruWithTtlStrategy;
+
+    @Autowired
+    private Worker worker;
+
+    // Scenario configuration
+    private int batchSize = 50;  // Keys per page
+    private int totalBatches = 200;
+    private int uniqueKeys = 1000;
+    private int cacheSize = 500;  // Half the key space, so most pages mix hits and misses
+    private long ttlMs = 30000;  // 30s TTL
+    private long backendLatencyMs = 50;  // Per round trip
+    private int jitterMs = 5;
+    private long perKeyLatencyMs = 1;  // Added per key in a batch fetch
+
+    @Override
+    public void setup() {
+        setup(lruWithTtlStrategy);
+    }
+
+    /**
+     * Configure the given strategy and the backend worker for this scenario.
+     */
+    public void setup(BoundedCacheStrategy strategy) {
+        // Configure cache
+        strategy.reset();
+        strategy.setMaxSize(cacheSize);
+        strategy.setTtlMs(ttlMs);
+        strategy.setResetTtlOnAccess(true);
+
+        // Configure backend worker
+        worker.setBaseLatency(backendLatencyMs);
+        worker.setJitter(jitterMs);
+        worker.setPerKeyLatency(perKeyLatencyMs);
+        worker.resetStats();
+    }
+
+    @Override
+    public String getName() {
+        return "multi-get";
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setTotalBatches(int totalBatches) {
+        this.totalBatches = totalBatches;
+    }
+
+    public int getTotalBatches() {
+        return totalBatches;
+    }
+
+    public int getUniqueKeys() {
+        return uniqueKeys;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Get batch key generator for this scenario.
+     * Each batch holds batchSize distinct keys drawn uniformly at random.
+     */
+    public Function<Integer, List<String>> batchKeyGenerator() {
+        int size = Math.min(batchSize, uniqueKeys);
+        return index -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Set<String> keys = new LinkedHashSet<>();
+            while (keys.size() < size) {
+                keys.add("key_" + (random.nextInt(uniqueKeys) + 1));
+            }
+            return new ArrayList<>(keys);
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.scenario;
 
 import com.example.infrastructure.Worker;
+import com.example.strategy.BoundedCacheStrategy;
 import com.example.strategy.LRUWithTTLStrategy;
 import com.example.util.CacheTestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,14 +35,23 @@ public class NetworkDelaysScenario implements Scenario {
     private int totalRequests = 500;
     private int uniqueKeys = 80;  // Fewer than cache size for good hit rate
     private long ttlMs = 30000;  // 30s TTL
+    private boolean resetTtlOnAccess = true;
+    private long requestPacingMs = 0;  // Only used by the expiring variant
 
     @Override
     public void setup() {
+        setup(lruWithTtlStrategy);
+    }
+
+    /**
+     * Configure the given strategy and the backend worker for this scenario.
+     */
+    public void setup(BoundedCacheStrategy strategy) {
         // Configure cache
-        lruWithTtlStrategy.setMaxSize(cacheSize);
-        lruWithTtlStrategy.setTtlMs(ttlMs);
-        lruWithTtlStrategy.setResetTtlOnAccess(true);
-        lruWithTtlStrategy.reset();
+        strategy.reset();
+        strategy.setMaxSize(cacheSize);
+        strategy.setTtlMs(ttlMs);
+        strategy.setResetTtlOnAccess(resetTtlOnAccess);
 
         // Configure backend worker
         worker.setBaseLatency(backendLatencyMs);
@@ -49,6 +59,18 @@ public class NetworkDelaysScenario implements Scenario {
         worker.resetStats();
     }
 
+    /**
+     * Preload every key without touching the backend, so a run measures
+     * steady-state refreshes rather than the cold start.
+     */
+    public void warmUp(BoundedCacheStrategy strategy) {
+        Function<Integer, String> keys = CacheTestUtils.sequentialKeyGenerator(uniqueKeys);
+        for (int i = 1; i <= uniqueKeys; i++) {
+            String key = keys.apply(i);
+            strategy.put(key, "value_for_" + key);
+        }
+    }
+
     @Override
     public String getName() {
         return "network-delays";
@@ -58,6 +80,7 @@ public class NetworkDelaysScenario implements Scenario {
      * Configure for fast backend test (minimal caching benefit).
      */
     public void configureFastBackend() {
+        useLongTtl();
         this.backendLatencyMs = 10;
         this.jitterMs = 2;
     }
@@ -66,6 +89,7 @@ public class NetworkDelaysScenario implements Scenario {
      * Configure for moderate backend latency.
      */
     public void configureModerateBackend() {
+        useLongTtl();
         this.backendLatencyMs = 100;
         this.jitterMs = 10;
     }
@@ -74,6 +98,7 @@ public class NetworkDelaysScenario implements Scenario {
      * Configure for slow backend test (maximum caching benefit).
      */
     public void configureSlowBackend() {
+        useLongTtl();
         this.backendLatencyMs = 500;
         this.jitterMs = 50;
     }
@@ -82,10 +107,30 @@ public class NetworkDelaysScenario implements Scenario {
      * Configure for high-jitter network conditions.
      */
     public void configureHighJitter() {
+        useLongTtl();
         this.backendLatencyMs = 200;
         this.jitterMs = 100;  // ±100ms variance
     }
 
+    /**
+     * Configure a slow backend with entries expiring during the run.
+     * Fixed TTL and paced requests, so hot keys keep going past their TTL
+     * and the cost of refetching shows up in P99 latency.
+     */
+    public void configureExpiringSlowBackend() {
+        this.backendLatencyMs = 500;
+        this.jitterMs = 50;
+        this.ttlMs = 1000;
+        this.resetTtlOnAccess = false;
+        this.requestPacingMs = 10;
+    }
+
+    private void useLongTtl() {
+        this.ttlMs = 30000;
+        this.resetTtlOnAccess = true;
+        this.requestPacingMs = 0;
+    }
+
     public void setBackendLatencyMs(long latencyMs) {
         this.backendLatencyMs = latencyMs;
     }
@@ -126,6 +171,14 @@ public class NetworkDelaysScenario implements Scenario {
         return cacheSize;
     }
 
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public long getRequestPacingMs() {
+        return requestPacingMs;
+    }
+
     /**
      * Get key generator for this scenario.
      * Uses random pattern for realistic access distribution.
@@ -133,4 +186,13 @@ public class NetworkDelaysScenario implements Scenario {
     public Function<Integer, String> keyGenerator() {
         return CacheTestUtils.randomKeyGenerator(uniqueKeys);
     }
+
+    /**
+     * Get a burst key generator for this scenario.
+     * Each key is requested 10 times in a row, so concurrent misses pile up
+     * on the same key (stampede conditions).
+     */
+    public Function<Integer, String> burstKeyGenerator() {
+        return CacheTestUtils.burstKeyGenerator(uniqueKeys);
+    }
 }
@@ -0,0 +1,91 @@
+package com.example.scenario;
+
+import com.example.config.CacheConfig.ValueSizeDistribution;
+import com.example.infrastructure.Worker;
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.LRUWithTTLStrategy;
+import com.example.strategy.WeightedCacheStrategy;
+import com.example.util.CacheTestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Payload Size Scenario.
+ * Hot-key traffic where value sizes follow a log-normal distribution
+ * (median 2 KB, a tail of values tens of KB large).
+ * Capping the cache by entry count lets a few large values hold most of the
+ * memory; capping it by bytes holds however many values fit the budget.
+ *
+ * Key metrics:
+ * - Hit rate vs byte hit rate
+ * - Bytes used vs the budget, bytes evicted
+ */
+@Component
+public class PayloadSizeScenario implements Scenario {
+
+    @Autowired
+    private LRUWithTTLStrategy lruWithTtlStrategy;
+
+    @Autowired
+    private Worker worker;
+
+    // Scenario configuration
+    private int cacheSize = 100;  // Entry cap when no byte budget is given
+    private int totalRequests = 4000;
+    private int uniqueKeys = 400;  // Hot set is the first 80 keys
+    private long ttlMs = 30000;  // 30s TTL
+    private long backendLatencyMs = 5;
+    private int jitterMs = 1;
+    private ValueSizeDistribution valueSizeDistribution = ValueSizeDistribution.LOG_NORMAL;
+    private int valueSizeBytes = 2048;
+
+    @Override
+    public void setup() {
+        setup(lruWithTtlStrategy, 0);
+    }
+
+    /**
+     * Configure the given strategy and the backend worker for this scenario.
+     * @param maxWeightBytes Byte budget replacing the entry cap (0 = cap by entries);
+     *                       ignored by strategies that cannot weigh entries
+     */
+    public void setup(BoundedCacheStrategy strategy, long maxWeightBytes) {
+        // Configure cache
+        strategy.reset();
+        strategy.setMaxSize(cacheSize);
+        strategy.setTtlMs(ttlMs);
+        strategy.setResetTtlOnAccess(true);
+        if (strategy instanceof WeightedCacheStrategy weighted) {
+            weighted.setMaxWeight(maxWeightBytes);
+        }
+
+        // Configure backend worker
+        worker.setBaseLatency(backendLatencyMs);
+        worker.setJitter(jitterMs);
+        worker.setValueSize(valueSizeDistribution, valueSizeBytes);
+        worker.resetStats();
+    }
+
+    @Override
+    public String getName() {
+        return "payload-sizes";
+    }
+
+    public int getTotalRequests() {
+        return totalRequests;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Get key generator for this scenario.
+     * Uses the HOT_KEY pattern (80% of requests to 20% of keys).
+     */
+    public Function<Integer, String> keyGenerator() {
+        return CacheTestUtils.hotKeyGenerator(uniqueKeys);
+    }
+}
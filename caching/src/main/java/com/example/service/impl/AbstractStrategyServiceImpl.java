@@ -0,0 +1,875 @@
+package com.example.service.impl;
+
+import com.example.infrastructure.BatchingLoader;
+import com.example.infrastructure.CacheSimulator;
+import com.example.infrastructure.LoadGenerator;
+import com.example.infrastructure.LoadGenerator.ArrivalProcess;
+import com.example.infrastructure.LoadGenerator.ExecutionMode;
+import com.example.infrastructure.Worker;
+import com.example.scenario.DifferentCacheSizesScenario;
+import com.example.scenario.FreshnessRequirementsScenario;
+import com.example.scenario.HotKeyScenario;
+import com.example.scenario.MultiGetScenario;
+import com.example.scenario.NetworkDelaysScenario;
+import com.example.scenario.PayloadSizeScenario;
+import com.example.service.IStrategyService;
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.WeightedCacheStrategy;
+import com.example.util.CacheTestUtils;
+import com.example.vo.CacheStats;
+import com.example.vo.ConcurrencySweepPoint;
+import com.example.vo.LatencyStats;
+import com.example.vo.OpenLoopStats;
+import com.example.vo.RequestRecord;
+import com.example.vo.TestResult;
+import com.example.vo.ThreadSweepPoint;
+import com.example.workload.Workload;
+import com.example.workload.WorkloadType;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Shared scenario runner for bounded (LRU-style) cache strategies.
+ * Subclasses supply the strategy and may add strategy-specific cache stats.
+ */
+public abstract class AbstractStrategyServiceImpl implements IStrategyService {
+
+    // Load generator pool sizes for thread sweeps
+    protected static final int[] THREAD_SWEEP_COUNTS = {1, 8, 32, 100};
+
+    // Concurrency sweeps issue at least this many requests per concurrent client
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    // The knee is the last level whose successor adds less than this throughput factor
+    private static final double KNEE_THROUGHPUT_GAIN = 1.1;
+
+    // Longest arrival schedule an open-loop run may ask for (it holds the request thread)
+    private static final long MAX_OPEN_LOOP_SCHEDULE_SECONDS = 600;
+
+    @Autowired
+    protected LoadGenerator loadGenerator;
+
+    @Autowired
+    protected Worker worker;
+
+    @Autowired
+    protected CacheSimulator cacheSimulator;
+
+    @Autowired
+    protected BatchingLoader batchingLoader;
+
+    @Autowired
+    protected DifferentCacheSizesScenario differentCacheSizesScenario;
+
+    @Autowired
+    protected FreshnessRequirementsScenario freshnessRequirementsScenario;
+
+    @Autowired
+    protected NetworkDelaysScenario networkDelaysScenario;
+
+    @Autowired
+    protected MultiGetScenario multiGetScenario;
+
+    @Autowired
+    protected HotKeyScenario hotKeyScenario;
+
+    @Autowired
+    protected PayloadSizeScenario payloadSizeScenario;
+
+    /**
+     * Get the strategy under test.
+     */
+    protected abstract BoundedCacheStrategy getStrategy();
+
+    /**
+     * Hook for strategy-specific cache statistics.
+     * Called after the common counters have been filled in.
+     */
+    protected void populateCacheStats(CacheStats cacheStats) {
+    }
+
+    @Override
+    public TestResult runDifferentCacheSizes() {
+        // Default medium cache size
+        differentCacheSizesScenario.configureMediumCache();
+        return runDifferentCacheSizes(differentCacheSizesScenario.getCacheSize());
+    }
+
+    /**
+     * Run different cache sizes with a chosen capacity over the medium key set,
+     * e.g. to sweep hit rate against cache size.
+     */
+    public TestResult runDifferentCacheSizes(int cacheSize) {
+        // Reset worker stats
+        worker.resetStats();
+
+        // Setup scenario
+        differentCacheSizesScenario.configureMediumCache();
+        differentCacheSizesScenario.setCacheSize(cacheSize);
+        differentCacheSizesScenario.setup(getStrategy());
+
+        // Execute test
+        List<RequestRecord> results = loadGenerator.generateLoad(
+            differentCacheSizesScenario.getTotalRequests(),
+            getStrategy(),
+            differentCacheSizesScenario.keyGenerator()
+        );
+
+        return buildTestResult(
+            differentCacheSizesScenario.getName(),
+            results,
+            differentCacheSizesScenario.getCacheSize()
+        );
+    }
+
+    @Override
+    public TestResult runFreshnessRequirements() {
+        // Reset worker stats
+        worker.resetStats();
+
+        // Setup scenario (uses default medium TTL)
+        freshnessRequirementsScenario.configureMediumTtl();
+        freshnessRequirementsScenario.setup(getStrategy());
+
+        // Execute test with pacing to allow TTL behavior
+        List<RequestRecord> results = loadGenerator.generateLoadWithPacing(
+            freshnessRequirementsScenario.getTotalRequests(),
+            getStrategy(),
+            freshnessRequirementsScenario.keyGenerator(),
+            freshnessRequirementsScenario.getRequestPacingMs()
+        );
+
+        return buildTestResult(
+            freshnessRequirementsScenario.getName(),
+            results,
+            getStrategy().getMaxSize()
+        );
+    }
+
+    @Override
+    public TestResult runNetworkDelays() {
+        // Reset worker stats
+        worker.resetStats();
+
+        // Setup scenario (uses default moderate backend)
+        networkDelaysScenario.configureModerateBackend();
+        networkDelaysScenario.setup(getStrategy());
+
+        // Execute test
+        List<RequestRecord> results = loadGenerator.generateLoad(
+            networkDelaysScenario.getTotalRequests(),
+            getStrategy(),
+            networkDelaysScenario.keyGenerator()
+        );
+
+        return buildTestResult(
+            networkDelaysScenario.getName(),
+            results,
+            networkDelaysScenario.getCacheSize()
+        );
+    }
+
+    /**
+     * Run network delays open-loop: requests arrive at ratePerSec whether or
+     * not earlier ones have returned, instead of as fast as the load
+     * generator's threads free up. latency is measured from when a thread
+     * picked the request up; correctedLatency from its intended send time,
+     * so queueing behind slow misses shows in the tail.
+     *
+     * @param ratePerSec Positive, finite arrival rate; the schedule
+     *                   (totalRequests / ratePerSec) may last at most 10 minutes
+     * @param totalRequests At least 1
+     */
+    public TestResult runNetworkDelaysOpenLoop(double ratePerSec, ArrivalProcess arrivals,
+                                               int totalRequests, long seed) {
+        if (!(ratePerSec > 0) || Double.isInfinite(ratePerSec)) {
+            throw new IllegalArgumentException("ratePerSec must be positive and finite: " + ratePerSec);
+        }
+        if (totalRequests < 1) {
+            throw new IllegalArgumentException("totalRequests must be at least 1: " + totalRequests);
+        }
+        if (totalRequests / ratePerSec > MAX_OPEN_LOOP_SCHEDULE_SECONDS) {
+            throw new IllegalArgumentException("Arrival schedule longer than "
+                + MAX_OPEN_LOOP_SCHEDULE_SECONDS + " s: " + totalRequests + " requests at " + ratePerSec + "/s");
+        }
+        worker.resetStats();
+
+        networkDelaysScenario.configureModerateBackend();
+        networkDelaysScenario.setup(getStrategy());
+
+        long startTime = System.currentTimeMillis();
+        List<RequestRecord> results = loadGenerator.generateOpenLoopLoad(
+            totalRequests,
+            getStrategy(),
+            networkDelaysScenario.keyGenerator(),
+            ratePerSec,
+            arrivals,
+            seed
+        );
+        long wallClockMs = Math.max(1, System.currentTimeMillis() - startTime);
+
+        TestResult testResult = buildTestResult(
+            networkDelaysScenario.getName() + "-open-loop-" + arrivals.name().toLowerCase(),
+            results,
+            networkDelaysScenario.getCacheSize()
+        );
+        OpenLoopStats openLoopStats = new OpenLoopStats();
+        openLoopStats.setTargetRatePerSec(ratePerSec);
+        openLoopStats.setArrivalProcess(arrivals.name());
+        openLoopStats.setScheduledDurationMs(Math.round((totalRequests - 1) * 1000.0 / ratePerSec));
+        openLoopStats.setWallClockMs(wallClockMs);
+        openLoopStats.setCompletedRatePerSec(results.size() * 1000.0 / wallClockMs);
+        testResult.setOpenLoopStats(openLoopStats);
+        testResult.setThroughputKeysPerSec(openLoopStats.getCompletedRatePerSec());
+        return testResult;
+    }
+
+    /**
+     * Run network delays with BURST traffic.
+     * Concurrent requests for the same cold key expose cache stampedes.
+     */
+    public TestResult runBurst() {
+        worker.resetStats();
+
+        networkDelaysScenario.configureModerateBackend();
+        networkDelaysScenario.setup(getStrategy());
+
+        List<RequestRecord> results = loadGenerator.generateLoad(
+            networkDelaysScenario.getTotalRequests(),
+            getStrategy(),
+            networkDelaysScenario.burstKeyGenerator()
+        );
+
+        return buildTestResult(
+            networkDelaysScenario.getName() + "-burst",
+            results,
+            networkDelaysScenario.getCacheSize()
+        );
+    }
+
+    /**
+     * Run network delays against a slow backend with entries expiring mid-run.
+     * The cache starts warm, so tail latency shows what a refetch on expiry costs.
+     */
+    public TestResult runNetworkDelaysExpiring() {
+        worker.resetStats();
+
+        networkDelaysScenario.configureExpiringSlowBackend();
+        networkDelaysScenario.setup(getStrategy());
+        networkDelaysScenario.warmUp(getStrategy());
+
+        List<RequestRecord> results = loadGenerator.generateLoadWithPacing(
+            networkDelaysScenario.getTotalRequests(),
+            getStrategy(),
+            networkDelaysScenario.keyGenerator(),
+            networkDelaysScenario.getRequestPacingMs()
+        );
+
+        return buildTestResult(
+            networkDelaysScenario.getName() + "-expiring",
+            results,
+            networkDelaysScenario.getCacheSize()
+        );
+    }
+
+    /**
+     * Run hot-key traffic with large, variably sized values.
+     * @param maxWeightBytes Byte budget for strategies that can weigh entries
+     *                       (0 = cap by entry count instead)
+     */
+    public TestResult runPayloadSizes(long maxWeightBytes) {
+        payloadSizeScenario.setup(getStrategy(), maxWeightBytes);
+        try {
+            List<RequestRecord> results = loadGenerator.generateLoad(
+                payloadSizeScenario.getTotalRequests(),
+                getStrategy(),
+                payloadSizeScenario.keyGenerator()
+            );
+
+            return buildTestResult(
+                payloadSizeScenario.getName() + (maxWeightBytes > 0 ? "-byte-budget" : ""),
+                results,
+                payloadSizeScenario.getCacheSize()
+            );
+        } finally {
+            // Other scenarios expect the configured (short) values
+            worker.applyConfig();
+        }
+    }
+
+    /**
+     * Run hot keys at each of THREAD_SWEEP_COUNTS load generator threads.
+     * The result is the run at the highest thread count, with one
+     * threadSweep point per thread count.
+     */
+    public TestResult runThreadSweep() {
+        return runThreadSweep(List.of());
+    }
+
+    /**
+     * Thread sweep with other strategies swept first under the same load,
+     * so their points sit alongside this strategy's in threadSweep.
+     */
+    protected TestResult runThreadSweep(List<BoundedCacheStrategy> baselines) {
+        List<ThreadSweepPoint> points = new ArrayList<>();
+        for (BoundedCacheStrategy baseline : baselines) {
+            threadSweep(baseline, points);
+        }
+        List<RequestRecord> results = threadSweep(getStrategy(), points);
+
+        TestResult testResult = buildTestResult(
+            hotKeyScenario.getName() + "-thread-sweep",
+            results,
+            hotKeyScenario.getCacheSize()
+        );
+        testResult.setThroughputKeysPerSec(points.get(points.size() - 1).getThroughputKeysPerSec());
+        testResult.setThreadSweep(points);
+        return testResult;
+    }
+
+    /**
+     * Run hot keys against a strategy once per thread count, adding a point per run.
+     * The backend is cut to 1 ms so single-threaded runs stay short and the
+     * cache's own hit path dominates throughput at high thread counts.
+     * @return Records of the last (highest thread count) run
+     */
+    private List<RequestRecord> threadSweep(BoundedCacheStrategy strategy, List<ThreadSweepPoint> points) {
+        int previousPoolSize = loadGenerator.getThreadPoolSize();
+        List<RequestRecord> results = List.of();
+        try {
+            for (int threads : THREAD_SWEEP_COUNTS) {
+                loadGenerator.setThreadPoolSize(threads);
+                worker.resetStats();
+                hotKeyScenario.setup(strategy);
+                worker.setBaseLatency(1);
+                worker.setJitter(0);
+
+                long startTime = System.currentTimeMillis();
+                results = loadGenerator.generateLoad(
+                    hotKeyScenario.getTotalRequests(),
+                    strategy,
+                    hotKeyScenario.keyGenerator()
+                );
+                long wallClockMs = Math.max(1, System.currentTimeMillis() - startTime);
+
+                List<Long> latencies = new ArrayList<>();
+                int hits = 0;
+                for (RequestRecord record : results) {
+                    latencies.add(record.getLatencyMs());
+                    if (record.isCacheHit()) hits++;
+                }
+                Collections.sort(latencies);
+                LatencyStats latencyStats = CacheTestUtils.calculateLatencyStats(latencies);
+
+                ThreadSweepPoint point = new ThreadSweepPoint();
+                point.setStrategy(strategy.getName());
+                point.setThreads(threads);
+                point.setHitRate(CacheTestUtils.calculateHitRate(hits, results.size()));
+                point.setThroughputKeysPerSec(results.size() * 1000.0 / wallClockMs);
+                point.setP50LatencyMs(latencyStats.getP50());
+                point.setP99LatencyMs(latencyStats.getP99());
+                points.add(point);
+            }
+        } finally {
+            loadGenerator.setThreadPoolSize(previousPoolSize);
+            // Undo the 1 ms backend for the scenarios that follow
+            worker.applyConfig();
+        }
+        return results;
+    }
+
+    /**
+     * Run hot keys at increasing concurrency levels, on the platform pool
+     * (one thread per concurrent request) or on virtual threads.
+     * The backend keeps its latency, so misses block their request and
+     * offered concurrency decides how many fetches overlap. Each level
+     * issues at least REQUESTS_PER_CLIENT requests per client. The knee is
+     * marked at the last level before throughput stops scaling (the highest
+     * level if it never does); past it, more clients only add latency.
+     * The result is the run at the knee, with one concurrencySweep point
+     * per level.
+     *
+     * @param levels Concurrency levels, each at least 1; run in increasing
+     *               order with duplicates dropped
+     */
+    public TestResult runConcurrencySweep(ExecutionMode mode, List<Integer> levels, long backendLatencyMs) {
+        if (levels == null || levels.isEmpty()) {
+            throw new IllegalArgumentException("levels must not be empty");
+        }
+        for (Integer level : levels) {
+            if (level == null || level < 1) {
+                throw new IllegalArgumentException("Concurrency levels must be at least 1: " + level);
+            }
+        }
+        // The knee search walks the levels in increasing order
+        List<Integer> sortedLevels = levels.stream().distinct().sorted().toList();
+
+        BoundedCacheStrategy strategy = getStrategy();
+        ExecutionMode previousMode = loadGenerator.getExecutionMode();
+        int previousConcurrency = loadGenerator.getMaxConcurrency();
+        List<ConcurrencySweepPoint> points = new ArrayList<>();
+        List<List<RequestRecord>> runs = new ArrayList<>();
+        try {
+            for (int concurrency : sortedLevels) {
+                loadGenerator.setExecutionMode(mode, concurrency);
+                worker.resetStats();
+                hotKeyScenario.setup(strategy);
+                worker.setBaseLatency(backendLatencyMs);
+                worker.setJitter((int) Math.min(backendLatencyMs / 10, Integer.MAX_VALUE));
+
+                int totalRequests = Math.max(hotKeyScenario.getTotalRequests(), concurrency * REQUESTS_PER_CLIENT);
+                long startTime = System.currentTimeMillis();
+                List<RequestRecord> results = loadGenerator.generateLoad(
+                    totalRequests,
+                    strategy,
+                    hotKeyScenario.keyGenerator()
+                );
+                long wallClockMs = Math.max(1, System.currentTimeMillis() - startTime);
+
+                List<Long> latencies = new ArrayList<>();
+                int hits = 0;
+                for (RequestRecord record : results) {
+                    latencies.add(record.getLatencyMs());
+                    if (record.isCacheHit()) hits++;
+                }
+                LatencyStats latencyStats = CacheTestUtils.calculateLatencyStats(latencies);
+
+                ConcurrencySweepPoint point = new ConcurrencySweepPoint();
+                point.setStrategy(strategy.getName());
+                point.setExecutionMode(mode.name());
+                point.setConcurrency(concurrency);
+                point.setTotalRequests(results.size());
+                point.setHitRate(CacheTestUtils.calculateHitRate(hits, results.size()));
+                point.setThroughputKeysPerSec(results.size() * 1000.0 / wallClockMs);
+                point.setP50LatencyMs(latencyStats.getP50());
+                point.setP99LatencyMs(latencyStats.getP99());
+                points.add(point);
+                runs.add(results);
+            }
+        } finally {
+            loadGenerator.setExecutionMode(previousMode, previousConcurrency);
+            // Other scenarios expect the configured backend latency
+            worker.applyConfig();
+        }
+
+        int knee = points.size() - 1;
+        for (int i = 0; i + 1 < points.size(); i++) {
+            if (points.get(i + 1).getThroughputKeysPerSec()
+                    < points.get(i).getThroughputKeysPerSec() * KNEE_THROUGHPUT_GAIN) {
+                knee = i;
+                break;
+            }
+        }
+        points.get(knee).setKnee(true);
+
+        TestResult testResult = buildTestResult(
+            hotKeyScenario.getName() + "-concurrency-sweep-" + mode.name().toLowerCase(),
+            runs.get(knee),
+            hotKeyScenario.getCacheSize()
+        );
+        testResult.setThroughputKeysPerSec(points.get(knee).getThroughputKeysPerSec());
+        testResult.setConcurrencySweep(points);
+        return testResult;
+    }
+
+    /**
+     * Run hot keys: a long, highly concurrent run against a skewed key set.
+     * Reports wall-clock throughput, which is where hit-path contention shows.
+     */
+    public TestResult runHotKeys() {
+        return runHotKeys(hotKeyScenario.getName(), hotKeyScenario.keyGenerator());
+    }
+
+    /**
+     * Run hot keys with a workload from the workload package in place of
+     * the 80/20 HOT_KEY pattern (same key count, cache size and request count).
+     */
+    public TestResult runHotKeys(WorkloadType type, long seed) {
+        Workload workload = hotKeyScenario.workload(type, seed);
+        return runHotKeys(hotKeyScenario.getName() + "-" + workload.getName(), workload.keyGenerator());
+    }
+
+    private TestResult runHotKeys(String scenarioName, Function<Integer, String> keyGenerator) {
+        worker.resetStats();
+
+        hotKeyScenario.setup(getStrategy());
+
+        long startTime = System.currentTimeMillis();
+        List<RequestRecord> results = loadGenerator.generateLoad(
+            hotKeyScenario.getTotalRequests(),
+            getStrategy(),
+            keyGenerator
+        );
+        long wallClockMs = Math.max(1, System.currentTimeMillis() - startTime);
+
+        TestResult testResult = buildTestResult(
+            scenarioName,
+            results,
+            hotKeyScenario.getCacheSize()
+        );
+        testResult.setThroughputKeysPerSec(results.size() * 1000.0 / wallClockMs);
+        return testResult;
+    }
+
+    /**
+     * Run multi-get: pages of keys looked up together.
+     * With batchMisses the misses of each page go to the backend in one call,
+     * otherwise each missing key is fetched on its own.
+     */
+    public TestResult runMultiGet(boolean batchMisses) {
+        worker.resetStats();
+
+        multiGetScenario.setup(getStrategy());
+
+        long startTime = System.currentTimeMillis();
+        List<RequestRecord> results = loadGenerator.generateMultiGetLoad(
+            multiGetScenario.getTotalBatches(),
+            getStrategy(),
+            multiGetScenario.batchKeyGenerator(),
+            batchMisses
+        );
+        long wallClockMs = Math.max(1, System.currentTimeMillis() - startTime);
+
+        TestResult testResult = buildTestResult(
+            multiGetScenario.getName() + (batchMisses ? "-batched" : "-per-key"),
+            results,
+            multiGetScenario.getCacheSize()
+        );
+        testResult.setThroughputKeysPerSec(results.size() * 1000.0 / wallClockMs);
+        return testResult;
+    }
+
+    /**
+     * Run network delays with misses going through the micro-batching loader.
+     * Compare against runNetworkDelays to see what the batching window buys
+     * in backend round trips and costs in queueing delay.
+     */
+    public TestResult runNetworkDelaysBatched(long maxDelayMs, int maxBatchSize) {
+        worker.resetStats();
+
+        networkDelaysScenario.configureModerateBackend();
+        networkDelaysScenario.setup(getStrategy());
+        batchingLoader.configure(maxDelayMs, maxBatchSize);
+        batchingLoader.resetStats();
+
+        List<RequestRecord> results = loadGenerator.generateLoad(
+            networkDelaysScenario.getTotalRequests(),
+            getStrategy(),
+            networkDelaysScenario.keyGenerator(),
+            batchingLoader::loadBlocking
+        );
+
+        TestResult testResult = buildTestResult(
+            networkDelaysScenario.getName() + "-batched-" + maxDelayMs + "ms-" + maxBatchSize,
+            results,
+            networkDelaysScenario.getCacheSize()
+        );
+        testResult.setBatchingStats(batchingLoader.getStats());
+        return testResult;
+    }
+
+    /**
+     * Run freshness requirements on the virtual clock.
+     * The scenario's hot-key stream is replayed through the strategy by the
+     * simulator, with requests every requestIntervalMs and modeled backend
+     * latency, so hours of traffic take seconds. TTL, capacity and key count
+     * override the scenario's for this run only.
+     */
+    public TestResult runFreshnessSimulated(int totalRequests, long ttlMs, int cacheSize, int uniqueKeys,
+                                            double requestIntervalMs, long backendLatencyMs) {
+        freshnessRequirementsScenario.configureMediumTtl();
+        cacheSimulator.setRequestIntervalMs(requestIntervalMs);
+        cacheSimulator.setBackendLatency(backendLatencyMs);
+        cacheSimulator.setJitter((int) Math.min(backendLatencyMs / 10, Integer.MAX_VALUE));
+
+        CacheSimulator.Result result = cacheSimulator.simulate(
+            getStrategy(),
+            () -> {
+                freshnessRequirementsScenario.setup(getStrategy());
+                getStrategy().setMaxSize(cacheSize);
+                getStrategy().setTtlMs(ttlMs);
+            },
+            totalRequests,
+            CacheTestUtils.hotKeyGenerator(uniqueKeys)
+        );
+
+        TestResult testResult = new TestResult();
+        testResult.setScenario(freshnessRequirementsScenario.getName() + "-simulated");
+        testResult.setStrategy(getStrategy().getName());
+        testResult.setTotalRequests(totalRequests);
+        testResult.setCacheHits(result.hits());
+        testResult.setCacheMisses(result.misses());
+        testResult.setBackendFetches(result.backendFetches());
+        testResult.setBackendRoundTrips(result.backendFetches());
+        testResult.setMaxBackendFetchesPer100Ms(result.maxBackendFetchesPer100Ms());
+        testResult.setLatency(result.latency());
+        testResult.setDurationMs(result.stats().getVirtualDurationMs());
+        testResult.setCacheStats(buildCacheStats(cacheSize, result.hits(), totalRequests));
+        testResult.setSimulationStats(result.stats());
+        return testResult;
+    }
+
+    /**
+     * Run different cache sizes with specific size parameter.
+     */
+    public TestResult runDifferentCacheSizesWithSize(int cacheSize) {
+        worker.resetStats();
+
+        differentCacheSizesScenario.setCacheSize(cacheSize);
+        differentCacheSizesScenario.setup(getStrategy());
+
+        List<RequestRecord> results = loadGenerator.generateLoad(
+            differentCacheSizesScenario.getTotalRequests(),
+            getStrategy(),
+            differentCacheSizesScenario.keyGenerator()
+        );
+
+        return buildTestResult(
+            differentCacheSizesScenario.getName() + "-size-" + cacheSize,
+            results,
+            cacheSize
+        );
+    }
+
+    /**
+     * Run freshness test with specific TTL.
+     */
+    public TestResult runFreshnessWithTtl(long ttlMs, boolean resetOnAccess) {
+        worker.resetStats();
+
+        freshnessRequirementsScenario.setTtlMs(ttlMs);
+        freshnessRequirementsScenario.setResetTtlOnAccess(resetOnAccess);
+        freshnessRequirementsScenario.setup(getStrategy());
+
+        List<RequestRecord> results = loadGenerator.generateLoadWithPacing(
+            freshnessRequirementsScenario.getTotalRequests(),
+            getStrategy(),
+            freshnessRequirementsScenario.keyGenerator(),
+            freshnessRequirementsScenario.getRequestPacingMs()
+        );
+
+        return buildTestResult(
+            freshnessRequirementsScenario.getName() + "-ttl-" + ttlMs,
+            results,
+            getStrategy().getMaxSize()
+        );
+    }
+
+    /**
+     * Run network delays test with specific latency.
+     */
+    public TestResult runNetworkDelaysWithLatency(long backendLatencyMs) {
+        worker.resetStats();
+
+        networkDelaysScenario.configureModerateBackend();
+        networkDelaysScenario.setBackendLatencyMs(backendLatencyMs);
+        networkDelaysScenario.setup(getStrategy());
+
+        List<RequestRecord> results = loadGenerator.generateLoad(
+            networkDelaysScenario.getTotalRequests(),
+            getStrategy(),
+            networkDelaysScenario.keyGenerator()
+        );
+
+        return buildTestResult(
+            networkDelaysScenario.getName() + "-latency-" + backendLatencyMs,
+            results,
+            networkDelaysScenario.getCacheSize()
+        );
+    }
+
+    /**
+     * Measure memory footprint and GC cost of holding a large cache.
+     * Fills the strategy with the given number of entries directly (no backend),
+     * reads every key once, and reports the retained heap and GC activity.
+     */
+    public TestResult runFootprint(int entries) {
+        BoundedCacheStrategy strategy = getStrategy();
+        strategy.reset();
+        strategy.setMaxSize(entries);
+        strategy.setTtlMs(TimeUnit.HOURS.toMillis(1));
+
+        MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heapBefore = memoryBean.getHeapMemoryUsage().getUsed();
+        long[] gcBefore = gcCountAndTime();
+        long startTime = System.currentTimeMillis();
+
+        for (int i = 1; i <= entries; i++) {
+            String key = "key_" + i;
+            strategy.put(key, "value_for_" + key);
+        }
+
+        int hits = 0;
+        for (int i = 1; i <= entries; i++) {
+            if (strategy.get("key_" + i) != null) {
+                hits++;
+            }
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        long[] gcAfter = gcCountAndTime();
+        System.gc();
+        long heapAfter = memoryBean.getHeapMemoryUsage().getUsed();
+
+        TestResult testResult = new TestResult();
+        testResult.setScenario("footprint-" + entries);
+        testResult.setStrategy(strategy.getName());
+        testResult.setTotalRequests(entries);
+        testResult.setCacheHits(hits);
+        testResult.setCacheMisses(entries - hits);
+        testResult.setDurationMs(duration);
+        testResult.setLatency(CacheTestUtils.calculateLatencyStats(Collections.emptyList()));
+        testResult.setGcCount(gcAfter[0] - gcBefore[0]);
+        testResult.setGcTimeMs(gcAfter[1] - gcBefore[1]);
+
+        CacheStats cacheStats = new CacheStats();
+        cacheStats.setMaxSize(entries);
+        cacheStats.setCurrentSize(strategy.size());
+        cacheStats.setHitRate(CacheTestUtils.calculateHitRate(hits, entries));
+        cacheStats.setEvictions(strategy.getEvictions());
+        cacheStats.setExpiredItems(strategy.getExpirations());
+        cacheStats.setOnHeapBytes(Math.max(0, heapAfter - heapBefore));
+        populateCacheStats(cacheStats);
+        testResult.setCacheStats(cacheStats);
+
+        return testResult;
+    }
+
+    /**
+     * Sum collection count and time across all garbage collectors.
+     */
+    private static long[] gcCountAndTime() {
+        long count = 0;
+        long timeMs = 0;
+        for (GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gcBean.getCollectionCount());
+            timeMs += Math.max(0, gcBean.getCollectionTime());
+        }
+        return new long[] {count, timeMs};
+    }
+
+    /**
+     * Peak backend load: the most fetches completing within any fixed window.
+     */
+    private static int maxFetchesPerWindow(List<RequestRecord> results, long windowMs) {
+        Map<Long, Integer> fetchesPerWindow = new HashMap<>();
+        int max = 0;
+        for (RequestRecord record : results) {
+            if (record.isBackendFetch()) {
+                max = Math.max(max, fetchesPerWindow.merge(record.getCompletedAtMs() / windowMs, 1, Integer::sum));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Build TestResult from request records.
+     */
+    protected TestResult buildTestResult(String scenario, List<RequestRecord> results, int cacheSize) {
+        BoundedCacheStrategy strategy = getStrategy();
+
+        TestResult testResult = new TestResult();
+        testResult.setScenario(scenario);
+        testResult.setStrategy(strategy.getName());
+        testResult.setTotalRequests(results.size());
+
+        // Count hits, misses, and backend fetches
+        int hits = 0;
+        int misses = 0;
+        int backendFetches = 0;
+        List<Long> latencies = new ArrayList<>();
+        long allocatedBytes = 0;
+        long hitAllocatedBytes = 0;
+        int measured = 0;
+        int measuredHits = 0;
+
+        for (RequestRecord record : results) {
+            latencies.add(record.getLatencyMs());
+            if (record.isCacheHit()) {
+                hits++;
+            } else {
+                misses++;
+            }
+            if (record.isBackendFetch()) {
+                backendFetches++;
+            }
+            if (record.getAllocatedBytes() >= 0) {
+                allocatedBytes += record.getAllocatedBytes();
+                measured++;
+                if (record.isCacheHit()) {
+                    hitAllocatedBytes += record.getAllocatedBytes();
+                    measuredHits++;
+                }
+            }
+        }
+
+        testResult.setCacheHits(hits);
+        testResult.setCacheMisses(misses);
+        testResult.setBackendFetches(backendFetches);
+        testResult.setBackendRoundTrips(worker.getRoundTripCount());
+        testResult.setMaxBackendFetchesPer100Ms(maxFetchesPerWindow(results, 100));
+        testResult.setAllocatedBytesPerRequest(measured == 0 ? 0.0 : (double) allocatedBytes / measured);
+        testResult.setAllocatedBytesPerHit(measuredHits == 0 ? 0.0 : (double) hitAllocatedBytes / measuredHits);
+
+        // Calculate latency stats
+        Collections.sort(latencies);
+        LatencyStats latencyStats = CacheTestUtils.calculateLatencyStats(latencies);
+        testResult.setLatency(latencyStats);
+
+        // Open-loop runs also measure from the intended send time
+        List<Long> correctedLatencies = new ArrayList<>();
+        for (RequestRecord record : results) {
+            if (record.getCorrectedLatencyMs() >= 0) {
+                correctedLatencies.add(record.getCorrectedLatencyMs());
+            }
+        }
+        if (!correctedLatencies.isEmpty()) {
+            testResult.setCorrectedLatency(CacheTestUtils.calculateLatencyStats(correctedLatencies));
+        }
+
+        // Calculate duration (sum of all latencies is not accurate for concurrent requests)
+        // Use max latency as approximation for wall-clock time
+        long duration = latencies.stream().mapToLong(Long::longValue).sum();
+        testResult.setDurationMs(duration);
+
+        testResult.setCacheStats(buildCacheStats(cacheSize, hits, results.size()));
+
+        return testResult;
+    }
+
+    /**
+     * Build the strategy's cache stats after a run.
+     */
+    private CacheStats buildCacheStats(int cacheSize, int hits, int totalRequests) {
+        BoundedCacheStrategy strategy = getStrategy();
+
+        CacheStats cacheStats = new CacheStats();
+        cacheStats.setMaxSize(cacheSize);
+        cacheStats.setCurrentSize(strategy.size());
+        cacheStats.setHitRate(CacheTestUtils.calculateHitRate(hits, totalRequests));
+        cacheStats.setEvictions(strategy.getEvictions());
+        cacheStats.setExpiredItems(strategy.getExpirations());
+        // Only weighted strategies track bytes; the others leave the byte stats null (n/a)
+        if (strategy instanceof WeightedCacheStrategy weighted) {
+            long requestedWeight = weighted.getHitWeight() + weighted.getWrittenWeight();
+            cacheStats.setMaxBytes(weighted.getMaxWeight());
+            cacheStats.setBytesUsed(weighted.getWeightedSize());
+            cacheStats.setBytesEvicted(weighted.getEvictedWeight());
+            cacheStats.setByteHitRate(requestedWeight == 0 ? 0.0
+                : (double) weighted.getHitWeight() / requestedWeight * 100);
+        }
+        populateCacheStats(cacheStats);
+        return cacheStats;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.service.impl;
+
+import com.example.strategy.ARCStrategy;
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.vo.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for ARC strategy.
+ * Adds ghost-hit counts and the adaptive T1 target to the test results.
+ */
+@Service
+public class ArcServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private ARCStrategy arcStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return arcStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setRecentGhostHits(arcStrategy.getRecentGhostHits());
+        cacheStats.setFrequentGhostHits(arcStrategy.getFrequentGhostHits());
+        cacheStats.setGhostEntries(arcStrategy.getGhostEntries());
+        cacheStats.setRecentSize(arcStrategy.getRecentSize());
+        cacheStats.setRecentTargetSize(arcStrategy.getRecentTargetSize());
+        cacheStats.setDroppedAccessEvents(arcStrategy.getDroppedAccessEvents());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.BufferedLRUWithTTLStrategy;
+import com.example.vo.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for the buffered (lock-free read) LRU with TTL strategy.
+ * Reports dropped access events next to the usual cache stats.
+ */
+@Service
+public class BufferedLruWithTtlServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private BufferedLRUWithTTLStrategy bufferedLruWithTtlStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return bufferedLruWithTtlStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setDroppedAccessEvents(bufferedLruWithTtlStrategy.getDroppedAccessEvents());
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.service.impl;
+
+import com.example.scenario.ClusterTopologyScenario;
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.ClusteredCacheStrategy;
+import com.example.util.CacheTestUtils;
+import com.example.vo.ClusterPhase;
+import com.example.vo.ClusterStats;
+import com.example.vo.RequestRecord;
+import com.example.vo.TestResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Service implementation for the simulated consistent-hash cache cluster.
+ * Orchestrates scenario execution and result building.
+ */
+@Service
+public class ClusterCacheServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private ClusteredCacheStrategy clusteredCacheStrategy;
+
+    @Autowired
+    private ClusterTopologyScenario clusterTopologyScenario;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return clusteredCacheStrategy;
+    }
+
+    /**
+     * Attach per-node load and fairness to every cluster result.
+     */
+    @Override
+    protected TestResult buildTestResult(String scenario, List<RequestRecord> results, int cacheSize) {
+        TestResult testResult = super.buildTestResult(scenario, results, cacheSize);
+        Map<String, Integer> nodeRequests = clusteredCacheStrategy.getNodeRequests();
+
+        ClusterStats clusterStats = new ClusterStats();
+        clusterStats.setNodeCount(clusteredCacheStrategy.getNodeCount());
+        clusterStats.setVirtualNodes(clusteredCacheStrategy.getVirtualNodes());
+        clusterStats.setHopLatencyMicros(clusteredCacheStrategy.getHopLatencyMicros());
+        clusterStats.setNodeRequests(nodeRequests);
+        clusterStats.setNodeSizes(clusteredCacheStrategy.getNodeSizes());
+        clusterStats.setJainsFairnessIndex(CacheTestUtils.calculateJainsFairnessIndex(nodeRequests));
+        testResult.setClusterStats(clusterStats);
+        return testResult;
+    }
+
+    /**
+     * Run random traffic through three topologies: the initial nodes, one node
+     * added, then the first node removed. Each phase reports the share of keys
+     * that changed owner, the miss spike right after the change, and its own
+     * per-node load and fairness.
+     */
+    public TestResult runTopologyChange() {
+        clusterTopologyScenario.setup();
+
+        List<RequestRecord> results = new ArrayList<>();
+        List<ClusterPhase> phases = new ArrayList<>();
+        Map<String, Integer> totalNodeRequests = new TreeMap<>();
+
+        Map<String, String> owners = currentOwners();
+        String event = "initial " + clusteredCacheStrategy.getNodeCount() + " nodes";
+        for (int phase = 0; phase < 3; phase++) {
+            if (phase == 1) {
+                event = "add " + clusteredCacheStrategy.addNode();
+            } else if (phase == 2) {
+                String removed = "node-1";
+                clusteredCacheStrategy.removeNode(removed);
+                event = "remove " + removed;
+            }
+            Map<String, String> newOwners = currentOwners();
+            double remapped = phase == 0 ? 0.0 : remappedPercent(owners, newOwners);
+            owners = newOwners;
+
+            List<RequestRecord> phaseResults = loadGenerator.generateLoad(
+                clusterTopologyScenario.getRequestsPerPhase(),
+                clusteredCacheStrategy,
+                clusterTopologyScenario.keyGenerator()
+            );
+            Map<String, Integer> nodeRequests = clusteredCacheStrategy.drainNodeRequests();
+            nodeRequests.forEach((node, count) -> totalNodeRequests.merge(node, count, Integer::sum));
+
+            ClusterPhase clusterPhase = new ClusterPhase();
+            clusterPhase.setEvent(event);
+            clusterPhase.setNodeCount(clusteredCacheStrategy.getNodeCount());
+            clusterPhase.setRequests(phaseResults.size());
+            clusterPhase.setKeysRemappedPercent(remapped);
+            clusterPhase.setHitRate(hitRate(phaseResults, 0, phaseResults.size()));
+            clusterPhase.setHitRateFirstWindow(hitRate(phaseResults, 0, clusterTopologyScenario.getWindowRequests()));
+            if (phase > 0) {
+                List<RequestRecord> previous = results.subList(
+                    results.size() - clusterTopologyScenario.getRequestsPerPhase(), results.size());
+                double before = hitRate(previous,
+                    previous.size() - clusterTopologyScenario.getWindowRequests(), previous.size());
+                clusterPhase.setMissSpike(before - clusterPhase.getHitRateFirstWindow());
+            }
+            clusterPhase.setNodeRequests(nodeRequests);
+            clusterPhase.setJainsFairnessIndex(CacheTestUtils.calculateJainsFairnessIndex(withoutIdle(nodeRequests)));
+            phases.add(clusterPhase);
+            results.addAll(phaseResults);
+        }
+
+        TestResult testResult = buildTestResult(
+            clusterTopologyScenario.getName(),
+            results,
+            clusterTopologyScenario.getCacheSize()
+        );
+        ClusterStats clusterStats = testResult.getClusterStats();
+        // Whole run: the added and removed nodes were only in the ring for two phases
+        clusterStats.setNodeRequests(totalNodeRequests);
+        clusterStats.setJainsFairnessIndex(CacheTestUtils.calculateJainsFairnessIndex(totalNodeRequests));
+        clusterStats.setPhases(phases);
+        return testResult;
+    }
+
+    /**
+     * Owner of every scenario key under the current ring.
+     */
+    private Map<String, String> currentOwners() {
+        Map<String, String> owners = new HashMap<>();
+        for (int i = 1; i <= clusterTopologyScenario.getUniqueKeys(); i++) {
+            String key = "key_" + i;
+            owners.put(key, clusteredCacheStrategy.nodeFor(key));
+        }
+        return owners;
+    }
+
+    private static double remappedPercent(Map<String, String> before, Map<String, String> after) {
+        int moved = 0;
+        for (Map.Entry<String, String> entry : before.entrySet()) {
+            if (!entry.getValue().equals(after.get(entry.getKey()))) {
+                moved++;
+            }
+        }
+        return CacheTestUtils.calculateHitRate(moved, before.size());
+    }
+
+    /**
+     * Drop nodes that received nothing in a phase (already removed), so they
+     * don't count as starved in the fairness index.
+     */
+    private static Map<String, Integer> withoutIdle(Map<String, Integer> nodeRequests) {
+        Map<String, Integer> active = new TreeMap<>(nodeRequests);
+        active.values().removeIf(count -> count == 0);
+        return active;
+    }
+
+    private static double hitRate(List<RequestRecord> results, int from, int to) {
+        int end = Math.min(to, results.size());
+        int start = Math.max(0, from);
+        int hits = 0;
+        for (int i = start; i < end; i++) {
+            if (results.get(i).isCacheHit()) hits++;
+        }
+        return CacheTestUtils.calculateHitRate(hits, end - start);
+    }
+}
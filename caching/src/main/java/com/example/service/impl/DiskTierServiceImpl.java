@@ -0,0 +1,38 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.DiskTierCacheStrategy;
+import com.example.vo.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for the memory + memory-mapped disk tier strategy.
+ * Orchestrates scenario execution and result building.
+ */
+@Service
+public class DiskTierServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private DiskTierCacheStrategy diskTierCacheStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return diskTierCacheStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setMemoryHits(diskTierCacheStrategy.getMemoryHits());
+        cacheStats.setDiskHits(diskTierCacheStrategy.getDiskHits());
+        cacheStats.setDiskHitRate(diskTierCacheStrategy.getDiskHitRate());
+        cacheStats.setAverageDiskReadMicros(diskTierCacheStrategy.getAverageDiskReadMicros());
+        cacheStats.setMaxDiskReadMicros(diskTierCacheStrategy.getMaxDiskReadMicros());
+        cacheStats.setSpills(diskTierCacheStrategy.getSpills());
+        cacheStats.setDiskEntries(diskTierCacheStrategy.getDiskEntries());
+        cacheStats.setDiskSegments(diskTierCacheStrategy.getDiskSegments());
+        cacheStats.setDiskMappedBytes(diskTierCacheStrategy.getDiskMappedBytes());
+        cacheStats.setDiskLiveBytes(diskTierCacheStrategy.getDiskLiveBytes());
+        cacheStats.setDiskCompactions(diskTierCacheStrategy.getDiskCompactions());
+    }
+}
@@ -1,238 +1,327 @@
 package com.example.service.impl;
 
-import com.example.infrastructure.LoadGenerator;
-import com.example.infrastructure.Worker;
-import com.example.scenario.DifferentCacheSizesScenario;
-import com.example.scenario.FreshnessRequirementsScenario;
-import com.example.scenario.NetworkDelaysScenario;
-import com.example.service.IStrategyService;
+import com.example.infrastructure.KeyTraces;
+import com.example.strategy.BoundedCacheStrategy;
 import com.example.strategy.LRUWithTTLStrategy;
 import com.example.util.CacheTestUtils;
+import com.example.util.CacheTestUtils.KeyPattern;
+import com.example.util.StackDistanceAnalyzer;
 import com.example.vo.CacheStats;
-import com.example.vo.LatencyStats;
+import com.example.vo.MissRatioPoint;
 import com.example.vo.RequestRecord;
 import com.example.vo.TestResult;
+import com.example.vo.WarmStartStats;
+import com.example.workload.Workload;
+import com.example.workload.WorkloadType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.IntToLongFunction;
+import java.util.function.Supplier;
 
 /**
  * Service implementation for LRU with TTL strategy.
  * Orchestrates scenario execution and result building.
  */
 @Service
-public class LruWithTtlServiceImpl implements IStrategyService {
+public class LruWithTtlServiceImpl extends AbstractStrategyServiceImpl {
 
-    @Autowired
-    private LRUWithTTLStrategy lruWithTtlStrategy;
+    // A window is steady once its hit rate is within this many points of the run's tail
+    private static final double STEADY_STATE_TOLERANCE = 5.0;
 
-    @Autowired
-    private LoadGenerator loadGenerator;
-
-    @Autowired
-    private Worker worker;
+    // Miss-ratio curves report at most this many cache sizes
+    private static final int MAX_CURVE_POINTS = 500;
 
     @Autowired
-    private DifferentCacheSizesScenario differentCacheSizesScenario;
-
-    @Autowired
-    private FreshnessRequirementsScenario freshnessRequirementsScenario;
+    private LRUWithTTLStrategy lruWithTtlStrategy;
 
     @Autowired
-    private NetworkDelaysScenario networkDelaysScenario;
+    private KeyTraces keyTraces;
 
-    @Override
-    public TestResult runDifferentCacheSizes() {
-        // Reset worker stats
-        worker.resetStats();
-        
-        // Setup scenario (uses default medium cache size)
-        differentCacheSizesScenario.configureMediumCache();
-        differentCacheSizesScenario.setup();
-
-        // Execute test
-        List<RequestRecord> results = loadGenerator.generateLoad(
-            differentCacheSizesScenario.getTotalRequests(),
-            lruWithTtlStrategy,
-            differentCacheSizesScenario.keyGenerator()
-        );
-
-        return buildTestResult(
-            differentCacheSizesScenario.getName(),
-            results,
-            differentCacheSizesScenario.getCacheSize()
-        );
+    /**
+     * When a run's hit rate settled.
+     */
+    private record SteadyState(double hitRate, int requests, long timeMs) {
     }
 
     @Override
-    public TestResult runFreshnessRequirements() {
-        // Reset worker stats
-        worker.resetStats();
-        
-        // Setup scenario (uses default medium TTL)
-        freshnessRequirementsScenario.configureMediumTtl();
-        freshnessRequirementsScenario.setup();
-
-        // Execute test with pacing to allow TTL behavior
-        List<RequestRecord> results = loadGenerator.generateLoadWithPacing(
-            freshnessRequirementsScenario.getTotalRequests(),
-            lruWithTtlStrategy,
-            freshnessRequirementsScenario.keyGenerator(),
-            freshnessRequirementsScenario.getRequestPacingMs()
-        );
-
-        return buildTestResult(
-            freshnessRequirementsScenario.getName(),
-            results,
-            lruWithTtlStrategy.getMaxSize()
-        );
+    protected BoundedCacheStrategy getStrategy() {
+        return lruWithTtlStrategy;
     }
 
     @Override
-    public TestResult runNetworkDelays() {
-        // Reset worker stats
-        worker.resetStats();
-        
-        // Setup scenario (uses default moderate backend)
-        networkDelaysScenario.configureModerateBackend();
-        networkDelaysScenario.setup();
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setLazyExpirations(lruWithTtlStrategy.getLazyExpirations());
+        cacheStats.setProactiveExpirations(lruWithTtlStrategy.getProactiveExpirations());
+        cacheStats.setEarlyRecomputes(lruWithTtlStrategy.getEarlyRecomputes());
+    }
 
-        // Execute test
-        List<RequestRecord> results = loadGenerator.generateLoad(
-            networkDelaysScenario.getTotalRequests(),
-            lruWithTtlStrategy,
-            networkDelaysScenario.keyGenerator()
-        );
+    /**
+     * Run freshness with every key loaded together and expiring together,
+     * with or without XFetch early recomputation. Compare
+     * maxBackendFetchesPer100Ms between the two to see the backend peak flatten.
+     */
+    public TestResult runFreshnessSynchronizedExpiry(boolean xfetch, double beta) {
+        freshnessRequirementsScenario.configureSynchronizedExpiry();
+        freshnessRequirementsScenario.setup(getStrategy());
+        lruWithTtlStrategy.setXfetch(xfetch, beta);
+        worker.setBaseLatency(50);
+        worker.setJitter(10);
+        try {
+            // Load every key concurrently so their TTLs line up (and XFetch learns the cost)
+            loadGenerator.generateLoad(
+                freshnessRequirementsScenario.getUniqueKeys(),
+                getStrategy(),
+                CacheTestUtils.sequentialKeyGenerator(freshnessRequirementsScenario.getUniqueKeys())
+            );
+            worker.resetStats();
+
+            List<RequestRecord> results = loadGenerator.generateLoadWithPacing(
+                freshnessRequirementsScenario.getTotalRequests(),
+                getStrategy(),
+                freshnessRequirementsScenario.keyGenerator(),
+                freshnessRequirementsScenario.getRequestPacingMs()
+            );
+
+            return buildTestResult(
+                freshnessRequirementsScenario.getName() + "-synchronized-expiry" + (xfetch ? "-xfetch" : ""),
+                results,
+                getStrategy().getMaxSize()
+            );
+        } finally {
+            // Other scenarios expect the configured backend latency
+            worker.applyConfig();
+        }
+    }
 
-        return buildTestResult(
-            networkDelaysScenario.getName(),
-            results,
-            networkDelaysScenario.getCacheSize()
-        );
+    /**
+     * Compute the LRU miss-ratio curve of the different-cache-sizes key stream
+     * in one pass, instead of one sleeping run per cache size.
+     * Nothing touches the cache or the backend: the analyzer replays the keys
+     * the load generator would request and derives the hit rate at every size
+     * from their stack distances. The headline hit rate is the one at
+     * cacheSize. The curve assumes requests are applied one at a time; in the
+     * concurrent run a miss is inserted only when its fetch returns, so
+     * measured hit rates can differ noticeably (the sequential stream's cliff
+     * at uniqueKeys becomes a slope). While a key trace is replayed, the
+     * curve is that of the trace.
+     *
+     * @param samplingRate SHARDS sampling rate; 1 is exact, smaller is cheaper for long streams
+     */
+    public TestResult runMissRatioCurve(KeyPattern pattern, int totalRequests, int uniqueKeys,
+                                        int cacheSize, double samplingRate) {
+        validateMissRatioCurve(totalRequests, uniqueKeys, cacheSize, samplingRate);
+        return runMissRatioCurve(pattern.name().toLowerCase(),
+            index -> CacheTestUtils.generateLongKey(index, pattern, uniqueKeys),
+            totalRequests, cacheSize, samplingRate);
     }
 
     /**
-     * Build TestResult from request records.
+     * Compute the LRU miss-ratio curve of a workload from the workload package.
      */
-    private TestResult buildTestResult(String scenario, List<RequestRecord> results, int cacheSize) {
-        TestResult testResult = new TestResult();
-        testResult.setScenario(scenario);
-        testResult.setStrategy(lruWithTtlStrategy.getName());
-        testResult.setTotalRequests(results.size());
-
-        // Count hits, misses, and backend fetches
-        int hits = 0;
-        int misses = 0;
-        int backendFetches = 0;
-        List<Long> latencies = new ArrayList<>();
-
-        for (RequestRecord record : results) {
-            latencies.add(record.getLatencyMs());
-            if (record.isCacheHit()) {
-                hits++;
-            } else {
-                misses++;
-            }
-            if (record.isBackendFetch()) {
-                backendFetches++;
-            }
+    public TestResult runMissRatioCurve(WorkloadType type, long seed, int totalRequests, int uniqueKeys,
+                                        int cacheSize, double samplingRate) {
+        validateMissRatioCurve(totalRequests, uniqueKeys, cacheSize, samplingRate);
+        Workload workload = type.create(uniqueKeys, seed);
+        return runMissRatioCurve(workload.getName(), workload.longKeyGenerator(),
+            totalRequests, cacheSize, samplingRate);
+    }
+
+    private static void validateMissRatioCurve(int totalRequests, int uniqueKeys, int cacheSize,
+                                               double samplingRate) {
+        if (totalRequests < 1) {
+            throw new IllegalArgumentException("totalRequests must be at least 1: " + totalRequests);
+        }
+        if (uniqueKeys < 1) {
+            throw new IllegalArgumentException("uniqueKeys must be at least 1: " + uniqueKeys);
+        }
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize must not be negative: " + cacheSize);
         }
+        if (!(samplingRate > 0 && samplingRate <= 1)) {
+            throw new IllegalArgumentException("samplingRate must be in (0, 1]: " + samplingRate);
+        }
+    }
 
-        testResult.setCacheHits(hits);
-        testResult.setCacheMisses(misses);
-        testResult.setBackendFetches(backendFetches);
+    private TestResult runMissRatioCurve(String streamName, IntToLongFunction keyGenerator, int totalRequests,
+                                         int cacheSize, double samplingRate) {
+        long startTime = System.currentTimeMillis();
+        StackDistanceAnalyzer analyzer = new StackDistanceAnalyzer(totalRequests, samplingRate);
+        IntToLongFunction keys = keyTraces.longKeyGenerator(keyGenerator);
+        for (int i = 1; i <= totalRequests; i++) {
+            analyzer.access(keys.applyAsLong(i));
+        }
 
-        // Calculate latency stats
-        Collections.sort(latencies);
-        LatencyStats latencyStats = CacheTestUtils.calculateLatencyStats(latencies);
-        testResult.setLatency(latencyStats);
+        int maxCacheSize = Math.max(1, analyzer.getDistinctKeys());
+        int step = Math.max(1, (maxCacheSize + MAX_CURVE_POINTS - 1) / MAX_CURVE_POINTS);
+        List<MissRatioPoint> curve = new ArrayList<>();
+        for (int size = step; size < maxCacheSize + step; size += step) {
+            int pointSize = Math.min(size, maxCacheSize);
+            curve.add(new MissRatioPoint(pointSize, analyzer.hitRate(pointSize)));
+        }
+        long duration = System.currentTimeMillis() - startTime;
+
+        double hitRate = analyzer.hitRate(cacheSize);
+        int hits = (int) Math.round(hitRate * totalRequests / 100);
 
-        // Calculate duration (sum of all latencies is not accurate for concurrent requests)
-        // Use max latency as approximation for wall-clock time
-        long duration = latencies.stream().mapToLong(Long::longValue).sum();
+        TestResult testResult = new TestResult();
+        testResult.setScenario(differentCacheSizesScenario.getName() + "-miss-ratio-curve-" + streamName);
+        testResult.setStrategy("LRU (Mattson stack distances"
+            + (samplingRate < 1 ? ", SHARDS R=" + samplingRate : "") + ")");
+        testResult.setTotalRequests(totalRequests);
+        testResult.setCacheHits(hits);
+        testResult.setCacheMisses(totalRequests - hits);
         testResult.setDurationMs(duration);
+        testResult.setLatency(CacheTestUtils.calculateLatencyStats(Collections.emptyList()));
 
-        // Build cache stats
         CacheStats cacheStats = new CacheStats();
         cacheStats.setMaxSize(cacheSize);
-        cacheStats.setCurrentSize(lruWithTtlStrategy.size());
-        cacheStats.setHitRate(CacheTestUtils.calculateHitRate(hits, results.size()));
-        cacheStats.setEvictions(lruWithTtlStrategy.getEvictions());
-        cacheStats.setExpiredItems(lruWithTtlStrategy.getExpirations());
+        cacheStats.setHitRate(hitRate);
         testResult.setCacheStats(cacheStats);
-
+        testResult.setMissRatioCurve(curve);
         return testResult;
     }
 
     /**
-     * Run different cache sizes with specific size parameter.
+     * Run different cache sizes after a restart, cold and then warm from a snapshot.
      */
-    public TestResult runDifferentCacheSizesWithSize(int cacheSize) {
-        worker.resetStats();
-        
-        differentCacheSizesScenario.setCacheSize(cacheSize);
-        differentCacheSizesScenario.setup();
-
-        List<RequestRecord> results = loadGenerator.generateLoad(
-            differentCacheSizesScenario.getTotalRequests(),
-            lruWithTtlStrategy,
-            differentCacheSizesScenario.keyGenerator()
-        );
-
-        return buildTestResult(
-            differentCacheSizesScenario.getName() + "-size-" + cacheSize,
-            results,
-            cacheSize
+    public TestResult runDifferentCacheSizesWarmStart() {
+        differentCacheSizesScenario.configureMediumCache();
+        return runWarmStart(
+            differentCacheSizesScenario.getName(),
+            differentCacheSizesScenario.getCacheSize(),
+            () -> differentCacheSizesScenario.setup(getStrategy()),
+            () -> loadGenerator.generateLoad(
+                differentCacheSizesScenario.getTotalRequests(),
+                getStrategy(),
+                differentCacheSizesScenario.keyGenerator()
+            )
         );
     }
 
     /**
-     * Run freshness test with specific TTL.
+     * Run network delays after a restart, cold and then warm from a snapshot.
      */
-    public TestResult runFreshnessWithTtl(long ttlMs, boolean resetOnAccess) {
-        worker.resetStats();
-        
-        freshnessRequirementsScenario.setTtlMs(ttlMs);
-        freshnessRequirementsScenario.setResetTtlOnAccess(resetOnAccess);
-        freshnessRequirementsScenario.setup();
-
-        List<RequestRecord> results = loadGenerator.generateLoadWithPacing(
-            freshnessRequirementsScenario.getTotalRequests(),
-            lruWithTtlStrategy,
-            freshnessRequirementsScenario.keyGenerator(),
-            freshnessRequirementsScenario.getRequestPacingMs()
+    public TestResult runNetworkDelaysWarmStart() {
+        networkDelaysScenario.configureModerateBackend();
+        return runWarmStart(
+            networkDelaysScenario.getName(),
+            networkDelaysScenario.getCacheSize(),
+            () -> networkDelaysScenario.setup(getStrategy()),
+            () -> loadGenerator.generateLoad(
+                networkDelaysScenario.getTotalRequests(),
+                getStrategy(),
+                networkDelaysScenario.keyGenerator()
+            )
         );
+    }
 
-        return buildTestResult(
-            freshnessRequirementsScenario.getName() + "-ttl-" + ttlMs,
-            results,
-            lruWithTtlStrategy.getMaxSize()
-        );
+    /**
+     * Simulate a restart with and without a snapshot.
+     * A priming run stands in for the previous process and is snapshotted.
+     * The same load then runs from an empty cache (cold) and from the restored
+     * snapshot (warm). The result is the warm run, with warmStartStats
+     * comparing how long each took to reach its steady-state hit rate.
+     */
+    private TestResult runWarmStart(String scenario, int cacheSize, Runnable setup,
+                                    Supplier<List<RequestRecord>> load) {
+        WarmStartStats stats = new WarmStartStats();
+        Path snapshot = null;
+        try {
+            snapshot = Files.createTempFile("lru-snapshot-", ".bin");
+
+            // Previous process
+            worker.resetStats();
+            setup.run();
+            load.get();
+            long startTime = System.currentTimeMillis();
+            stats.setSnapshotBytes(lruWithTtlStrategy.writeSnapshot(snapshot));
+            stats.setSnapshotWriteMs(System.currentTimeMillis() - startTime);
+            stats.setSnapshotEntries(lruWithTtlStrategy.size());
+
+            // Cold restart
+            worker.resetStats();
+            setup.run();
+            startTime = System.currentTimeMillis();
+            List<RequestRecord> cold = load.get();
+            SteadyState coldSteady = steadyState(cold, startTime);
+            stats.setColdHitRate(hitRate(cold));
+            stats.setColdSteadyStateHitRate(coldSteady.hitRate());
+            stats.setColdRequestsToSteadyState(coldSteady.requests());
+            stats.setColdTimeToSteadyStateMs(coldSteady.timeMs());
+            stats.setColdBackendFetches((int) cold.stream().filter(RequestRecord::isBackendFetch).count());
+
+            // Warm restart
+            worker.resetStats();
+            setup.run();
+            startTime = System.currentTimeMillis();
+            stats.setRestoredEntries(lruWithTtlStrategy.restoreSnapshot(snapshot));
+            stats.setRestoreMs(System.currentTimeMillis() - startTime);
+            startTime = System.currentTimeMillis();
+            List<RequestRecord> warm = load.get();
+            SteadyState warmSteady = steadyState(warm, startTime);
+            stats.setWarmHitRate(hitRate(warm));
+            stats.setWarmSteadyStateHitRate(warmSteady.hitRate());
+            stats.setWarmRequestsToSteadyState(warmSteady.requests());
+            stats.setWarmTimeToSteadyStateMs(warmSteady.timeMs());
+            stats.setWarmBackendFetches((int) warm.stream().filter(RequestRecord::isBackendFetch).count());
+
+            TestResult testResult = buildTestResult(scenario + "-warm-start", warm, cacheSize);
+            testResult.setWarmStartStats(stats);
+            return testResult;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create snapshot file", e);
+        } finally {
+            if (snapshot != null) {
+                try {
+                    Files.deleteIfExists(snapshot);
+                } catch (IOException e) {
+                    // Temp file, left for the OS to clean up
+                }
+            }
+        }
     }
 
     /**
-     * Run network delays test with specific latency.
+     * Find when a run reached steady state.
+     * Requests are taken in submission order (completion order would put fast
+     * hits first and slow misses last). The steady-state hit rate is that of
+     * the last quarter of the run; steady state is reached at the end of the
+     * first rolling window whose hit rate comes within STEADY_STATE_TOLERANCE
+     * of it, and its time is when every request up to there had completed.
      */
-    public TestResult runNetworkDelaysWithLatency(long backendLatencyMs) {
-        worker.resetStats();
-        
-        networkDelaysScenario.setBackendLatencyMs(backendLatencyMs);
-        networkDelaysScenario.setup();
-
-        List<RequestRecord> results = loadGenerator.generateLoad(
-            networkDelaysScenario.getTotalRequests(),
-            lruWithTtlStrategy,
-            networkDelaysScenario.keyGenerator()
-        );
+    private static SteadyState steadyState(List<RequestRecord> results, long startTime) {
+        int total = results.size();
+        if (total == 0) {
+            return new SteadyState(0.0, 0, 0);
+        }
 
-        return buildTestResult(
-            networkDelaysScenario.getName() + "-latency-" + backendLatencyMs,
-            results,
-            networkDelaysScenario.getCacheSize()
-        );
+        double steadyHitRate = hitRate(results.subList(total * 3 / 4, total));
+        int window = Math.min(total, Math.max(10, total / 20));
+        int windowHits = 0;
+        long lastCompletedAt = startTime;
+        for (int i = 0; i < total; i++) {
+            RequestRecord record = results.get(i);
+            lastCompletedAt = Math.max(lastCompletedAt, record.getCompletedAtMs());
+            if (record.isCacheHit()) windowHits++;
+            if (i >= window && results.get(i - window).isCacheHit()) windowHits--;
+            if (i >= window - 1
+                    && CacheTestUtils.calculateHitRate(windowHits, window) >= steadyHitRate - STEADY_STATE_TOLERANCE) {
+                return new SteadyState(steadyHitRate, i + 1, lastCompletedAt - startTime);
+            }
+        }
+        return new SteadyState(steadyHitRate, total, lastCompletedAt - startTime);
+    }
+
+    private static double hitRate(List<RequestRecord> results) {
+        int hits = (int) results.stream().filter(RequestRecord::isCacheHit).count();
+        return CacheTestUtils.calculateHitRate(hits, results.size());
     }
 }
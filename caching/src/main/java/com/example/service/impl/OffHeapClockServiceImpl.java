@@ -0,0 +1,28 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.OffHeapClockStrategy;
+import com.example.vo.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for the off-heap CLOCK strategy.
+ * Reports reserved direct memory alongside the usual cache stats.
+ */
+@Service
+public class OffHeapClockServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private OffHeapClockStrategy offHeapClockStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return offHeapClockStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setOffHeapBytes(offHeapClockStrategy.getOffHeapBytes());
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.PrimitiveLongCacheStrategy;
+import com.example.vo.RequestRecord;
+import com.example.vo.TestResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service implementation for the primitive long-keyed cache.
+ * Besides the String-keyed scenarios, runs hot keys with long keys end to
+ * end, so no key String is built on the request path.
+ */
+@Service
+public class PrimitiveLongServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private PrimitiveLongCacheStrategy primitiveLongCacheStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return primitiveLongCacheStrategy;
+    }
+
+    /**
+     * Run hot keys through the long-keyed get/put.
+     * Compare allocatedBytesPerHit with the String-keyed hot-keys run.
+     */
+    public TestResult runHotKeysLongKeys() {
+        worker.resetStats();
+
+        hotKeyScenario.setup(primitiveLongCacheStrategy);
+
+        long startTime = System.currentTimeMillis();
+        List<RequestRecord> results = loadGenerator.generateLongKeyLoad(
+            hotKeyScenario.getTotalRequests(),
+            primitiveLongCacheStrategy,
+            hotKeyScenario.longKeyGenerator(),
+            worker::fetchData
+        );
+        long wallClockMs = Math.max(1, System.currentTimeMillis() - startTime);
+
+        TestResult testResult = buildTestResult(
+            hotKeyScenario.getName() + "-long-keys",
+            results,
+            hotKeyScenario.getCacheSize()
+        );
+        testResult.setThroughputKeysPerSec(results.size() * 1000.0 / wallClockMs);
+        return testResult;
+    }
+}
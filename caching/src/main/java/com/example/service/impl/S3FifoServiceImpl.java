@@ -0,0 +1,48 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.LRUWithTTLStrategy;
+import com.example.strategy.S3FIFOStrategy;
+import com.example.vo.CacheStats;
+import com.example.vo.TestResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Service implementation for S3-FIFO strategy.
+ * Adds queue and ghost stats to the test results, and sweeps thread counts
+ * against LRU with TTL as a baseline.
+ */
+@Service
+public class S3FifoServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private S3FIFOStrategy s3FifoStrategy;
+
+    @Autowired
+    private LRUWithTTLStrategy lruWithTtlStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return s3FifoStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setRecentGhostHits(s3FifoStrategy.getGhostHits());
+        cacheStats.setGhostEntries(s3FifoStrategy.getGhostEntries());
+        cacheStats.setRecentSize(s3FifoStrategy.getSmallSize());
+        cacheStats.setRecentTargetSize(s3FifoStrategy.getSmallMaxSize());
+        cacheStats.setPromotions(s3FifoStrategy.getPromotions());
+    }
+
+    /**
+     * Sweep LRU with TTL and then S3-FIFO over the same thread counts.
+     */
+    @Override
+    public TestResult runThreadSweep() {
+        return runThreadSweep(List.of(lruWithTtlStrategy));
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.SegmentedLRUWithTTLStrategy;
+import com.example.vo.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for the lock-striped LRU with TTL strategy.
+ * Runs the same scenarios as LruWithTtlServiceImpl for a side-by-side comparison.
+ */
+@Service
+public class SegmentedLruWithTtlServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private SegmentedLRUWithTTLStrategy segmentedLruWithTtlStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return segmentedLruWithTtlStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setSegmentCount(segmentedLruWithTtlStrategy.getSegmentCount());
+    }
+}
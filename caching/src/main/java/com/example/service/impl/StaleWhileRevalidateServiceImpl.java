@@ -1,8 +1,8 @@
 package com.example.service.impl;
 
-import com.example.service.IStrategyService;
+import com.example.strategy.BoundedCacheStrategy;
 import com.example.strategy.StaleWhileRevalidateStrategy;
-import com.example.vo.TestResult;
+import com.example.vo.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -11,24 +11,23 @@ import org.springframework.stereotype.Service;
  * Orchestrates scenario execution and builds test results
  */
 @Service
-public class StaleWhileRevalidateServiceImpl implements IStrategyService {
+public class StaleWhileRevalidateServiceImpl extends AbstractStrategyServiceImpl {
     
     @Autowired
     private StaleWhileRevalidateStrategy strategy;
     
     @Override
-    public TestResult runDifferentCacheSizes() {
-        throw new UnsupportedOperationException("Not implemented yet");
+    protected BoundedCacheStrategy getStrategy() {
+        return strategy;
     }
     
     @Override
-    public TestResult runFreshnessRequirements() {
-        throw new UnsupportedOperationException("Not implemented yet");
-    }
-    
-    @Override
-    public TestResult runNetworkDelays() {
-        throw new UnsupportedOperationException("Not implemented yet");
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setStaleHits(strategy.getStaleHits());
+        cacheStats.setRevalidations(strategy.getRevalidations());
+        cacheStats.setRejectedRevalidations(strategy.getRejectedRevalidations());
+        cacheStats.setMaxRevalidationQueueDepth(strategy.getMaxRevalidationQueueDepth());
+        cacheStats.setAverageRefreshLagMs(strategy.getAverageRefreshLagMs());
+        cacheStats.setMaxRefreshLagMs(strategy.getMaxRefreshLagMs());
     }
 }
-
@@ -0,0 +1,35 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.TieredCacheStrategy;
+import com.example.vo.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for the two-tier (L1/L2) cache strategy.
+ * Orchestrates scenario execution and result building.
+ */
+@Service
+public class TieredCacheServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private TieredCacheStrategy tieredCacheStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return tieredCacheStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setL1Hits(tieredCacheStrategy.getL1Hits());
+        cacheStats.setL1Misses(tieredCacheStrategy.getL1Misses());
+        cacheStats.setL1Evictions(tieredCacheStrategy.getL1Evictions());
+        cacheStats.setL1Size(tieredCacheStrategy.getL1Size());
+        cacheStats.setL2Hits(tieredCacheStrategy.getL2Hits());
+        cacheStats.setL2Misses(tieredCacheStrategy.getL2Misses());
+        cacheStats.setL2Evictions(tieredCacheStrategy.getL2Evictions());
+        cacheStats.setPromotions(tieredCacheStrategy.getPromotions());
+    }
+}
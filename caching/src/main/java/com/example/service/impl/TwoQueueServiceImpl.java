@@ -0,0 +1,32 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.TwoQueueStrategy;
+import com.example.vo.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for 2Q strategy.
+ * Adds A1out ghost hits and A1in sizes to the test results.
+ */
+@Service
+public class TwoQueueServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private TwoQueueStrategy twoQueueStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return twoQueueStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setRecentGhostHits(twoQueueStrategy.getRecentGhostHits());
+        cacheStats.setGhostEntries(twoQueueStrategy.getGhostEntries());
+        cacheStats.setRecentSize(twoQueueStrategy.getRecentSize());
+        cacheStats.setRecentTargetSize(twoQueueStrategy.getRecentTargetSize());
+        cacheStats.setDroppedAccessEvents(twoQueueStrategy.getDroppedAccessEvents());
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.service.impl;
+
+import com.example.strategy.BoundedCacheStrategy;
+import com.example.strategy.WTinyLFUStrategy;
+import com.example.vo.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service implementation for W-TinyLFU strategy.
+ * Adds frequency sketch and admission stats to the test results.
+ */
+@Service
+public class WTinyLfuServiceImpl extends AbstractStrategyServiceImpl {
+
+    @Autowired
+    private WTinyLFUStrategy wTinyLfuStrategy;
+
+    @Override
+    protected BoundedCacheStrategy getStrategy() {
+        return wTinyLfuStrategy;
+    }
+
+    @Override
+    protected void populateCacheStats(CacheStats cacheStats) {
+        cacheStats.setSketchSizeBytes(wTinyLfuStrategy.getSketchSizeBytes());
+        cacheStats.setSketchResets(wTinyLfuStrategy.getSketchResets());
+        cacheStats.setAdmissionRejections(wTinyLfuStrategy.getAdmissionRejections());
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.strategy;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Adaptive Replacement Cache (ARC) Strategy
+ * Megiddo and Modha's policy balancing recency against frequency.
+ *
+ * Features:
+ * - T1 holds keys seen once recently, T2 keys seen at least twice
+ * - Ghost lists B1 and B2 remember keys recently evicted from T1 and T2
+ * - A ghost hit in B1 grows the target size p of T1, a ghost hit in B2
+ *   shrinks it, so the split between recency and frequency adapts to the
+ *   workload
+ * - A one-pass scan only cycles through T1 and cannot flush T2
+ * - Lock-free hit path (see GhostListCacheStrategy)
+ */
+@Component
+public class ARCStrategy extends GhostListCacheStrategy {
+
+    private static final byte T1 = 1;
+    private static final byte T2 = 2;
+    private static final byte B1 = 3;
+    private static final byte B2 = 4;
+
+    // Queues and p are guarded by the eviction lock
+    private final AccessQueue t1 = new AccessQueue(T1);
+    private final AccessQueue t2 = new AccessQueue(T2);
+    private final AccessQueue b1 = new AccessQueue(B1);
+    private final AccessQueue b2 = new AccessQueue(B2);
+    private int p;  // Target size of T1
+
+    @Override
+    protected void onHit(Node node) {
+        if (t1.contains(node)) {
+            t1.unlink(node);
+            t2.linkLast(node);
+        } else {
+            t2.moveToTail(node);
+        }
+    }
+
+    @Override
+    protected void admit(Node node, Node ghost) {
+        int capacity = getMaxSize();
+
+        if (ghost != null && b1.contains(ghost)) {
+            // Evicted from T1 too early: favour recency
+            recordRecentGhostHit();
+            p = Math.min(capacity, p + Math.max(b2.size / b1.size, 1));
+            b1.unlink(ghost);
+            replace(false);
+            t2.linkLast(node);
+            return;
+        }
+        if (ghost != null && b2.contains(ghost)) {
+            // Evicted from T2 too early: favour frequency
+            recordFrequentGhostHit();
+            p = Math.max(0, p - Math.max(b1.size / b2.size, 1));
+            b2.unlink(ghost);
+            replace(true);
+            t2.linkLast(node);
+            return;
+        }
+
+        // Key not seen recently
+        int total = t1.size + t2.size + b1.size + b2.size;
+        if (t1.size + b1.size >= capacity) {
+            if (t1.size < capacity) {
+                dropGhost(b1.head);
+                replace(false);
+            } else {
+                evict(t1.head);
+            }
+        } else if (total >= capacity) {
+            if (total >= 2 * capacity) {
+                dropGhost(b2.head);
+            }
+            replace(false);
+        }
+        t1.linkLast(node);
+    }
+
+    /**
+     * Make room for one entry if the cache is full: demote the LRU of T1 to B1
+     * when T1 is over its target, else the LRU of T2 to B2.
+     * @param ghostInB2 Whether the incoming key was a B2 ghost hit
+     */
+    private void replace(boolean ghostInB2) {
+        if (t1.size + t2.size < getMaxSize()) {
+            // Room left (expired entries freed it)
+            return;
+        }
+        if (t1.size > 0 && (t1.size > p || (ghostInB2 && t1.size == p) || t2.size == 0)) {
+            b1.linkLast(evictToGhost(t1.head));
+        } else if (t2.size > 0) {
+            b2.linkLast(evictToGhost(t2.head));
+        }
+    }
+
+    @Override
+    protected void unlinkResident(Node node) {
+        if (t1.contains(node)) {
+            t1.unlink(node);
+        } else if (t2.contains(node)) {
+            t2.unlink(node);
+        }
+    }
+
+    @Override
+    protected void unlinkGhost(Node ghost) {
+        if (b1.contains(ghost)) {
+            b1.unlink(ghost);
+        } else if (b2.contains(ghost)) {
+            b2.unlink(ghost);
+        }
+    }
+
+    @Override
+    protected void clearQueues() {
+        t1.clear();
+        t2.clear();
+        b1.clear();
+        b2.clear();
+        p = 0;
+    }
+
+    @Override
+    protected int recentSizeLocked() {
+        return t1.size;
+    }
+
+    @Override
+    protected int recentTargetSizeLocked() {
+        return p;
+    }
+
+    @Override
+    public String getName() {
+        return "ARC";
+    }
+}
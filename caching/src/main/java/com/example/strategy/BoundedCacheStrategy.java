@@ -0,0 +1,46 @@
+package com.example.strategy;
+
+/**
+ * Cache strategy with a capacity bound and per-entry TTL.
+ * Lets scenarios configure any LRU-style strategy the same way
+ * and lets services read back eviction/expiration counters.
+ */
+public interface BoundedCacheStrategy extends CacheStrategy {
+
+    /**
+     * Set the maximum number of entries
+     * Existing entries may be dropped when the capacity changes
+     * @param maxSize Maximum number of entries
+     */
+    void setMaxSize(int maxSize);
+
+    int getMaxSize();
+
+    /**
+     * Set the time-to-live applied to new entries
+     * @param ttlMs TTL in milliseconds
+     */
+    void setTtlMs(long ttlMs);
+
+    long getTtlMs();
+
+    /**
+     * Whether a hit extends the entry's TTL
+     * @param resetTtlOnAccess true to reset TTL on every hit
+     */
+    void setResetTtlOnAccess(boolean resetTtlOnAccess);
+
+    int getHits();
+
+    int getMisses();
+
+    int getEvictions();
+
+    int getExpirations();
+
+    /**
+     * Get the strategy name used in test results
+     * @return Strategy identifier
+     */
+    String getName();
+}
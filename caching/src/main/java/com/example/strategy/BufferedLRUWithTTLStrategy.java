@@ -0,0 +1,342 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffered LRU with TTL Cache Strategy
+ * LRU cache whose read path never takes a lock.
+ *
+ * Features:
+ * - Lookups go straight to a ConcurrentHashMap
+ * - Hits are recorded in lossy, striped ring buffers instead of reordering the LRU list
+ * - Buffered accesses are replayed into the LRU list in batches by whichever
+ *   thread wins a tryLock on the eviction lock
+ * - Writes are queued and applied under the eviction lock, never dropped
+ *
+ * When a read buffer is full the access event is dropped, so LRU order is
+ * approximate under heavy read load. Dropped events are counted to show the
+ * accuracy cost of the lock-free hit path.
+ */
+@Component
+public class BufferedLRUWithTTLStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    // Pending accesses that trigger a drain attempt
+    private static final int DRAIN_THRESHOLD = 8;
+
+    /**
+     * Cache entry that is also a node of the LRU list.
+     * prev/next/linked are guarded by the eviction lock.
+     */
+    private static class Node {
+        final String key;
+        final String value;
+        volatile long expirationTime;
+        Node prev;
+        Node next;
+        boolean linked;
+
+        Node(String key, String value, long expirationTime) {
+            this.key = key;
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Node> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    private volatile StripedReadBuffer<Node> readBuffer = new StripedReadBuffer<>();
+
+    // LRU list, guarded by evictionLock (head = least recently used)
+    private Node head;
+    private Node tail;
+    private int listSize;
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder droppedAccessEvents = new LongAdder();
+    private final AtomicInteger evictions = new AtomicInteger(0);
+    private final AtomicInteger expirations = new AtomicInteger(0);
+
+    // Configurable parameters (can be overridden per scenario)
+    private volatile int maxSize;
+    private volatile long ttlMs;
+    private volatile boolean resetTtlOnAccess;
+
+    public BufferedLRUWithTTLStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+    }
+
+    @Override
+    public String get(String key) {
+        Node node = data.get(key);
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        long now = clock.currentTimeMillis();
+        if (node.isExpired(now)) {
+            if (data.remove(key, node)) {
+                expirations.incrementAndGet();
+                writeBuffer.add(() -> unlink(node));
+                tryDrain();
+            }
+            misses.increment();
+            return null;
+        }
+
+        // Optionally reset TTL on access
+        if (resetTtlOnAccess) {
+            node.expirationTime = now + ttlMs;
+        }
+
+        hits.increment();
+        recordAccess(node);
+        return node.value;
+    }
+
+    @Override
+    public void put(String key, String value) {
+        Node node = new Node(key, value, clock.currentTimeMillis() + ttlMs);
+        Node previous = data.put(key, node);
+        writeBuffer.add(() -> {
+            if (previous != null) {
+                unlink(previous);
+            }
+            linkLast(node);
+        });
+
+        // Writes must not be lost, so wait for the lock instead of trying
+        evictionLock.lock();
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Record a hit in this thread's read buffer.
+     * Drops the event if the buffer is full.
+     */
+    private void recordAccess(Node node) {
+        long pending = readBuffer.offer(node);
+        if (pending < 0) {
+            droppedAccessEvents.increment();
+            tryDrain();
+        } else if (pending >= DRAIN_THRESHOLD) {
+            tryDrain();
+        }
+    }
+
+    private void tryDrain() {
+        if (evictionLock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replay buffered reads and writes, then evict down to maxSize.
+     * Must hold evictionLock.
+     */
+    private void maintenance() {
+        readBuffer.drainTo(this::onAccess);
+
+        Runnable task;
+        while ((task = writeBuffer.poll()) != null) {
+            task.run();
+        }
+
+        while (listSize > maxSize && head != null) {
+            Node eldest = head;
+            unlink(eldest);
+            if (data.remove(eldest.key, eldest)) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    // LRU list operations, must hold evictionLock
+
+    private void onAccess(Node node) {
+        if (node.linked && node != tail) {
+            unlink(node);
+            linkLast(node);
+        }
+    }
+
+    private void linkLast(Node node) {
+        node.prev = tail;
+        node.next = null;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        node.linked = true;
+        listSize++;
+    }
+
+    private void unlink(Node node) {
+        if (!node.linked) {
+            return;
+        }
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.linked = false;
+        listSize--;
+    }
+
+    /**
+     * Drop all entries and pending events. Must hold evictionLock.
+     */
+    private void clear() {
+        data.clear();
+        writeBuffer.clear();
+        readBuffer = new StripedReadBuffer<>();
+        head = null;
+        tail = null;
+        listSize = 0;
+    }
+
+    @Override
+    public void reset() {
+        evictionLock.lock();
+        try {
+            clear();
+            hits.reset();
+            misses.reset();
+            droppedAccessEvents.reset();
+            evictions.set(0);
+            expirations.set(0);
+
+            // Re-read config values
+            if (cacheConfig != null) {
+                this.maxSize = cacheConfig.getMaxSize();
+                this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+                this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public void setMaxSize(int maxSize) {
+        evictionLock.lock();
+        try {
+            this.maxSize = maxSize;
+            clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.intValue();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.intValue();
+    }
+
+    @Override
+    public int getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public int getExpirations() {
+        return expirations.get();
+    }
+
+    /**
+     * Get the number of hit events dropped because a read buffer was full.
+     * These hits were served but did not update the LRU order.
+     */
+    public int getDroppedAccessEvents() {
+        return droppedAccessEvents.intValue();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int totalRequests = getHits() + getMisses();
+        if (totalRequests == 0) return 0.0;
+        return (double) getHits() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Buffered-LRU-with-TTL";
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.strategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary snapshot of cache contents.
+ *
+ * File layout:
+ * - Header: [int magic][int version][long snapshotTimeMs]
+ * - Chunks: [int entryCount][int payloadBytes][entries...], repeated to EOF
+ * - Entry: [long remainingTtlMs][int keyLength][int valueLength][key][value],
+ *   key and value UTF-8 encoded
+ *
+ * Entries are kept in the order given (for an LRU: least recently used first).
+ * Writing streams one chunk at a time through a FileChannel. Reading first
+ * walks the chunk headers, then decodes chunks in parallel with positional
+ * reads and concatenates them back in file order.
+ */
+public final class CacheSnapshot {
+
+    private static final int MAGIC = 0x43534E50;  // "CSNP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int CHUNK_HEADER_BYTES = Integer.BYTES * 2;
+    private static final int ENTRY_HEADER_BYTES = Long.BYTES + Integer.BYTES * 2;
+    private static final int CHUNK_ENTRIES = 1024;
+
+    /**
+     * One cached entry with the TTL it had left when the snapshot was taken.
+     */
+    public record Entry(String key, String value, long remainingTtlMs) {
+    }
+
+    /**
+     * Decoded snapshot contents.
+     */
+    public record Contents(long snapshotTimeMs, List<Entry> entries) {
+    }
+
+    private CacheSnapshot() {
+    }
+
+    /**
+     * Write entries to a new snapshot file, replacing any existing one.
+     * @return Bytes written
+     */
+    public static long write(Path path, long snapshotTimeMs, List<Entry> entries) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(snapshotTimeMs)
+                .flip();
+            writeFully(channel, header);
+
+            for (int start = 0; start < entries.size(); start += CHUNK_ENTRIES) {
+                writeChunk(channel, entries.subList(start, Math.min(entries.size(), start + CHUNK_ENTRIES)));
+            }
+            return channel.position();
+        }
+    }
+
+    private static void writeChunk(FileChannel channel, List<Entry> chunk) throws IOException {
+        List<byte[]> encoded = new ArrayList<>(chunk.size() * 2);
+        int payloadBytes = 0;
+        for (Entry entry : chunk) {
+            byte[] keyBytes = entry.key().getBytes(StandardCharsets.UTF_8);
+            byte[] valueBytes = entry.value().getBytes(StandardCharsets.UTF_8);
+            encoded.add(keyBytes);
+            encoded.add(valueBytes);
+            payloadBytes += ENTRY_HEADER_BYTES + keyBytes.length + valueBytes.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_HEADER_BYTES + payloadBytes)
+            .putInt(chunk.size())
+            .putInt(payloadBytes);
+        for (int i = 0; i < chunk.size(); i++) {
+            byte[] keyBytes = encoded.get(i * 2);
+            byte[] valueBytes = encoded.get(i * 2 + 1);
+            buffer.putLong(chunk.get(i).remainingTtlMs())
+                .putInt(keyBytes.length)
+                .putInt(valueBytes.length)
+                .put(keyBytes)
+                .put(valueBytes);
+        }
+        writeFully(channel, buffer.flip());
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Read a snapshot, decoding its chunks in parallel.
+     * @throws IOException If the file is unreadable or not a snapshot
+     */
+    public static Contents read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 0, HEADER_BYTES);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw new IOException("Not a cache snapshot: " + path);
+            }
+            long snapshotTimeMs = header.getLong();
+
+            // Walk the chunk headers so each chunk can be decoded independently
+            List<long[]> chunks = new ArrayList<>();  // {payloadPosition, entryCount, payloadBytes}
+            long position = HEADER_BYTES;
+            long size = channel.size();
+            while (position < size) {
+                ByteBuffer chunkHeader = readFully(channel, position, CHUNK_HEADER_BYTES);
+                int entryCount = chunkHeader.getInt();
+                int payloadBytes = chunkHeader.getInt();
+                chunks.add(new long[] {position + CHUNK_HEADER_BYTES, entryCount, payloadBytes});
+                position += CHUNK_HEADER_BYTES + payloadBytes;
+            }
+
+            List<List<Entry>> decoded = chunks.parallelStream()
+                .map(chunk -> decodeChunk(channel, chunk[0], (int) chunk[1], (int) chunk[2]))
+                .toList();
+
+            List<Entry> entries = new ArrayList<>();
+            decoded.forEach(entries::addAll);
+            return new Contents(snapshotTimeMs, entries);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static List<Entry> decodeChunk(FileChannel channel, long position, int entryCount, int payloadBytes) {
+        try {
+            ByteBuffer buffer = readFully(channel, position, payloadBytes);
+            List<Entry> entries = new ArrayList<>(entryCount);
+            for (int i = 0; i < entryCount; i++) {
+                long remainingTtlMs = buffer.getLong();
+                int keyLength = buffer.getInt();
+                int valueLength = buffer.getInt();
+                String key = new String(buffer.array(), buffer.position(), keyLength, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + keyLength);
+                String value = new String(buffer.array(), buffer.position(), valueLength, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + valueLength);
+                entries.add(new Entry(key, value, remainingTtlMs));
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Positional read of exactly length bytes (safe to call from several threads).
+     */
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Truncated cache snapshot");
+            }
+        }
+        return buffer.flip();
+    }
+}
@@ -1,5 +1,15 @@
 package com.example.strategy;
 
+import com.example.vo.LoadResult;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 /**
  * Interface for cache strategy implementations
  * Defines how cache operations (get, put, eviction) are handled
@@ -13,6 +23,88 @@ public interface CacheStrategy {
      */
     String get(String key);
     
+    /**
+     * Retrieve a value, loading it on a miss
+     * The default is get, then loader, then put. Strategies override this
+     * to control the load themselves (coalescing, stale serving, refresh).
+     * @param key The cache key
+     * @param loader Backend fetch for the key
+     * @return The value and how it was obtained
+     */
+    default LoadResult get(String key, Function<String, String> loader) {
+        String value = get(key);
+        if (value != null) {
+            return LoadResult.hit(value);
+        }
+        value = loader.apply(key);
+        put(key, value);
+        return LoadResult.loaded(value);
+    }
+    
+    /**
+     * Retrieve a value, loading it asynchronously on a miss
+     * Hits complete immediately; the caller's thread is never blocked on the loader.
+     * @param key The cache key
+     * @param asyncLoader Backend fetch for the key
+     * @return Future of the value and how it was obtained
+     */
+    default CompletableFuture<LoadResult> getAsync(
+            String key, Function<String, CompletableFuture<String>> asyncLoader) {
+        String value = get(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(LoadResult.hit(value));
+        }
+        return asyncLoader.apply(key).thenApply(loaded -> {
+            put(key, loaded);
+            return LoadResult.loaded(loaded);
+        });
+    }
+    
+    /**
+     * Retrieve several values at once
+     * The default looks keys up one by one. Strategies override this to
+     * take their lock once per batch instead of once per key.
+     * @param keys The cache keys
+     * @return Cached values by key; missing and expired keys are left out
+     */
+    default Map<String, String> getAll(Collection<String> keys) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String key : keys) {
+            String value = get(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+    
+    /**
+     * Retrieve several values, loading all misses with one batch call
+     * @param keys The cache keys
+     * @param batchLoader Backend fetch for the missing keys, called at most once
+     * @return The value for every key and how it was obtained
+     */
+    default Map<String, LoadResult> getAll(
+            Collection<String> keys, Function<Collection<String>, Map<String, String>> batchLoader) {
+        Map<String, String> cached = getAll(keys);
+        Map<String, LoadResult> results = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            String value = cached.get(key);
+            if (value != null) {
+                results.put(key, LoadResult.hit(value));
+            } else {
+                missing.add(key);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<String, String> loaded = batchLoader.apply(missing);
+            putAll(loaded);
+            loaded.forEach((key, value) -> results.put(key, LoadResult.loaded(value)));
+        }
+        return results;
+    }
+    
     /**
      * Store a value in cache
      * @param key The cache key
@@ -20,6 +112,14 @@ public interface CacheStrategy {
      */
     void put(String key, String value);
     
+    /**
+     * Store several values at once
+     * @param entries Values to cache, by key
+     */
+    default void putAll(Map<String, String> entries) {
+        entries.forEach(this::put);
+    }
+    
     /**
      * Reset the cache to initial state
      * Called before each test scenario
@@ -32,4 +132,3 @@ public interface CacheStrategy {
      */
     int size();
 }
-
@@ -0,0 +1,370 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Clustered Cache Strategy
+ * Simulates a fleet of independent cache nodes partitioned by consistent hashing.
+ *
+ * Features:
+ * - N nodes, each its own LRUWithTTLStrategy with maxSize / N capacity
+ * - Keys routed with a consistent-hash ring (virtual nodes per node)
+ * - Every get and put pays a simulated network hop to its node
+ * - Nodes can be added or removed mid-run; a removed node's entries are
+ *   lost and the keys it owned miss on their new node until refetched
+ * - Per-node request counts for load and fairness reporting
+ */
+@Component
+public class ClusteredCacheStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected; passed on to every node
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    // Ring and node map are guarded by lock; node strategies are thread-safe on their own
+    private ConsistentHashRing ring;
+    private final Map<String, LRUWithTTLStrategy> nodes = new LinkedHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private int nextNodeId;
+
+    // Statistics
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+    private final Map<String, AtomicInteger> nodeRequests = new ConcurrentHashMap<>();
+    private int removedEvictions;  // Counters of nodes no longer in the cluster
+    private int removedExpirations;
+
+    // Configurable parameters (can be overridden per scenario)
+    private int nodeCount;
+    private int virtualNodes;
+    private long hopLatencyMicros;
+    private int maxSize;
+    private long ttlMs;
+    private boolean resetTtlOnAccess;
+
+    public ClusteredCacheStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.nodeCount = 4;
+        this.virtualNodes = 150;
+        this.hopLatencyMicros = 200;
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+        initCluster();
+    }
+
+    /**
+     * Replace every node with a fresh, empty one.
+     */
+    private void initCluster() {
+        lock.writeLock().lock();
+        try {
+            nodes.clear();
+            nodeRequests.clear();
+            removedEvictions = 0;
+            removedExpirations = 0;
+            nextNodeId = 1;
+            ring = new ConsistentHashRing(virtualNodes);
+            for (int i = 0; i < nodeCount; i++) {
+                addNodeLocked();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Each node gets an equal share of the cluster capacity set through setMaxSize.
+     */
+    private int nodeMaxSize() {
+        return Math.max(1, (maxSize + nodeCount - 1) / nodeCount);
+    }
+
+    private String addNodeLocked() {
+        String id = "node-" + nextNodeId++;
+        LRUWithTTLStrategy node = new LRUWithTTLStrategy();
+        node.setClock(clock);
+        node.setMaxSize(nodeMaxSize());
+        node.setTtlMs(ttlMs);
+        node.setResetTtlOnAccess(resetTtlOnAccess);
+        nodes.put(id, node);
+        nodeRequests.put(id, new AtomicInteger(0));
+        ring.addNode(id);
+        return id;
+    }
+
+    /**
+     * Add an empty node with the same capacity as the others.
+     * @return The new node's id
+     */
+    public String addNode() {
+        lock.writeLock().lock();
+        try {
+            return addNodeLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a node and drop its entries.
+     * @return true if the node existed and was not the last one
+     */
+    public boolean removeNode(String id) {
+        lock.writeLock().lock();
+        try {
+            if (nodes.size() <= 1 || !nodes.containsKey(id)) {
+                return false;
+            }
+            ring.removeNode(id);
+            LRUWithTTLStrategy node = nodes.remove(id);
+            removedEvictions += node.getEvictions();
+            removedExpirations += node.getExpirations();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get the id of the node a key routes to.
+     */
+    public String nodeFor(String key) {
+        lock.readLock().lock();
+        try {
+            return ring.nodeFor(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Route a key to its node and pay the network hop.
+     */
+    private LRUWithTTLStrategy route(String key) {
+        String id;
+        LRUWithTTLStrategy node;
+        lock.readLock().lock();
+        try {
+            id = ring.nodeFor(key);
+            node = nodes.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+        nodeRequests.computeIfAbsent(id, k -> new AtomicInteger(0)).incrementAndGet();
+        // Hops take no wall time on the simulator's virtual clock
+        if (hopLatencyMicros > 0 && !clock.isVirtual()) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(hopLatencyMicros));
+        }
+        return node;
+    }
+
+    @Override
+    public String get(String key) {
+        String value = route(key).get(key);
+        if (value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return value;
+    }
+
+    @Override
+    public void put(String key, String value) {
+        route(key).put(key, value);
+    }
+
+    @Override
+    public void reset() {
+        hits.set(0);
+        misses.set(0);
+
+        // Re-read config values
+        if (cacheConfig != null) {
+            // At least one node with one ring point, or route() finds no owner
+            this.nodeCount = Math.max(1, cacheConfig.getClusterNodes());
+            this.virtualNodes = Math.max(1, cacheConfig.getClusterVirtualNodes());
+            this.hopLatencyMicros = cacheConfig.getClusterHopLatencyMicros();
+            this.maxSize = cacheConfig.getMaxSize();
+            this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+            this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+        }
+        initCluster();
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            int size = 0;
+            for (LRUWithTTLStrategy node : nodes.values()) {
+                size += node.size();
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Configuration methods for scenarios (maxSize is the whole cluster's capacity)
+    @Override
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        initCluster();
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+        lock.readLock().lock();
+        try {
+            nodes.values().forEach(node -> node.setTtlMs(ttlMs));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+        lock.readLock().lock();
+        try {
+            nodes.values().forEach(node -> node.setResetTtlOnAccess(resetTtlOnAccess));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Set the number of nodes until the next reset(). Clears the cluster.
+     */
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = Math.max(1, nodeCount);
+        initCluster();
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public int getEvictions() {
+        lock.readLock().lock();
+        try {
+            int evictions = removedEvictions;
+            for (LRUWithTTLStrategy node : nodes.values()) {
+                evictions += node.getEvictions();
+            }
+            return evictions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int getExpirations() {
+        lock.readLock().lock();
+        try {
+            int expirations = removedExpirations;
+            for (LRUWithTTLStrategy node : nodes.values()) {
+                expirations += node.getExpirations();
+            }
+            return expirations;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get requests routed to each node (including removed ones) since the last reset.
+     */
+    public Map<String, Integer> getNodeRequests() {
+        Map<String, Integer> counts = new TreeMap<>();
+        nodeRequests.forEach((id, count) -> counts.put(id, count.get()));
+        return counts;
+    }
+
+    /**
+     * Get and zero the per-node request counts, e.g. between phases of a run.
+     */
+    public Map<String, Integer> drainNodeRequests() {
+        Map<String, Integer> counts = new TreeMap<>();
+        nodeRequests.forEach((id, count) -> counts.put(id, count.getAndSet(0)));
+        return counts;
+    }
+
+    /**
+     * Get the entries held by each node currently in the ring.
+     */
+    public Map<String, Integer> getNodeSizes() {
+        lock.readLock().lock();
+        try {
+            Map<String, Integer> sizes = new LinkedHashMap<>();
+            nodes.forEach((id, node) -> sizes.put(id, node.size()));
+            return sizes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getNodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+
+    public long getHopLatencyMicros() {
+        return hopLatencyMicros;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int totalRequests = hits.get() + misses.get();
+        if (totalRequests == 0) return 0.0;
+        return (double) hits.get() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Consistent-Hash-Cluster";
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.strategy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent-hash ring mapping keys to node ids.
+ * Each node is placed at virtualNodes points (MD5 of "node-vnode-i"), and a
+ * key belongs to the first point at or after its own hash, wrapping around.
+ * Adding or removing a node only moves the keys between it and its neighbours.
+ *
+ * Not thread-safe; callers guard it with their own lock.
+ */
+final class ConsistentHashRing {
+
+    private final int virtualNodes;
+    private final SortedMap<Integer, String> ring = new TreeMap<>();
+
+    ConsistentHashRing(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+
+    void addNode(String node) {
+        for (int virtualNode = 0; virtualNode < virtualNodes; virtualNode++) {
+            ring.put(hashKey(node + "-vnode-" + virtualNode), node);
+        }
+    }
+
+    void removeNode(String node) {
+        for (int virtualNode = 0; virtualNode < virtualNodes; virtualNode++) {
+            ring.remove(hashKey(node + "-vnode-" + virtualNode), node);
+        }
+    }
+
+    /**
+     * Get the node owning a key, or null if the ring is empty.
+     */
+    String nodeFor(String key) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        SortedMap<Integer, String> tailMap = ring.tailMap(hashKey(key));
+        return tailMap.isEmpty() ? ring.get(ring.firstKey()) : tailMap.get(tailMap.firstKey());
+    }
+
+    private static int hashKey(String key) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] digest = md.digest(key.getBytes(StandardCharsets.UTF_8));
+
+            // Convert first 4 bytes to int
+            int hash = 0;
+            for (int i = 0; i < 4; i++) {
+                hash = (hash << 8) | (digest[i] & 0xFF);
+            }
+            return hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("MD5 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.example.strategy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Append-only, memory-mapped segment files with an in-memory offset index.
+ *
+ * Record layout: [int keyLength][int valueLength][long expirationTime][key][value],
+ * key and value UTF-8 encoded. Records are appended to the active segment;
+ * when it is full it is sealed and a new one is mapped. Overwrites and
+ * removals only mark the old record dead. A sealed segment whose live bytes
+ * drop below the compaction threshold is rewritten into the active segment
+ * and its file deleted. When the mapped total exceeds the byte budget the
+ * oldest segment is dropped whole (FIFO eviction).
+ *
+ * Values are read straight out of the mapping through a slice; the only copy
+ * is the UTF-8 decode into the returned String.
+ *
+ * Not thread-safe; callers guard it with their own lock.
+ */
+final class DiskSegmentStore {
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int EXPIRES_OFFSET = Integer.BYTES * 2;
+    private static final String SEGMENT_FORMAT = "segment-%06d.dat";
+    private static final String SEGMENT_GLOB = "segment-*.dat";
+
+    /**
+     * Where a live record sits.
+     */
+    private record Location(Segment segment, int offset, int keyLength, int valueLength, long expirationTime) {
+        int recordLength() {
+            return HEADER_BYTES + keyLength + valueLength;
+        }
+    }
+
+    /**
+     * One mapped segment file.
+     */
+    private static final class Segment {
+        final Path path;
+        final MappedByteBuffer buffer;
+        final Set<String> keys = new HashSet<>();
+        int writeOffset;
+        int liveBytes;
+
+        Segment(Path path, MappedByteBuffer buffer) {
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long maxBytes;
+    private final double compactionThreshold;
+
+    private final Map<String, Location> index = new HashMap<>();
+    private final Deque<Segment> segments = new ArrayDeque<>();  // Oldest first, active last
+    private Segment active;
+    private int nextSegmentId;
+
+    // Statistics
+    private int expirations;
+    private int evictions;  // Live records dropped with an evicted segment
+    private int compactions;
+    private int rejected;  // Records larger than a segment
+
+    /**
+     * @param directory Where segment files are created (must exist)
+     * @param segmentBytes Size of each mapped segment file
+     * @param maxBytes Total mapped bytes before the oldest segment is dropped
+     * @param compactionThreshold Live fraction below which a sealed segment is compacted
+     */
+    DiskSegmentStore(Path directory, int segmentBytes, long maxBytes, double compactionThreshold) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxBytes = Math.max(segmentBytes, maxBytes);
+        this.compactionThreshold = compactionThreshold;
+        this.active = newSegment();
+    }
+
+    /**
+     * Append a record, replacing any previous record for the key.
+     */
+    void append(String key, String value, long expirationTime) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        int recordLength = HEADER_BYTES + keyBytes.length + valueBytes.length;
+        if (recordLength > segmentBytes) {
+            rejected++;
+            remove(key);
+            return;
+        }
+
+        remove(key);
+        ensureRoom(recordLength);
+
+        ByteBuffer buffer = active.buffer;
+        int offset = active.writeOffset;
+        buffer.putInt(offset, keyBytes.length);
+        buffer.putInt(offset + Integer.BYTES, valueBytes.length);
+        buffer.putLong(offset + EXPIRES_OFFSET, expirationTime);
+        buffer.put(offset + HEADER_BYTES, keyBytes);
+        buffer.put(offset + HEADER_BYTES + keyBytes.length, valueBytes);
+        link(key, new Location(active, offset, keyBytes.length, valueBytes.length, expirationTime));
+        active.writeOffset += recordLength;
+    }
+
+    /**
+     * Read a value, dropping it if its TTL has passed.
+     * @return The value, or null if absent or expired
+     */
+    String read(String key, long now) {
+        Location location = index.get(key);
+        if (location == null) {
+            return null;
+        }
+        if (now > location.expirationTime()) {
+            unlink(key, location);
+            expirations++;
+            return null;
+        }
+        ByteBuffer value = location.segment().buffer.slice(
+            location.offset() + HEADER_BYTES + location.keyLength(), location.valueLength());
+        return StandardCharsets.UTF_8.decode(value).toString();
+    }
+
+    /**
+     * Get the stored expiration time of a key.
+     * @return Milliseconds since the epoch, or Long.MIN_VALUE if absent
+     */
+    long expirationTime(String key) {
+        Location location = index.get(key);
+        return location == null ? Long.MIN_VALUE : location.expirationTime();
+    }
+
+    /**
+     * Drop a key. The record's bytes stay in the file until compaction.
+     * @return true if the key was present
+     */
+    boolean remove(String key) {
+        Location location = index.get(key);
+        if (location == null) {
+            return false;
+        }
+        unlink(key, location);
+        return true;
+    }
+
+    private void link(String key, Location location) {
+        index.put(key, location);
+        location.segment().keys.add(key);
+        location.segment().liveBytes += location.recordLength();
+    }
+
+    private void unlink(String key, Location location) {
+        index.remove(key);
+        Segment segment = location.segment();
+        segment.keys.remove(key);
+        segment.liveBytes -= location.recordLength();
+        if (segment != active) {
+            maybeCompact(segment);
+        }
+    }
+
+    /**
+     * Seal the active segment if the record doesn't fit, then enforce the byte budget.
+     */
+    private void ensureRoom(int recordLength) {
+        if (active.writeOffset + recordLength <= segmentBytes) {
+            return;
+        }
+        active = newSegment();
+        while ((long) segments.size() * segmentBytes > maxBytes && segments.size() > 1) {
+            Segment oldest = segments.peekFirst();
+            evictions += oldest.keys.size();
+            for (String key : oldest.keys) {
+                index.remove(key);
+            }
+            oldest.keys.clear();
+            delete(oldest);
+        }
+    }
+
+    /**
+     * Rewrite a sealed segment's live records into the active segment if it is mostly dead.
+     */
+    private void maybeCompact(Segment segment) {
+        if (segment.keys.isEmpty()) {
+            delete(segment);
+            return;
+        }
+        if (segment.liveBytes >= segment.writeOffset * compactionThreshold) {
+            return;
+        }
+
+        compactions++;
+        List<String> keys = new ArrayList<>(segment.keys);
+        for (String key : keys) {
+            Location old = index.get(key);
+            if (old == null || old.segment() != segment) {
+                // Dropped by a budget eviction triggered earlier in this loop
+                continue;
+            }
+            int recordLength = old.recordLength();
+            segment.keys.remove(key);
+            segment.liveBytes -= recordLength;
+            ensureRoom(recordLength);
+            // Copy the raw record mapping-to-mapping
+            ByteBuffer record = segment.buffer.slice(old.offset(), recordLength);
+            active.buffer.put(active.writeOffset, record, 0, recordLength);
+            link(key, new Location(active, active.writeOffset, old.keyLength(),
+                old.valueLength(), old.expirationTime()));
+            active.writeOffset += recordLength;
+        }
+        delete(segment);
+    }
+
+    private Segment newSegment() {
+        Path path = directory.resolve(String.format(SEGMENT_FORMAT, nextSegmentId++));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed
+            Segment segment = new Segment(path, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes));
+            segments.addLast(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create segment " + path, e);
+        }
+    }
+
+    private void delete(Segment segment) {
+        segments.remove(segment);
+        try {
+            // The mapping is released when the buffer is garbage collected
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete segment " + segment.path, e);
+        }
+    }
+
+    /**
+     * Delete segment files left in a directory by a store that was never
+     * closed (e.g. a killed process), so a new store can reuse their names.
+     * Other files are left alone.
+     */
+    static void deleteStaleSegments(Path directory) throws IOException {
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, SEGMENT_GLOB)) {
+            for (Path path : stale) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Delete every segment file. The store must not be used afterwards.
+     */
+    void close() {
+        index.clear();
+        while (!segments.isEmpty()) {
+            delete(segments.peekFirst());
+        }
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    long getMappedBytes() {
+        return (long) segments.size() * segmentBytes;
+    }
+
+    long getLiveBytes() {
+        long total = 0;
+        for (Segment segment : segments) {
+            total += segment.liveBytes;
+        }
+        return total;
+    }
+
+    int getExpirations() {
+        return expirations;
+    }
+
+    int getEvictions() {
+        return evictions;
+    }
+
+    int getCompactions() {
+        return compactions;
+    }
+
+    int getRejected() {
+        return rejected;
+    }
+}
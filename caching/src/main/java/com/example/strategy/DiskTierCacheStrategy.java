@@ -0,0 +1,457 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Disk-Tier Cache Strategy
+ * In-memory LRU with TTL that spills evicted entries to a memory-mapped,
+ * append-only segment store instead of dropping them.
+ *
+ * Features:
+ * - Memory tier: access-ordered LinkedHashMap bounded by maxSize
+ * - Disk tier: DiskSegmentStore files with an in-memory offset index,
+ *   TTL stored in each record, compaction of mostly-dead segments and
+ *   FIFO segment eviction once cache.disk-max-bytes is reached
+ * - A disk hit moves the entry back into memory (which may spill another)
+ * - Disk reads are timed separately so RAM and disk sizing can be compared
+ * - Thread-safe via a single lock around both tiers
+ */
+@Component
+public class DiskTierCacheStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    // Cache entry with value and expiration time
+    private static class CacheEntry {
+        final String value;
+        long expirationTime;
+
+        CacheEntry(String value, long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+
+    // Memory tier using LinkedHashMap with access-order, spilling to disk
+    private LinkedHashMap<String, CacheEntry> memory;
+    private DiskSegmentStore disk;
+    private Path directory;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Statistics, guarded by lock
+    private int memoryHits;
+    private int diskHits;
+    private int misses;
+    private int memoryExpirations;
+    private int spills;  // Entries moved from memory to disk
+    private int diskLookups;  // Memory misses that checked the disk tier
+    private long totalDiskReadNanos;
+    private long maxDiskReadNanos;
+
+    // Configurable parameters (can be overridden per scenario)
+    private int maxSize;
+    private long ttlMs;
+    private boolean resetTtlOnAccess;
+    private int segmentBytes;
+    private long diskMaxBytes;
+    private double compactionThreshold;
+    private String configuredDirectory;
+
+    public DiskTierCacheStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+        this.segmentBytes = 1 << 20;
+        this.diskMaxBytes = 64L << 20;
+        this.compactionThreshold = 0.5;
+        this.configuredDirectory = "";
+        initMemory();
+        initDisk();
+    }
+
+    private void initMemory() {
+        // LinkedHashMap with accessOrder=true for LRU behavior
+        this.memory = new LinkedHashMap<String, CacheEntry>(maxSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > maxSize) {
+                    spill(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Replace the disk tier with an empty one, deleting the old segment files
+     * and any a previous process left behind in the configured directory.
+     */
+    private void initDisk() {
+        if (disk != null) {
+            disk.close();
+        }
+        try {
+            if (directory == null || !directory.toString().equals(configuredDirectory)) {
+                deleteTempDirectory();
+                directory = configuredDirectory.isBlank()
+                    ? Files.createTempDirectory("disk-tier-")
+                    : Files.createDirectories(Paths.get(configuredDirectory));
+            }
+            DiskSegmentStore.deleteStaleSegments(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create disk tier directory", e);
+        }
+        this.disk = new DiskSegmentStore(directory, segmentBytes, diskMaxBytes, compactionThreshold);
+    }
+
+    private void deleteTempDirectory() throws IOException {
+        if (directory != null && configuredDirectory.isBlank()) {
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lock.lock();
+        try {
+            disk.close();
+            deleteTempDirectory();
+        } catch (IOException e) {
+            // Best effort, the JVM is going away
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Move an entry evicted from memory to disk. Expired entries are dropped.
+     * Must hold the lock.
+     */
+    private void spill(String key, CacheEntry entry) {
+        if (entry.isExpired(clock.currentTimeMillis())) {
+            memoryExpirations++;
+            return;
+        }
+        disk.append(key, entry.value, entry.expirationTime);
+        spills++;
+    }
+
+    @Override
+    public String get(String key) {
+        lock.lock();
+        try {
+            long now = clock.currentTimeMillis();
+            CacheEntry entry = memory.get(key);
+
+            if (entry != null) {
+                if (entry.isExpired(now)) {
+                    // Never also on disk: promotion and put both clear the disk copy
+                    memory.remove(key);
+                    memoryExpirations++;
+                    misses++;
+                    return null;
+                }
+                if (resetTtlOnAccess) {
+                    entry.expirationTime = now + ttlMs;
+                }
+                memoryHits++;
+                return entry.value;
+            }
+
+            return readFromDisk(key, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Look a memory miss up on disk and promote it on a hit. Must hold the lock.
+     */
+    private String readFromDisk(String key, long now) {
+        diskLookups++;
+        long startTime = System.nanoTime();
+        long expirationTime = disk.expirationTime(key);
+        String value = disk.read(key, now);
+        long elapsed = System.nanoTime() - startTime;
+        totalDiskReadNanos += elapsed;
+        maxDiskReadNanos = Math.max(maxDiskReadNanos, elapsed);
+
+        if (value == null) {
+            misses++;
+            return null;
+        }
+
+        diskHits++;
+        disk.remove(key);
+        memory.put(key, new CacheEntry(value, resetTtlOnAccess ? now + ttlMs : expirationTime));
+        return value;
+    }
+
+    @Override
+    public void put(String key, String value) {
+        lock.lock();
+        try {
+            disk.remove(key);
+            memory.put(key, new CacheEntry(value, clock.currentTimeMillis() + ttlMs));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            memoryHits = 0;
+            diskHits = 0;
+            misses = 0;
+            memoryExpirations = 0;
+            spills = 0;
+            diskLookups = 0;
+            totalDiskReadNanos = 0;
+            maxDiskReadNanos = 0;
+
+            // Re-read config values
+            if (cacheConfig != null) {
+                this.maxSize = cacheConfig.getMaxSize();
+                this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+                this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+                this.segmentBytes = cacheConfig.getDiskSegmentBytes();
+                this.diskMaxBytes = cacheConfig.getDiskMaxBytes();
+                this.compactionThreshold = cacheConfig.getDiskCompactionThreshold();
+                this.configuredDirectory = cacheConfig.getDiskDirectory();
+            }
+            initMemory();
+            initDisk();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return memory.size() + disk.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Configuration methods for scenarios (maxSize bounds the memory tier)
+    @Override
+    public void setMaxSize(int maxSize) {
+        lock.lock();
+        try {
+            this.maxSize = maxSize;
+            initMemory();
+            initDisk();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        lock.lock();
+        try {
+            return memoryHits + diskHits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMisses() {
+        lock.lock();
+        try {
+            return misses;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Entries lost from both tiers (spilled entries are not evictions).
+     */
+    @Override
+    public int getEvictions() {
+        lock.lock();
+        try {
+            return disk.getEvictions();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getExpirations() {
+        lock.lock();
+        try {
+            return memoryExpirations + disk.getExpirations();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMemoryHits() {
+        lock.lock();
+        try {
+            return memoryHits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getDiskHits() {
+        lock.lock();
+        try {
+            return diskHits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the share of disk lookups (memory misses) that the disk tier answered.
+     */
+    public double getDiskHitRate() {
+        lock.lock();
+        try {
+            if (diskLookups == 0) return 0.0;
+            return (double) diskHits / diskLookups * 100;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getAverageDiskReadMicros() {
+        lock.lock();
+        try {
+            if (diskLookups == 0) return 0.0;
+            return totalDiskReadNanos / 1000.0 / diskLookups;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getMaxDiskReadMicros() {
+        lock.lock();
+        try {
+            return maxDiskReadNanos / 1000.0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSpills() {
+        lock.lock();
+        try {
+            return spills;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getDiskEntries() {
+        lock.lock();
+        try {
+            return disk.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getDiskSegments() {
+        lock.lock();
+        try {
+            return disk.getSegmentCount();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDiskMappedBytes() {
+        lock.lock();
+        try {
+            return disk.getMappedBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDiskLiveBytes() {
+        lock.lock();
+        try {
+            return disk.getLiveBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getDiskCompactions() {
+        lock.lock();
+        try {
+            return disk.getCompactions();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int hits = getHits();
+        int totalRequests = hits + getMisses();
+        if (totalRequests == 0) return 0.0;
+        return (double) hits / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Disk-Tier-LRU";
+    }
+}
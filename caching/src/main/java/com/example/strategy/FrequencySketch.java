@@ -0,0 +1,122 @@
+package com.example.strategy;
+
+/**
+ * 4-bit count-min sketch used as a TinyLFU frequency filter.
+ *
+ * Each long in the table holds sixteen 4-bit counters. A key maps to four
+ * counters (one per hash function) and its estimated frequency is the
+ * minimum of them. After sampleSize increments every counter is halved,
+ * so the sketch favours recent popularity over all-time popularity.
+ *
+ * Not thread-safe; callers guard it with their own lock.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+    private int resets;
+
+    FrequencySketch(int maximumSize) {
+        ensureCapacity(maximumSize);
+    }
+
+    /**
+     * Resize the table for a new cache capacity. Clears all counters.
+     */
+    void ensureCapacity(int maximumSize) {
+        int capacity = Math.max(1, maximumSize);
+        int tableSize = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = 10 * capacity;
+        this.size = 0;
+        this.resets = 0;
+    }
+
+    /**
+     * Estimated number of occurrences of the key, capped at 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Record one occurrence of the key, aging the sketch when the sample is full.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Halve every counter. Odd counters lose their low bit, which is
+     * accounted for when adjusting the sample size.
+     */
+    private void reset() {
+        int oddCount = 0;
+        for (int i = 0; i < table.length; i++) {
+            oddCount += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (oddCount >>> 2)) >>> 1;
+        resets++;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += (h >>> 32);
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    int getResets() {
+        return resets;
+    }
+
+    /**
+     * Size of the counter table in bytes.
+     */
+    int getSizeBytes() {
+        return table.length * Long.BYTES;
+    }
+}
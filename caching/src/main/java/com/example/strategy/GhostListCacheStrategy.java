@@ -0,0 +1,475 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Base for scan-resistant policies that remember recently evicted keys
+ * in ghost lists (ARC, 2Q).
+ *
+ * Features:
+ * - Lookups go straight to a ConcurrentHashMap and never take a lock
+ * - Hits are recorded in a lossy striped read buffer and replayed into the
+ *   policy's queues in batches, as in BufferedLRUWithTTLStrategy
+ * - Puts, evictions and ghost list updates run under one eviction lock
+ * - A put for a key found in a ghost list is a ghost hit: the key was
+ *   evicted too early, and the policy uses that to place it (and, for ARC,
+ *   to adapt its target sizes)
+ * - TTL-based expiration for resident entries
+ *
+ * Subclasses own the queues; every hook below is called with the lock held.
+ */
+public abstract class GhostListCacheStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    // Pending accesses that trigger a drain attempt
+    private static final int DRAIN_THRESHOLD = 8;
+
+    // Node is not in any queue
+    protected static final byte DETACHED = 0;
+
+    /**
+     * Resident entry or ghost (value == null) that is also a queue node.
+     * queue, prev and next are guarded by the eviction lock.
+     */
+    protected static final class Node {
+        final String key;
+        volatile String value;
+        volatile long expirationTime;
+        byte queue;
+        Node prev;
+        Node next;
+
+        Node(String key, String value, long expirationTime) {
+            this.key = key;
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+
+    /**
+     * Intrusive doubly-linked queue (head = oldest / least recently used).
+     */
+    protected static final class AccessQueue {
+        private final byte id;
+        Node head;
+        Node tail;
+        int size;
+
+        AccessQueue(byte id) {
+            this.id = id;
+        }
+
+        void linkLast(Node node) {
+            node.queue = id;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void unlink(Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.queue = DETACHED;
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToTail(Node node) {
+            if (node != tail) {
+                unlink(node);
+                linkLast(node);
+            }
+        }
+
+        boolean contains(Node node) {
+            return node.queue == id;
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Node> data = new ConcurrentHashMap<>();
+    private final HashMap<String, Node> ghosts = new HashMap<>();  // Guarded by lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile StripedReadBuffer<Node> readBuffer = new StripedReadBuffer<>();
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder droppedAccessEvents = new LongAdder();
+    private final AtomicInteger evictions = new AtomicInteger(0);
+    private final AtomicInteger expirations = new AtomicInteger(0);
+    private final AtomicInteger recentGhostHits = new AtomicInteger(0);
+    private final AtomicInteger frequentGhostHits = new AtomicInteger(0);
+
+    // Configurable parameters (can be overridden per scenario)
+    private volatile int maxSize;
+    private volatile long ttlMs;
+    private volatile boolean resetTtlOnAccess;
+
+    protected GhostListCacheStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+    }
+
+    // Policy hooks, called with the lock held
+
+    /**
+     * Reorder a resident node after a hit.
+     */
+    protected abstract void onHit(Node node);
+
+    /**
+     * Insert a new resident node, making room first if the cache is full.
+     * @param ghost The key's ghost node if it was found in a ghost list, else null.
+     *              It is still linked in that list; admit must unlink it.
+     */
+    protected abstract void admit(Node node, Node ghost);
+
+    /**
+     * Take a resident node out of whichever queue holds it.
+     */
+    protected abstract void unlinkResident(Node node);
+
+    /**
+     * Take a ghost node out of whichever ghost list holds it.
+     */
+    protected abstract void unlinkGhost(Node ghost);
+
+    /**
+     * Empty every queue and re-derive sizes from getMaxSize().
+     */
+    protected abstract void clearQueues();
+
+    @Override
+    public String get(String key) {
+        Node node = data.get(key);
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        long now = clock.currentTimeMillis();
+        if (node.isExpired(now)) {
+            lock.lock();
+            try {
+                if (data.remove(key, node)) {
+                    unlinkResident(node);
+                    expirations.incrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+            misses.increment();
+            return null;
+        }
+
+        // Optionally reset TTL on access
+        if (resetTtlOnAccess) {
+            node.expirationTime = now + ttlMs;
+        }
+
+        hits.increment();
+        recordAccess(node);
+        return node.value;
+    }
+
+    @Override
+    public void put(String key, String value) {
+        long expirationTime = clock.currentTimeMillis() + ttlMs;
+        lock.lock();
+        try {
+            drainReadBuffer();
+
+            Node existing = data.get(key);
+            if (existing != null) {
+                existing.value = value;
+                existing.expirationTime = expirationTime;
+                onHit(existing);
+                return;
+            }
+
+            Node ghost = ghosts.remove(key);
+            Node node = new Node(key, value, expirationTime);
+            data.put(key, node);
+            admit(node, ghost);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record a hit in this thread's read buffer.
+     * Drops the event if the buffer is full.
+     */
+    private void recordAccess(Node node) {
+        long pending = readBuffer.offer(node);
+        if (pending < 0) {
+            droppedAccessEvents.increment();
+            tryDrain();
+        } else if (pending >= DRAIN_THRESHOLD) {
+            tryDrain();
+        }
+    }
+
+    private void tryDrain() {
+        if (lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Replay buffered hits. Must hold lock.
+     */
+    private void drainReadBuffer() {
+        readBuffer.drainTo(node -> {
+            // Skip nodes evicted or expired since the hit was buffered
+            if (node.queue != DETACHED && data.get(node.key) == node) {
+                onHit(node);
+            }
+        });
+    }
+
+    // Helpers for subclasses, must hold lock
+
+    /**
+     * Drop a resident node from the cache without remembering it.
+     */
+    protected void evict(Node node) {
+        unlinkResident(node);
+        data.remove(node.key, node);
+        evictions.incrementAndGet();
+    }
+
+    /**
+     * Evict a resident node and remember its key in a ghost list.
+     * @return The ghost node, for the caller to link into its ghost list
+     */
+    protected Node evictToGhost(Node node) {
+        evict(node);
+        Node ghost = new Node(node.key, null, 0);
+        ghosts.put(ghost.key, ghost);
+        return ghost;
+    }
+
+    /**
+     * Forget a ghost entirely.
+     */
+    protected void dropGhost(Node ghost) {
+        unlinkGhost(ghost);
+        ghosts.remove(ghost.key, ghost);
+    }
+
+    protected void recordRecentGhostHit() {
+        recentGhostHits.incrementAndGet();
+    }
+
+    protected void recordFrequentGhostHit() {
+        frequentGhostHits.incrementAndGet();
+    }
+
+    /**
+     * Drop all entries, ghosts and pending events. Must hold lock.
+     */
+    private void clear() {
+        data.clear();
+        ghosts.clear();
+        readBuffer = new StripedReadBuffer<>();
+        clearQueues();
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            hits.reset();
+            misses.reset();
+            droppedAccessEvents.reset();
+            evictions.set(0);
+            expirations.set(0);
+            recentGhostHits.set(0);
+            frequentGhostHits.set(0);
+
+            // Re-read config values
+            if (cacheConfig != null) {
+                this.maxSize = cacheConfig.getMaxSize();
+                this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+                this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+            }
+            clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public void setMaxSize(int maxSize) {
+        lock.lock();
+        try {
+            this.maxSize = maxSize;
+            clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.intValue();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.intValue();
+    }
+
+    @Override
+    public int getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public int getExpirations() {
+        return expirations.get();
+    }
+
+    /**
+     * Get the number of hit events dropped because a read buffer was full.
+     * These hits were served but did not update the policy's queues.
+     */
+    public int getDroppedAccessEvents() {
+        return droppedAccessEvents.intValue();
+    }
+
+    /**
+     * Get puts for keys found in the recency ghost list (ARC B1, 2Q A1out).
+     */
+    public int getRecentGhostHits() {
+        return recentGhostHits.get();
+    }
+
+    /**
+     * Get puts for keys found in the frequency ghost list (ARC B2).
+     */
+    public int getFrequentGhostHits() {
+        return frequentGhostHits.get();
+    }
+
+    /**
+     * Get the number of keys remembered in ghost lists.
+     */
+    public int getGhostEntries() {
+        lock.lock();
+        try {
+            return ghosts.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of resident entries in the recency queue (ARC T1, 2Q A1in).
+     */
+    public int getRecentSize() {
+        lock.lock();
+        try {
+            return recentSizeLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get the size the policy aims to keep the recency queue at
+     * (ARC's adaptive target p, 2Q's fixed Kin).
+     */
+    public int getRecentTargetSize() {
+        lock.lock();
+        try {
+            return recentTargetSizeLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected abstract int recentSizeLocked();
+
+    protected abstract int recentTargetSizeLocked();
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int totalRequests = getHits() + getMisses();
+        if (totalRequests == 0) return 0.0;
+        return (double) getHits() / totalRequests * 100;
+    }
+}
@@ -1,43 +1,80 @@
 package com.example.strategy;
 
 import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import com.example.infrastructure.CoarseClock;
+import com.example.vo.LoadResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * LRU with TTL Cache Strategy
  * Implements Least Recently Used eviction with Time-To-Live expiration.
  * 
  * Features:
- * - LRU eviction when cache is full
+ * - LRU eviction when cache is full, by entry count or, with a weight
+ *   budget (cache.max-weight-bytes), by total estimated bytes
  * - TTL-based expiration for entries
  * - Optional TTL reset on access (configurable)
+ * - Optional proactive expiration via a hierarchical timing wheel
+ *   driven by a coarse cached clock (cache.timing-wheel-enabled)
+ * - Optional probabilistic early expiration (XFetch, cache.xfetch-enabled):
+ *   a loading get may refetch a live entry early, with a probability that
+ *   rises as expiry nears and with the entry's measured recompute cost, so
+ *   keys written together don't all expire and refetch together
+ * - Snapshot and restore of contents, LRU order and remaining TTLs
+ *   (CacheSnapshot), optionally on shutdown/startup (cache.snapshot-path)
  * - Thread-safe operations
  */
 @Component
-public class LRUWithTTLStrategy implements CacheStrategy {
+public class LRUWithTTLStrategy implements WeightedCacheStrategy {
 
     @Autowired
     private CacheConfig cacheConfig;
 
-    // Cache entry with value and expiration time
-    private static class CacheEntry {
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    @Autowired
+    private CoarseClock coarseClock;
+
+    // Cache entry with value and expiration time (also a timing wheel timer)
+    private static class CacheEntry extends TimingWheel.Timer {
         final String value;
+        final long weight;
         long expirationTime;
+        long recomputeMs;  // How long the loader took to produce the value (XFetch delta)
 
-        CacheEntry(String value, long expirationTime) {
+        CacheEntry(String key, String value, long weight, long expirationTime) {
+            super(key);
             this.value = value;
+            this.weight = weight;
             this.expirationTime = expirationTime;
         }
 
-        boolean isExpired() {
-            return System.currentTimeMillis() > expirationTime;
+        boolean isExpired(long now) {
+            return now > expirationTime;
         }
     }
 
@@ -49,18 +86,45 @@ public class LRUWithTTLStrategy implements CacheStrategy {
     private final AtomicInteger hits = new AtomicInteger(0);
     private final AtomicInteger misses = new AtomicInteger(0);
     private final AtomicInteger evictions = new AtomicInteger(0);
-    private final AtomicInteger expirations = new AtomicInteger(0);
+    private final AtomicInteger expirations = new AtomicInteger(0);  // Lazy: found expired on get
+    private final AtomicInteger proactiveExpirations = new AtomicInteger(0);  // Removed by the timing wheel
+    private final AtomicInteger earlyRecomputes = new AtomicInteger(0);  // XFetch refetches before expiry
+
+    // Entry weights, guarded by the write lock
+    private long totalWeight;
+    private long evictedWeight;
+    private long hitWeight;
+    private long writtenWeight;
 
     // Configurable parameters (can be overridden per scenario)
     private int maxSize;
     private long ttlMs;
     private boolean resetTtlOnAccess;
+    private boolean timingWheelEnabled;
+    private boolean xfetchEnabled;
+    private double xfetchBeta;
+    private long maxWeight;  // 0 = bounded by maxSize
+    private Weigher weigher;
+
+    // Only set when proactive expiration is enabled
+    private TimingWheel timingWheel;
+
+    // Told about capacity evictions (not expirations), under the write lock
+    private Consumer<String> evictionListener = key -> { };
+
+    /**
+     * A live value with its expiration time.
+     */
+    public record ExpiringValue(String value, long expirationTime) {
+    }
 
     public LRUWithTTLStrategy() {
         // Initialize with defaults, will be overridden by config
         this.maxSize = 100;
         this.ttlMs = 5000;
         this.resetTtlOnAccess = true;
+        this.xfetchBeta = 1.0;
+        this.weigher = Weigher.estimatedBytes();
         initCache();
     }
 
@@ -69,54 +133,404 @@ public class LRUWithTTLStrategy implements CacheStrategy {
         this.cache = new LinkedHashMap<String, CacheEntry>(maxSize, 0.75f, true) {
             @Override
             protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
-                if (size() > maxSize) {
+                // With a weight budget, putEntryExpiringAt evicts instead
+                if (maxWeight <= 0 && size() > maxSize) {
                     evictions.incrementAndGet();
+                    totalWeight -= eldest.getValue().weight;
+                    evictedWeight += eldest.getValue().weight;
+                    if (timingWheel != null) {
+                        timingWheel.cancel(eldest.getValue());
+                    }
+                    evictionListener.accept(eldest.getKey());
                     return true;
                 }
                 return false;
             }
         };
+        this.totalWeight = 0;
+        this.timingWheel = timingWheelEnabled && coarseClock != null
+            ? new TimingWheel(coarseClock.getTickMs(), coarseClock.currentTimeMillis())
+            : null;
+    }
+
+    /**
+     * Current time for TTL checks.
+     * Uses the coarse clock when the timing wheel is on, avoiding a syscall per access.
+     */
+    private long now() {
+        return timingWheel != null ? coarseClock.currentTimeMillis() : clock.currentTimeMillis();
+    }
+
+    /**
+     * Advance the timing wheel and drop every entry whose TTL has passed.
+     * Must hold the write lock.
+     */
+    private void expireProactively(long now) {
+        if (timingWheel != null) {
+            timingWheel.advance(now, timer -> {
+                CacheEntry removed = cache.remove(timer.getKey());
+                if (removed != null) {
+                    totalWeight -= removed.weight;
+                }
+                proactiveExpirations.incrementAndGet();
+            });
+        }
     }
 
     @Override
     public String get(String key) {
         lock.writeLock().lock();
         try {
+            long now = now();
+            expireProactively(now);
+            return getEntry(key, now);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieve a value together with its expiration time, counted like get(key).
+     * @return The value and its expiry, or null on a miss
+     */
+    public ExpiringValue getWithExpiration(String key) {
+        lock.writeLock().lock();
+        try {
+            long now = now();
+            expireProactively(now);
+            String value = getEntry(key, now);
+            return value == null ? null : new ExpiringValue(value, cache.get(key).expirationTime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Record an access served from a copy elsewhere (an L1 tier): a live key
+     * moves to the most recently used end and, with resetTtlOnAccess, its TTL
+     * restarts. Not counted as a hit or miss.
+     */
+    public void touch(String key) {
+        lock.writeLock().lock();
+        try {
+            long now = now();
             CacheEntry entry = cache.get(key);
-            
-            if (entry == null) {
-                misses.incrementAndGet();
-                return null;
+            if (entry != null && !entry.isExpired(now) && resetTtlOnAccess) {
+                entry.expirationTime = now + ttlMs;
+                if (timingWheel != null) {
+                    timingWheel.schedule(entry, entry.expirationTime);
+                }
             }
-            
-            if (entry.isExpired()) {
-                cache.remove(key);
-                expirations.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieve a value, loading it on a miss.
+     * With XFetch on, a live entry is also reloaded when
+     * now + recomputeMs * beta * -ln(random) reaches its expiry; the value is
+     * stored with the measured load time as its next recompute cost.
+     */
+    @Override
+    public LoadResult get(String key, Function<String, String> loader) {
+        if (!xfetchEnabled) {
+            return WeightedCacheStrategy.super.get(key, loader);
+        }
+
+        lock.writeLock().lock();
+        try {
+            long now = now();
+            expireProactively(now);
+            CacheEntry entry = cache.get(key);
+            if (entry != null && !entry.isExpired(now) && shouldRecomputeEarly(entry, now)) {
+                earlyRecomputes.incrementAndGet();
                 misses.incrementAndGet();
-                return null;
+            } else {
+                String value = getEntry(key, now);
+                if (value != null) {
+                    return LoadResult.hit(value);
+                }
             }
-            
-            // Optionally reset TTL on access
-            if (resetTtlOnAccess) {
-                entry.expirationTime = System.currentTimeMillis() + ttlMs;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long startTime = System.nanoTime();
+        String value = loader.apply(key);
+        long recomputeMs = (System.nanoTime() - startTime) / 1_000_000;
+
+        lock.writeLock().lock();
+        try {
+            long now = now();
+            expireProactively(now);
+            putEntry(key, value, now).recomputeMs = recomputeMs;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return LoadResult.loaded(value);
+    }
+
+    /**
+     * XFetch: -ln(random) is exponentially distributed, so early recomputes are
+     * rare while expiry is far off (relative to the recompute cost) and
+     * near-certain just before it.
+     */
+    private boolean shouldRecomputeEarly(CacheEntry entry, long now) {
+        if (entry.recomputeMs <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();  // (0, 1], avoids ln(0)
+        return now - entry.recomputeMs * xfetchBeta * Math.log(random) >= entry.expirationTime;
+    }
+
+    /**
+     * Look up several keys under a single lock acquisition.
+     */
+    @Override
+    public Map<String, String> getAll(Collection<String> keys) {
+        Map<String, String> values = new LinkedHashMap<>();
+        lock.writeLock().lock();
+        try {
+            long now = now();
+            expireProactively(now);
+            for (String key : keys) {
+                String value = getEntry(key, now);
+                if (value != null) {
+                    values.put(key, value);
+                }
             }
-            
-            hits.incrementAndGet();
-            return entry.value;
         } finally {
             lock.writeLock().unlock();
         }
+        return values;
+    }
+
+    /**
+     * Look up a key, counting the hit or miss. Must hold the write lock.
+     */
+    private String getEntry(String key, long now) {
+        CacheEntry entry = cache.get(key);
+        
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        
+        if (entry.isExpired(now)) {
+            cache.remove(key);
+            totalWeight -= entry.weight;
+            if (timingWheel != null) {
+                timingWheel.cancel(entry);
+            }
+            expirations.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        
+        // Optionally reset TTL on access
+        if (resetTtlOnAccess) {
+            entry.expirationTime = now + ttlMs;
+            if (timingWheel != null) {
+                timingWheel.schedule(entry, entry.expirationTime);
+            }
+        }
+        
+        hits.incrementAndGet();
+        hitWeight += entry.weight;
+        return entry.value;
     }
 
     @Override
     public void put(String key, String value) {
         lock.writeLock().lock();
         try {
-            long expirationTime = System.currentTimeMillis() + ttlMs;
-            cache.put(key, new CacheEntry(value, expirationTime));
+            long now = now();
+            expireProactively(now);
+            putEntry(key, value, now);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Store several values under a single lock acquisition.
+     */
+    @Override
+    public void putAll(Map<String, String> entries) {
+        lock.writeLock().lock();
+        try {
+            long now = now();
+            expireProactively(now);
+            entries.forEach((key, value) -> putEntry(key, value, now));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert or replace an entry. Must hold the write lock.
+     */
+    private CacheEntry putEntry(String key, String value, long now) {
+        return putEntryExpiringAt(key, value, now + ttlMs);
+    }
+
+    /**
+     * Insert or replace an entry with an explicit expiration time. Must hold the write lock.
+     * With a weight budget, an entry heavier than the whole budget is not cached
+     * (any previous value for the key is still dropped).
+     */
+    private CacheEntry putEntryExpiringAt(String key, String value, long expirationTime) {
+        CacheEntry entry = new CacheEntry(key, value, weigher.weigh(key, value), expirationTime);
+        writtenWeight += entry.weight;
+        boolean admit = maxWeight <= 0 || entry.weight <= maxWeight;
+        CacheEntry previous = admit ? cache.put(key, entry) : cache.remove(key);
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        if (timingWheel != null) {
+            if (previous != null) {
+                timingWheel.cancel(previous);
+            }
+            if (admit) {
+                timingWheel.schedule(entry, entry.expirationTime);
+            }
+        }
+        if (admit) {
+            totalWeight += entry.weight;
+            evictToWeight();
+        }
+        return entry;
+    }
+
+    /**
+     * Evict least recently used entries until the weight budget is met.
+     * Must hold the write lock.
+     */
+    private void evictToWeight() {
+        if (maxWeight <= 0) {
+            return;
+        }
+        Iterator<CacheEntry> eldestFirst = cache.values().iterator();
+        while (totalWeight > maxWeight && eldestFirst.hasNext()) {
+            CacheEntry eldest = eldestFirst.next();
+            eldestFirst.remove();
+            totalWeight -= eldest.weight;
+            evictedWeight += eldest.weight;
+            evictions.incrementAndGet();
+            if (timingWheel != null) {
+                timingWheel.cancel(eldest);
+            }
+            evictionListener.accept(eldest.getKey());
+        }
+    }
+
+    /**
+     * Write contents, LRU order and remaining TTLs to a snapshot file.
+     * Entries are copied under the read lock; the file is written after it is released.
+     * @return Bytes written
+     */
+    public long writeSnapshot(Path path) {
+        List<CacheSnapshot.Entry> entries;
+        long now;
+        lock.readLock().lock();
+        try {
+            now = now();
+            entries = new ArrayList<>(cache.size());
+            // Iteration order is least recently used first
+            for (CacheEntry entry : cache.values()) {
+                if (!entry.isExpired(now)) {
+                    entries.add(new CacheSnapshot.Entry(entry.getKey(), entry.value, entry.expirationTime - now));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            return CacheSnapshot.write(path, now, entries);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write cache snapshot " + path, e);
+        }
+    }
+
+    /**
+     * Load a snapshot on top of the current contents, keeping its LRU order.
+     * Remaining TTLs count from the snapshot time, so time spent on disk is
+     * charged against them and entries that ran out meanwhile are skipped.
+     * If the snapshot holds more than maxSize entries, only the most recently
+     * used are loaded.
+     * @return Entries restored
+     */
+    public int restoreSnapshot(Path path) {
+        CacheSnapshot.Contents contents;
+        try {
+            // Decoding runs in parallel, outside the lock
+            contents = CacheSnapshot.read(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read cache snapshot " + path, e);
+        }
+
+        List<CacheSnapshot.Entry> entries = contents.entries();
+        int restored = 0;
+        lock.writeLock().lock();
+        try {
+            long now = now();
+            expireProactively(now);
+            // With a weight budget, eviction while loading keeps the most recent that fit
+            int first = maxWeight > 0 ? 0 : Math.max(0, entries.size() - maxSize);
+            for (int i = first; i < entries.size(); i++) {
+                CacheSnapshot.Entry entry = entries.get(i);
+                long expirationTime = contents.snapshotTimeMs() + entry.remainingTtlMs();
+                if (expirationTime > now) {
+                    putEntryExpiringAt(entry.key(), entry.value(), expirationTime);
+                    restored++;
+                }
+            }
         } finally {
             lock.writeLock().unlock();
         }
+        return restored;
+    }
+
+    /**
+     * Warm start: load cache.snapshot-path if it exists.
+     */
+    @PostConstruct
+    public void restoreOnStartup() {
+        Path path = snapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        reset();
+        try {
+            restoreSnapshot(path);
+        } catch (UncheckedIOException e) {
+            // An unreadable snapshot only costs the warm start
+        }
+    }
+
+    /**
+     * Save to cache.snapshot-path so the next start can be warm.
+     */
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        Path path = snapshotPath();
+        if (path == null) {
+            return;
+        }
+        try {
+            writeSnapshot(path);
+        } catch (UncheckedIOException e) {
+            // Best effort, the next start will just be cold
+        }
+    }
+
+    private Path snapshotPath() {
+        if (cacheConfig == null || cacheConfig.getSnapshotPath().isBlank()) {
+            return null;
+        }
+        return Paths.get(cacheConfig.getSnapshotPath());
     }
 
     @Override
@@ -128,12 +542,21 @@ public class LRUWithTTLStrategy implements CacheStrategy {
             misses.set(0);
             evictions.set(0);
             expirations.set(0);
+            proactiveExpirations.set(0);
+            earlyRecomputes.set(0);
+            evictedWeight = 0;
+            hitWeight = 0;
+            writtenWeight = 0;
             
             // Re-read config values
             if (cacheConfig != null) {
                 this.maxSize = cacheConfig.getMaxSize();
                 this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
                 this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+                this.timingWheelEnabled = cacheConfig.isTimingWheelEnabled();
+                this.xfetchEnabled = cacheConfig.isXfetchEnabled();
+                this.xfetchBeta = cacheConfig.getXfetchBeta();
+                this.maxWeight = cacheConfig.getMaxWeightBytes();
             }
             initCache();
         } finally {
@@ -170,6 +593,69 @@ public class LRUWithTTLStrategy implements CacheStrategy {
         this.resetTtlOnAccess = resetTtlOnAccess;
     }
 
+    /**
+     * Be told the key of each entry evicted for capacity (not expired ones).
+     * Called under the cache's write lock, so it must not call back into it.
+     */
+    public void setEvictionListener(Consumer<String> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    /**
+     * Use another clock for TTLs (an enclosing strategy passes its own).
+     */
+    public void setClock(CacheClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Switch proactive (timing wheel) expiration on or off until the next reset().
+     * Clears the cache.
+     */
+    public void setTimingWheelEnabled(boolean timingWheelEnabled) {
+        lock.writeLock().lock();
+        try {
+            this.timingWheelEnabled = timingWheelEnabled;
+            initCache();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void setWeigher(Weigher weigher) {
+        this.weigher = weigher;
+    }
+
+    @Override
+    public void setMaxWeight(long maxWeight) {
+        lock.writeLock().lock();
+        try {
+            this.maxWeight = maxWeight;
+            initCache();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Switch XFetch early recomputation on or off until the next reset().
+     * @param beta Values above 1.0 favour earlier recomputes, below 1.0 later ones
+     */
+    public void setXfetch(boolean enabled, double beta) {
+        this.xfetchEnabled = enabled;
+        this.xfetchBeta = beta;
+    }
+
+    public boolean isXfetchEnabled() {
+        return xfetchEnabled;
+    }
+
     // Statistics getters
     public int getHits() {
         return hits.get();
@@ -184,9 +670,74 @@ public class LRUWithTTLStrategy implements CacheStrategy {
     }
 
     public int getExpirations() {
+        return expirations.get() + proactiveExpirations.get();
+    }
+
+    /**
+     * Get entries found expired on access (lazy expiration).
+     */
+    public int getLazyExpirations() {
         return expirations.get();
     }
 
+    /**
+     * Get entries removed by the timing wheel before anyone asked for them.
+     */
+    public int getProactiveExpirations() {
+        return proactiveExpirations.get();
+    }
+
+    @Override
+    public long getWeightedSize() {
+        lock.readLock().lock();
+        try {
+            return totalWeight;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long getEvictedWeight() {
+        lock.readLock().lock();
+        try {
+            return evictedWeight;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long getHitWeight() {
+        lock.readLock().lock();
+        try {
+            return hitWeight;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long getWrittenWeight() {
+        lock.readLock().lock();
+        try {
+            return writtenWeight;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get live entries reloaded early by XFetch.
+     */
+    public int getEarlyRecomputes() {
+        return earlyRecomputes.get();
+    }
+
+    public boolean isTimingWheelEnabled() {
+        return timingWheelEnabled;
+    }
+
     public int getMaxSize() {
         return maxSize;
     }
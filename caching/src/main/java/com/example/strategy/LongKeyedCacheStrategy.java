@@ -0,0 +1,23 @@
+package com.example.strategy;
+
+/**
+ * Bounded cache that can also be addressed by primitive long keys.
+ * The long-keyed methods let callers skip building "key_{n}" Strings;
+ * the String methods address the same entries.
+ */
+public interface LongKeyedCacheStrategy extends BoundedCacheStrategy {
+
+    /**
+     * Retrieve a value from cache
+     * @param key The numeric cache key
+     * @return The cached value, or null if not found or expired
+     */
+    String get(long key);
+
+    /**
+     * Store a value in cache
+     * @param key The numeric cache key
+     * @param value The value to cache
+     */
+    void put(long key, String value);
+}
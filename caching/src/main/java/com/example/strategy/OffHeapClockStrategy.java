@@ -0,0 +1,459 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Off-Heap CLOCK Cache Strategy
+ * Stores keys, values and expiration timestamps outside the Java heap,
+ * so a large cache adds almost nothing for the garbage collector to trace.
+ *
+ * Features:
+ * - Fixed-size slots in direct-memory slabs (no entry object per key)
+ * - Open-addressing index (linear probing, backward-shift deletion), also off-heap
+ * - CLOCK eviction using a reference bit per slot
+ * - TTL-based expiration, expired slots are reclaimed first by the clock hand
+ *
+ * Slot layout:
+ * [hash:4][expiresAt:8][keyChars:2][valueBytes:2][ref:1][occupied:1][pad:6][key UTF-16][value UTF-8]
+ *
+ * Entries that don't fit in a slot are not cached and are counted as rejected;
+ * a rejected update also drops the key's previous value. Slots are capped at
+ * DATA_OFFSET + Short.MAX_VALUE bytes so both lengths fit their 2-byte fields.
+ */
+@Component
+public class OffHeapClockStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    private static final int HASH_OFFSET = 0;
+    private static final int EXPIRES_OFFSET = 4;
+    private static final int KEY_LENGTH_OFFSET = 12;
+    private static final int VALUE_LENGTH_OFFSET = 14;
+    private static final int REF_OFFSET = 16;
+    private static final int OCCUPIED_OFFSET = 17;
+    private static final int DATA_OFFSET = 24;
+    private static final int MAX_SLOT_BYTES = DATA_OFFSET + Short.MAX_VALUE;
+
+    // Upper bound for a single slab (direct buffers are int-indexed)
+    private static final int MAX_SLAB_BYTES = 64 * 1024 * 1024;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Slot storage
+    private ByteBuffer[] slabs;
+    private int capacity;
+    private int slotBytes;
+    private int slotsPerSlab;
+    private int nextUnusedSlot;
+    private int clockHand;
+    private int count;
+
+    // Index: slot + 1 per bucket, 0 = empty
+    private ByteBuffer index;
+    private int indexMask;
+
+    // Statistics
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+    private final AtomicInteger evictions = new AtomicInteger(0);
+    private final AtomicInteger expirations = new AtomicInteger(0);
+    private final AtomicInteger rejectedEntries = new AtomicInteger(0);
+
+    // Configurable parameters (can be overridden per scenario)
+    private int maxSize;
+    private long ttlMs;
+    private boolean resetTtlOnAccess;
+
+    public OffHeapClockStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+        this.slotBytes = 128;
+        initStorage();
+    }
+
+    /**
+     * Allocate slabs and index for maxSize slots. Drops all entries.
+     */
+    private void initStorage() {
+        this.capacity = Math.max(1, maxSize);
+        this.slotsPerSlab = Math.max(1, Math.min(capacity, MAX_SLAB_BYTES / slotBytes));
+        int slabCount = (capacity + slotsPerSlab - 1) / slotsPerSlab;
+        this.slabs = new ByteBuffer[slabCount];
+        for (int i = 0; i < slabCount; i++) {
+            int slots = Math.min(slotsPerSlab, capacity - i * slotsPerSlab);
+            slabs[i] = ByteBuffer.allocateDirect(slots * slotBytes).order(ByteOrder.nativeOrder());
+        }
+
+        // Keep the load factor at or below 0.5
+        int buckets = Integer.highestOneBit(capacity) << 2;
+        this.index = ByteBuffer.allocateDirect(buckets * Integer.BYTES).order(ByteOrder.nativeOrder());
+        this.indexMask = buckets - 1;
+
+        this.nextUnusedSlot = 0;
+        this.clockHand = 0;
+        this.count = 0;
+    }
+
+    // Slot accessors
+
+    private ByteBuffer slabOf(int slot) {
+        return slabs[slot / slotsPerSlab];
+    }
+
+    private int offsetOf(int slot) {
+        return (slot % slotsPerSlab) * slotBytes;
+    }
+
+    private boolean keyEquals(int slot, String key) {
+        ByteBuffer slab = slabOf(slot);
+        int base = offsetOf(slot);
+        int length = slab.getShort(base + KEY_LENGTH_OFFSET);
+        if (length != key.length()) {
+            return false;
+        }
+        int keyBase = base + DATA_OFFSET;
+        for (int i = 0; i < length; i++) {
+            if (slab.getChar(keyBase + i * 2) != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String readValue(int slot) {
+        ByteBuffer slab = slabOf(slot);
+        int base = offsetOf(slot);
+        int keyLength = slab.getShort(base + KEY_LENGTH_OFFSET);
+        int valueLength = slab.getShort(base + VALUE_LENGTH_OFFSET);
+        byte[] bytes = new byte[valueLength];
+        slab.get(base + DATA_OFFSET + keyLength * 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeSlot(int slot, int hash, String key, byte[] value, long expirationTime) {
+        ByteBuffer slab = slabOf(slot);
+        int base = offsetOf(slot);
+        slab.putInt(base + HASH_OFFSET, hash);
+        slab.putLong(base + EXPIRES_OFFSET, expirationTime);
+        slab.putShort(base + KEY_LENGTH_OFFSET, (short) key.length());
+        slab.putShort(base + VALUE_LENGTH_OFFSET, (short) value.length);
+        slab.put(base + REF_OFFSET, (byte) 0);
+        slab.put(base + OCCUPIED_OFFSET, (byte) 1);
+        int keyBase = base + DATA_OFFSET;
+        for (int i = 0; i < key.length(); i++) {
+            slab.putChar(keyBase + i * 2, key.charAt(i));
+        }
+        slab.put(keyBase + key.length() * 2, value);
+    }
+
+    // Index operations
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Find the bucket holding the key.
+     * @return bucket position, or -1 if absent
+     */
+    private int findBucket(String key, int hash) {
+        int bucket = hash & indexMask;
+        while (true) {
+            int entry = index.getInt(bucket * Integer.BYTES);
+            if (entry == 0) {
+                return -1;
+            }
+            int slot = entry - 1;
+            if (slabOf(slot).getInt(offsetOf(slot) + HASH_OFFSET) == hash && keyEquals(slot, key)) {
+                return bucket;
+            }
+            bucket = (bucket + 1) & indexMask;
+        }
+    }
+
+    private void insertIndex(int hash, int slot) {
+        int bucket = hash & indexMask;
+        while (index.getInt(bucket * Integer.BYTES) != 0) {
+            bucket = (bucket + 1) & indexMask;
+        }
+        index.putInt(bucket * Integer.BYTES, slot + 1);
+    }
+
+    /**
+     * Remove a bucket and shift later entries of the probe run back,
+     * so lookups never need tombstones.
+     */
+    private void removeBucket(int bucket) {
+        index.putInt(bucket * Integer.BYTES, 0);
+        int hole = bucket;
+        int next = bucket;
+        while (true) {
+            next = (next + 1) & indexMask;
+            int entry = index.getInt(next * Integer.BYTES);
+            if (entry == 0) {
+                return;
+            }
+            int slot = entry - 1;
+            int home = slabOf(slot).getInt(offsetOf(slot) + HASH_OFFSET) & indexMask;
+            // Move the entry if its home bucket is not cyclically within (hole, next]
+            boolean inRange = hole <= next
+                ? (home > hole && home <= next)
+                : (home > hole || home <= next);
+            if (!inRange) {
+                index.putInt(hole * Integer.BYTES, entry);
+                index.putInt(next * Integer.BYTES, 0);
+                hole = next;
+            }
+        }
+    }
+
+    private void removeSlot(int slot) {
+        ByteBuffer slab = slabOf(slot);
+        int base = offsetOf(slot);
+        int hash = slab.getInt(base + HASH_OFFSET);
+        int bucket = hash & indexMask;
+        while (index.getInt(bucket * Integer.BYTES) != slot + 1) {
+            bucket = (bucket + 1) & indexMask;
+        }
+        removeBucket(bucket);
+        slab.put(base + OCCUPIED_OFFSET, (byte) 0);
+        count--;
+    }
+
+    /**
+     * Get a free slot, running the CLOCK hand when all slots are in use.
+     * Slots with the reference bit set get a second chance.
+     */
+    private int allocateSlot(long now) {
+        if (nextUnusedSlot < capacity) {
+            return nextUnusedSlot++;
+        }
+        while (true) {
+            int slot = clockHand;
+            clockHand = (clockHand + 1) % capacity;
+
+            ByteBuffer slab = slabOf(slot);
+            int base = offsetOf(slot);
+            if (slab.get(base + OCCUPIED_OFFSET) == 0) {
+                return slot;
+            }
+            if (now > slab.getLong(base + EXPIRES_OFFSET)) {
+                removeSlot(slot);
+                expirations.incrementAndGet();
+                return slot;
+            }
+            if (slab.get(base + REF_OFFSET) != 0) {
+                slab.put(base + REF_OFFSET, (byte) 0);
+                continue;
+            }
+            removeSlot(slot);
+            evictions.incrementAndGet();
+            return slot;
+        }
+    }
+
+    @Override
+    public String get(String key) {
+        int hash = hash(key);
+        lock.lock();
+        try {
+            int bucket = findBucket(key, hash);
+
+            if (bucket < 0) {
+                misses.incrementAndGet();
+                return null;
+            }
+
+            int slot = index.getInt(bucket * Integer.BYTES) - 1;
+            ByteBuffer slab = slabOf(slot);
+            int base = offsetOf(slot);
+            long now = clock.currentTimeMillis();
+            if (now > slab.getLong(base + EXPIRES_OFFSET)) {
+                removeSlot(slot);
+                expirations.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+
+            // Optionally reset TTL on access
+            if (resetTtlOnAccess) {
+                slab.putLong(base + EXPIRES_OFFSET, now + ttlMs);
+            }
+            slab.put(base + REF_OFFSET, (byte) 1);
+
+            hits.incrementAndGet();
+            return readValue(slot);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(String key, String value) {
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(key);
+        lock.lock();
+        try {
+            long now = clock.currentTimeMillis();
+            int bucket = findBucket(key, hash);
+            if (DATA_OFFSET + key.length() * 2 + valueBytes.length > slotBytes) {
+                // Don't keep serving the value this put replaces
+                if (bucket >= 0) {
+                    removeSlot(index.getInt(bucket * Integer.BYTES) - 1);
+                }
+                rejectedEntries.incrementAndGet();
+                return;
+            }
+            if (bucket >= 0) {
+                // Overwrite in place, keeps the slot and its index bucket
+                int slot = index.getInt(bucket * Integer.BYTES) - 1;
+                writeSlot(slot, hash, key, valueBytes, now + ttlMs);
+                return;
+            }
+
+            int slot = allocateSlot(now);
+            writeSlot(slot, hash, key, valueBytes, now + ttlMs);
+            insertIndex(hash, slot);
+            count++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            hits.set(0);
+            misses.set(0);
+            evictions.set(0);
+            expirations.set(0);
+            rejectedEntries.set(0);
+
+            // Re-read config values
+            if (cacheConfig != null) {
+                this.maxSize = cacheConfig.getMaxSize();
+                this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+                this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+                this.slotBytes = Math.min(MAX_SLOT_BYTES, Math.max(DATA_OFFSET + 8, cacheConfig.getOffHeapSlotBytes()));
+            }
+            initStorage();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public void setMaxSize(int maxSize) {
+        lock.lock();
+        try {
+            this.maxSize = maxSize;
+            initStorage();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public int getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public int getExpirations() {
+        return expirations.get();
+    }
+
+    /**
+     * Get the number of puts skipped because the entry didn't fit in a slot.
+     */
+    public int getRejectedEntries() {
+        return rejectedEntries.get();
+    }
+
+    /**
+     * Get direct memory reserved for slabs and index.
+     */
+    public long getOffHeapBytes() {
+        lock.lock();
+        try {
+            long total = index.capacity();
+            for (ByteBuffer slab : slabs) {
+                total += slab.capacity();
+            }
+            return total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int totalRequests = hits.get() + misses.get();
+        if (totalRequests == 0) return 0.0;
+        return (double) hits.get() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Off-Heap-CLOCK";
+    }
+}
@@ -0,0 +1,386 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Primitive Long-Keyed Cache Strategy
+ * Open-addressing table over parallel arrays, so entries are not objects
+ * and a hit allocates nothing.
+ *
+ * Features:
+ * - Keys, value references, expiration times and CLOCK reference bits in
+ *   parallel arrays (linear probing, backward-shift deletion, load factor <= 0.5)
+ * - long-keyed get/put for callers that never build key Strings; the String
+ *   API parses "key_{n}" and addresses the same entries
+ * - CLOCK eviction; expired entries are reclaimed first by the clock hand
+ * - TTL-based expiration for entries
+ *
+ * Hits are served under a StampedLock optimistic read and fall back to the
+ * write lock only when the entry has expired or its TTL needs refreshing.
+ * With resetTtlOnAccess a hit refreshes the TTL only once more than half of
+ * it has run down, so an idle entry may expire up to ttlMs / 2 early but
+ * most hits never write.
+ */
+@Component
+public class PrimitiveLongCacheStrategy implements LongKeyedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    private static final String KEY_PREFIX = "key_";
+
+    /**
+     * One open-addressing table. Replaced as a whole on reset, so readers
+     * always see arrays of the same size.
+     */
+    private static final class Table {
+        final long[] keys;
+        final String[] values;  // null = empty bucket
+        final long[] expirationTimes;
+        final byte[] referenced;  // CLOCK bit, set by hits
+        final int mask;
+
+        Table(int buckets) {
+            this.keys = new long[buckets];
+            this.values = new String[buckets];
+            this.expirationTimes = new long[buckets];
+            this.referenced = new byte[buckets];
+            this.mask = buckets - 1;
+        }
+    }
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private volatile int count;  // Written under the write lock
+    private int clockHand;  // Guarded by the write lock
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicInteger evictions = new AtomicInteger(0);
+    private final AtomicInteger expirations = new AtomicInteger(0);
+
+    // Configurable parameters (can be overridden per scenario)
+    private volatile int maxSize;
+    private volatile long ttlMs;
+    private volatile boolean resetTtlOnAccess;
+    private int capacity;  // Entries held: maxSize, at least 1. Guarded by the lock
+
+    public PrimitiveLongCacheStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+        initTable();
+    }
+
+    /**
+     * Allocate an empty table for maxSize entries. Must hold the write lock
+     * (or be called from the constructor).
+     */
+    private void initTable() {
+        // A non-positive maxSize still holds one entry, so put() always has something to evict
+        this.capacity = Math.max(1, maxSize);
+        // Keep the load factor at or below 0.5
+        this.table = new Table(Integer.highestOneBit(capacity) << 2);
+        this.count = 0;
+        this.clockHand = 0;
+    }
+
+    private static int bucketOf(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Find the bucket holding a key.
+     * Probing is bounded so a torn optimistic read cannot loop forever.
+     * @return bucket position, or -1 if absent
+     */
+    private static int find(Table t, long key) {
+        int bucket = bucketOf(key, t.mask);
+        for (int probes = 0; probes <= t.mask; probes++) {
+            if (t.values[bucket] == null) {
+                return -1;
+            }
+            if (t.keys[bucket] == key) {
+                return bucket;
+            }
+            bucket = (bucket + 1) & t.mask;
+        }
+        return -1;
+    }
+
+    private static long parseKey(String key) {
+        if (!key.startsWith(KEY_PREFIX)) {
+            throw new IllegalArgumentException("Long-keyed cache needs keys of the form key_{n}: " + key);
+        }
+        return Long.parseLong(key, KEY_PREFIX.length(), key.length(), 10);
+    }
+
+    @Override
+    public String get(String key) {
+        return get(parseKey(key));
+    }
+
+    @Override
+    public void put(String key, String value) {
+        put(parseKey(key), value);
+    }
+
+    @Override
+    public String get(long key) {
+        long now = clock.currentTimeMillis();
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Table t = table;
+            int bucket = find(t, key);
+            String value = bucket >= 0 ? t.values[bucket] : null;
+            long expirationTime = bucket >= 0 ? t.expirationTimes[bucket] : 0;
+
+            if (lock.validate(stamp)) {
+                if (value == null) {
+                    misses.increment();
+                    return null;
+                }
+                if (now <= expirationTime && !needsTtlRefresh(expirationTime, now)) {
+                    // Racy, but the bit is only a hint for the clock hand
+                    t.referenced[bucket] = 1;
+                    hits.increment();
+                    return value;
+                }
+            }
+        }
+        return getLocked(key, now);
+    }
+
+    private boolean needsTtlRefresh(long expirationTime, long now) {
+        return resetTtlOnAccess && expirationTime - now < ttlMs / 2;
+    }
+
+    /**
+     * Lookup under the write lock: expires the entry or refreshes its TTL.
+     */
+    private String getLocked(long key, long now) {
+        long stamp = lock.writeLock();
+        try {
+            Table t = table;
+            int bucket = find(t, key);
+
+            if (bucket < 0) {
+                misses.increment();
+                return null;
+            }
+
+            if (now > t.expirationTimes[bucket]) {
+                removeAt(bucket);
+                expirations.incrementAndGet();
+                misses.increment();
+                return null;
+            }
+
+            // Optionally reset TTL on access
+            if (resetTtlOnAccess) {
+                t.expirationTimes[bucket] = now + ttlMs;
+            }
+            t.referenced[bucket] = 1;
+            hits.increment();
+            return t.values[bucket];
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void put(long key, String value) {
+        long stamp = lock.writeLock();
+        try {
+            long now = clock.currentTimeMillis();
+            Table t = table;
+            int bucket = find(t, key);
+            if (bucket >= 0) {
+                t.values[bucket] = value;
+                t.expirationTimes[bucket] = now + ttlMs;
+                return;
+            }
+
+            if (count >= capacity) {
+                evictOne(now);
+            }
+
+            bucket = bucketOf(key, t.mask);
+            while (t.values[bucket] != null) {
+                bucket = (bucket + 1) & t.mask;
+            }
+            t.keys[bucket] = key;
+            t.values[bucket] = value;
+            t.expirationTimes[bucket] = now + ttlMs;
+            t.referenced[bucket] = 0;
+            count++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Run the CLOCK hand over the buckets until one entry is removed.
+     * Expired entries go first; referenced entries get a second chance.
+     * Must hold the write lock and have count > 0.
+     */
+    private void evictOne(long now) {
+        Table t = table;
+        while (true) {
+            int bucket = clockHand;
+            if (t.values[bucket] == null) {
+                clockHand = (bucket + 1) & t.mask;
+                continue;
+            }
+            if (now > t.expirationTimes[bucket]) {
+                removeAt(bucket);
+                expirations.incrementAndGet();
+                return;
+            }
+            if (t.referenced[bucket] != 0) {
+                t.referenced[bucket] = 0;
+                clockHand = (bucket + 1) & t.mask;
+                continue;
+            }
+            // The hand stays put: backward shift may move an entry into this bucket
+            removeAt(bucket);
+            evictions.incrementAndGet();
+            return;
+        }
+    }
+
+    /**
+     * Remove a bucket and shift later entries of the probe run back,
+     * so lookups never need tombstones. Must hold the write lock.
+     */
+    private void removeAt(int bucket) {
+        Table t = table;
+        int hole = bucket;
+        int next = bucket;
+        while (true) {
+            next = (next + 1) & t.mask;
+            if (t.values[next] == null) {
+                break;
+            }
+            int home = bucketOf(t.keys[next], t.mask);
+            // Move the entry if its home bucket is not cyclically within (hole, next]
+            boolean inRange = hole <= next
+                ? (home > hole && home <= next)
+                : (home > hole || home <= next);
+            if (!inRange) {
+                t.keys[hole] = t.keys[next];
+                t.values[hole] = t.values[next];
+                t.expirationTimes[hole] = t.expirationTimes[next];
+                t.referenced[hole] = t.referenced[next];
+                hole = next;
+            }
+        }
+        t.values[hole] = null;
+        t.referenced[hole] = 0;
+        count--;
+    }
+
+    @Override
+    public void reset() {
+        long stamp = lock.writeLock();
+        try {
+            hits.reset();
+            misses.reset();
+            evictions.set(0);
+            expirations.set(0);
+
+            // Re-read config values
+            if (cacheConfig != null) {
+                this.maxSize = cacheConfig.getMaxSize();
+                this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+                this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+            }
+            initTable();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public void setMaxSize(int maxSize) {
+        long stamp = lock.writeLock();
+        try {
+            this.maxSize = maxSize;
+            initTable();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.intValue();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.intValue();
+    }
+
+    @Override
+    public int getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public int getExpirations() {
+        return expirations.get();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int totalRequests = getHits() + getMisses();
+        if (totalRequests == 0) return 0.0;
+        return (double) getHits() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Primitive-Long-CLOCK";
+    }
+}
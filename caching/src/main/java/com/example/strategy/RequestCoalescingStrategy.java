@@ -1,39 +1,275 @@
 package com.example.strategy;
 
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import com.example.vo.LoadResult;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 /**
  * Request Coalescing Cache Strategy
  * Combines concurrent requests for the same key into a single backend fetch
  * Shares the result with all waiting threads
+ *
+ * Features:
+ * - Single-flight loading: the first miss for a key becomes the leader and
+ *   calls the loader, later misses wait on the leader's CompletableFuture
+ * - Entries are stored in a private LRU with TTL, so eviction and expiration
+ *   behave like LRUWithTTLStrategy
+ * - Loader failures are propagated to every waiter and nothing is cached
  */
 @Component
-public class RequestCoalescingStrategy implements CacheStrategy {
-    
-    // TODO: Implement request coalescing
-    // - Track in-flight requests per key
-    // - Block subsequent requests for same key until first completes
-    // - Share result with all waiters
-    // - Use CompletableFuture or CountDownLatch for coordination
-    
+public class RequestCoalescingStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected; passed on to the store
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    // Backing store, not a Spring bean so its state is private to this strategy
+    private final LRUWithTTLStrategy store = new LRUWithTTLStrategy();
+
+    // Fetches currently running, keyed by cache key
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    // Statistics
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+    private final AtomicInteger coalescedRequests = new AtomicInteger(0);
+
+    /**
+     * Look up a key, loading it through a single shared fetch on a miss.
+     *
+     * @param key The cache key
+     * @param loader Backend fetch, called at most once per key at a time
+     * @return The value and whether it was a hit, a fetch, or a coalesced wait
+     */
+    @Override
+    public LoadResult get(String key, Function<String, String> loader) {
+        String value = store.get(key);
+        if (value != null) {
+            hits.incrementAndGet();
+            return LoadResult.hit(value);
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedRequests.incrementAndGet();
+            return LoadResult.coalesced(await(existing));
+        }
+
+        // Leader: a previous leader may have finished between our miss and putIfAbsent
+        try {
+            value = store.get(key);
+            if (value != null) {
+                misses.decrementAndGet();
+                hits.incrementAndGet();
+                future.complete(value);
+                return LoadResult.hit(value);
+            }
+
+            value = loader.apply(key);
+            store.put(key, value);
+            future.complete(value);
+            return LoadResult.loaded(value);
+        } catch (Throwable t) {
+            // Any failure, Errors included, must reach the waiters or they block forever
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            // Remove only after the store is populated, so late arrivals hit the cache
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Asynchronous single-flight load. Waiters chain onto the leader's future
+     * instead of blocking a thread.
+     */
+    @Override
+    public CompletableFuture<LoadResult> getAsync(
+            String key, Function<String, CompletableFuture<String>> asyncLoader) {
+        String value = store.get(key);
+        if (value != null) {
+            hits.incrementAndGet();
+            return CompletableFuture.completedFuture(LoadResult.hit(value));
+        }
+        misses.incrementAndGet();
+
+        CompletableFuture<String> future = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            coalescedRequests.incrementAndGet();
+            return existing.thenApply(LoadResult::coalesced);
+        }
+
+        // Leader: same double-check as the blocking path
+        value = store.get(key);
+        if (value != null) {
+            misses.decrementAndGet();
+            hits.incrementAndGet();
+            future.complete(value);
+            inFlight.remove(key, future);
+            return CompletableFuture.completedFuture(LoadResult.hit(value));
+        }
+
+        CompletableFuture<String> load;
+        try {
+            load = asyncLoader.apply(key);
+            if (load == null) {
+                load = CompletableFuture.failedFuture(
+                    new NullPointerException("Async loader returned null for key " + key));
+            }
+        } catch (Throwable t) {
+            load = CompletableFuture.failedFuture(t);
+        }
+        load.whenComplete((loaded, error) -> {
+            try {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    store.put(key, loaded);
+                    future.complete(loaded);
+                }
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+                throw t;
+            } finally {
+                // Always release the key, or every later miss would join a dead future
+                inFlight.remove(key, future);
+            }
+        });
+        return future.thenApply(LoadResult::loaded);
+    }
+
+    private static String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
     @Override
     public String get(String key) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        String value = store.get(key);
+        if (value != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return value;
     }
-    
+
     @Override
     public void put(String key, String value) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        store.put(key, value);
     }
-    
+
     @Override
     public void reset() {
-        throw new UnsupportedOperationException("Not implemented yet");
+        store.setClock(clock);
+        store.reset();
+        inFlight.clear();
+        hits.set(0);
+        misses.set(0);
+        coalescedRequests.set(0);
+
+        // Re-read config values
+        if (cacheConfig != null) {
+            store.setMaxSize(cacheConfig.getMaxSize());
+            store.setTtlMs(cacheConfig.getTtlSeconds() * 1000);
+            store.setResetTtlOnAccess(cacheConfig.isResetTtlOnAccess());
+        }
     }
-    
+
     @Override
     public int size() {
-        throw new UnsupportedOperationException("Not implemented yet");
+        return store.size();
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public void setMaxSize(int maxSize) {
+        store.setMaxSize(maxSize);
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        store.setTtlMs(ttlMs);
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        store.setResetTtlOnAccess(resetTtlOnAccess);
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public int getEvictions() {
+        return store.getEvictions();
+    }
+
+    @Override
+    public int getExpirations() {
+        return store.getExpirations();
     }
-}
 
+    /**
+     * Get the number of misses that waited on another request's fetch.
+     */
+    public int getCoalescedRequests() {
+        return coalescedRequests.get();
+    }
+
+    /**
+     * Get the number of fetches running right now.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return store.getMaxSize();
+    }
+
+    @Override
+    public long getTtlMs() {
+        return store.getTtlMs();
+    }
+
+    public double getHitRate() {
+        int totalRequests = hits.get() + misses.get();
+        if (totalRequests == 0) return 0.0;
+        return (double) hits.get() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Request-Coalescing";
+    }
+}
@@ -0,0 +1,457 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * S3-FIFO Cache Strategy
+ * Three FIFO queues (Yang et al., SOSP 2023) with no locks anywhere.
+ *
+ * Features:
+ * - New keys enter the small FIFO S (10% of capacity)
+ * - Keys hit while in S move to the main FIFO M when they reach its head;
+ *   the rest are evicted and remembered in the ghost FIFO G
+ * - A key found in G goes straight into M
+ * - M reinserts entries that were hit since their last pass, decrementing
+ *   their frequency, and evicts the ones that were not
+ * - TTL-based expiration for entries; expired entries are dropped when
+ *   found on access or when they reach a queue head
+ * - Nodes dropped from the map while still queued (expired on access) are
+ *   swept out of the queues once they outnumber the live entries by more
+ *   than a slack of a quarter of capacity, so a working set below capacity
+ *   cannot grow the queues without bound
+ *
+ * A hit only bumps a 2-bit frequency counter with a CAS (skipped once it is
+ * saturated), so get() never takes a lock or reorders anything. Queues are
+ * ConcurrentLinkedQueues and any writer can evict, so capacity is enforced
+ * approximately under concurrent puts.
+ */
+@Component
+public class S3FIFOStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    private static final int SMALL_PERCENT = 10;
+    private static final int MAX_FREQUENCY = 3;
+    private static final int DEAD_NODE_SLACK_PERCENT = 25;
+    private static final int MIN_DEAD_NODE_SLACK = 16;
+
+    private static final AtomicIntegerFieldUpdater<Node> FREQUENCY =
+        AtomicIntegerFieldUpdater.newUpdater(Node.class, "frequency");
+
+    /**
+     * Cache entry. A node is in at most one queue at a time, and only the
+     * thread that polled it may move it.
+     */
+    private static class Node {
+        final String key;
+        volatile String value;
+        volatile long expirationTime;
+        volatile int frequency;
+        volatile boolean inMain;  // Which queue's live count the node belongs to
+
+        Node(String key, String value, long expirationTime) {
+            this.key = key;
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+
+    /**
+     * Key remembered in G after eviction (identity marks which G entry is current).
+     */
+    private static class Ghost {
+        final String key;
+
+        Ghost(String key) {
+            this.key = key;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Node> data = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Ghost> ghosts = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Node> small = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Node> main = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Ghost> ghostQueue = new ConcurrentLinkedQueue<>();
+
+    // Queue lengths including dead nodes (ConcurrentLinkedQueue.size() is O(n))
+    private final AtomicInteger smallSize = new AtomicInteger(0);
+    private final AtomicInteger mainSize = new AtomicInteger(0);
+    private final AtomicInteger ghostSize = new AtomicInteger(0);
+
+    // Queued nodes still in the map; these pick the queue to evict from
+    private final AtomicInteger smallLive = new AtomicInteger(0);
+    private final AtomicInteger mainLive = new AtomicInteger(0);
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicInteger evictions = new AtomicInteger(0);
+    private final AtomicInteger expirations = new AtomicInteger(0);
+    private final AtomicInteger ghostHits = new AtomicInteger(0);
+    private final AtomicInteger promotions = new AtomicInteger(0);
+
+    // Configurable parameters (can be overridden per scenario)
+    private volatile int maxSize;
+    private volatile long ttlMs;
+    private volatile boolean resetTtlOnAccess;
+
+    // Queue targets derived from maxSize
+    private volatile int smallMaxSize;
+    private volatile int mainMaxSize;
+    private volatile int deadNodeSlack;
+
+    public S3FIFOStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+        initCache();
+    }
+
+    /**
+     * Clear all entries and recompute queue targets.
+     * Not safe against concurrent gets and puts; scenarios call it between runs.
+     */
+    private void initCache() {
+        data.clear();
+        ghosts.clear();
+        small.clear();
+        main.clear();
+        ghostQueue.clear();
+        smallSize.set(0);
+        mainSize.set(0);
+        ghostSize.set(0);
+        smallLive.set(0);
+        mainLive.set(0);
+
+        this.smallMaxSize = Math.max(1, maxSize * SMALL_PERCENT / 100);
+        this.mainMaxSize = Math.max(1, maxSize - smallMaxSize);
+        this.deadNodeSlack = Math.max(MIN_DEAD_NODE_SLACK, maxSize * DEAD_NODE_SLACK_PERCENT / 100);
+    }
+
+    @Override
+    public String get(String key) {
+        Node node = data.get(key);
+
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+
+        long now = clock.currentTimeMillis();
+        if (node.isExpired(now)) {
+            // The node stays queued until it reaches the head or put() sweeps it
+            if (data.remove(key, node)) {
+                unlinked(node);
+                expirations.incrementAndGet();
+            }
+            misses.increment();
+            return null;
+        }
+
+        // Optionally reset TTL on access
+        if (resetTtlOnAccess) {
+            node.expirationTime = now + ttlMs;
+        }
+
+        int frequency = node.frequency;
+        if (frequency < MAX_FREQUENCY) {
+            FREQUENCY.compareAndSet(node, frequency, frequency + 1);
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    @Override
+    public void put(String key, String value) {
+        long expirationTime = clock.currentTimeMillis() + ttlMs;
+        Node node = new Node(key, value, expirationTime);
+        Node existing = data.putIfAbsent(key, node);
+        if (existing != null) {
+            existing.value = value;
+            existing.expirationTime = expirationTime;
+            return;
+        }
+
+        if (ghosts.remove(key) != null) {
+            ghostHits.incrementAndGet();
+            node.inMain = true;
+            mainLive.incrementAndGet();
+            main.offer(node);
+            mainSize.incrementAndGet();
+        } else {
+            smallLive.incrementAndGet();
+            small.offer(node);
+            smallSize.incrementAndGet();
+        }
+
+        if (smallSize.get() + mainSize.get() > data.size() + deadNodeSlack) {
+            sweepDeadNodes();
+        }
+
+        while (data.size() > maxSize) {
+            boolean progressed = smallLive.get() >= smallMaxSize || mainLive.get() == 0
+                ? evictSmall()
+                : evictMain();
+            if (!progressed) {
+                // Other writers hold the remaining nodes between queues
+                break;
+            }
+        }
+    }
+
+    /**
+     * Take the head of S: promote it to M if it was hit, else evict it into G.
+     * Falls back to M when S is empty.
+     * @return false if both queues were empty
+     */
+    private boolean evictSmall() {
+        Node node = small.poll();
+        if (node == null) {
+            return evictMain();
+        }
+        smallSize.decrementAndGet();
+
+        if (dropIfGone(node)) {
+            return true;
+        }
+        if (node.frequency > 0) {
+            FREQUENCY.set(node, 0);
+            node.inMain = true;
+            smallLive.decrementAndGet();
+            mainLive.incrementAndGet();
+            main.offer(node);
+            mainSize.incrementAndGet();
+            promotions.incrementAndGet();
+            return true;
+        }
+        if (data.remove(node.key, node)) {
+            unlinked(node);
+            evictions.incrementAndGet();
+            remember(node.key);
+        }
+        return true;
+    }
+
+    /**
+     * Take the head of M: reinsert it with one less frequency if it was hit,
+     * else evict it.
+     * @return false if M was empty
+     */
+    private boolean evictMain() {
+        Node node = main.poll();
+        if (node == null) {
+            return false;
+        }
+        mainSize.decrementAndGet();
+
+        if (dropIfGone(node)) {
+            return true;
+        }
+        int frequency = node.frequency;
+        if (frequency > 0) {
+            FREQUENCY.compareAndSet(node, frequency, frequency - 1);
+            main.offer(node);
+            mainSize.incrementAndGet();
+            return true;
+        }
+        if (data.remove(node.key, node)) {
+            unlinked(node);
+            evictions.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Discard a polled node that was already removed or has expired.
+     * @return true if the node is no longer cached
+     */
+    private boolean dropIfGone(Node node) {
+        if (data.get(node.key) != node) {
+            return true;
+        }
+        if (node.isExpired(clock.currentTimeMillis())) {
+            if (data.remove(node.key, node)) {
+                unlinked(node);
+                expirations.incrementAndGet();
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Update live counts for a node just removed from the map.
+     */
+    private void unlinked(Node node) {
+        (node.inMain ? mainLive : smallLive).decrementAndGet();
+    }
+
+    /**
+     * Drop queued nodes that are no longer in the map, then resync the queue
+     * counts. O(n), and only run once dead nodes exceed the slack, so the
+     * cost per dead node stays constant. One sweeper at a time; the counts
+     * are approximate while writers run concurrently.
+     */
+    private void sweepDeadNodes() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            small.removeIf(node -> data.get(node.key) != node);
+            main.removeIf(node -> data.get(node.key) != node);
+            smallSize.set(small.size());
+            mainSize.set(main.size());
+            smallLive.set(smallSize.get());
+            mainLive.set(mainSize.get());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Add a key to G, dropping the oldest ghosts beyond M's capacity.
+     */
+    private void remember(String key) {
+        Ghost ghost = new Ghost(key);
+        ghosts.put(key, ghost);
+        ghostQueue.offer(ghost);
+        ghostSize.incrementAndGet();
+        while (ghostSize.get() > mainMaxSize) {
+            Ghost oldest = ghostQueue.poll();
+            if (oldest == null) {
+                break;
+            }
+            ghostSize.decrementAndGet();
+            ghosts.remove(oldest.key, oldest);
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        hits.reset();
+        misses.reset();
+        evictions.set(0);
+        expirations.set(0);
+        ghostHits.set(0);
+        promotions.set(0);
+
+        // Re-read config values
+        if (cacheConfig != null) {
+            this.maxSize = cacheConfig.getMaxSize();
+            this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+            this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+        }
+        initCache();
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public synchronized void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        initCache();
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.intValue();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.intValue();
+    }
+
+    @Override
+    public int getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public int getExpirations() {
+        return expirations.get();
+    }
+
+    /**
+     * Get puts for keys found in the ghost FIFO.
+     */
+    public int getGhostHits() {
+        return ghostHits.get();
+    }
+
+    /**
+     * Get entries moved from S to M because they were hit while in S.
+     */
+    public int getPromotions() {
+        return promotions.get();
+    }
+
+    public int getGhostEntries() {
+        return ghosts.size();
+    }
+
+    public int getSmallSize() {
+        return smallLive.get();
+    }
+
+    public int getSmallMaxSize() {
+        return smallMaxSize;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int totalRequests = getHits() + getMisses();
+        if (totalRequests == 0) return 0.0;
+        return (double) getHits() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "S3-FIFO";
+    }
+}
@@ -0,0 +1,476 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Segmented LRU with TTL Cache Strategy
+ * Lock-striped variant of LRUWithTTLStrategy: keys are hashed into N
+ * independently locked segments, each with its own access-ordered LRU list.
+ *
+ * Features:
+ * - Per-segment lock, so hits on different segments don't contend
+ * - Per-segment LRU eviction and TTL expiration
+ * - Per-segment counters (no shared atomic on the hit path)
+ * - Segment count from CacheConfig, rounded up to a power of two
+ * - Optional weight budget (cache.max-weight-bytes), split evenly between
+ *   segments, replacing the entry-count bound
+ *
+ * LRU order is approximate across the whole cache: each segment evicts its
+ * own least recently used entry once it reaches its share of maxSize.
+ */
+@Component
+public class SegmentedLRUWithTTLStrategy implements WeightedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    // Cache entry with value and expiration time
+    private static class CacheEntry {
+        final String value;
+        final long weight;
+        long expirationTime;
+
+        CacheEntry(String value, long weight, long expirationTime) {
+            this.value = value;
+            this.weight = weight;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+
+    /**
+     * One lock stripe. All fields are guarded by the segment lock.
+     */
+    private static class Segment {
+        final ReentrantLock lock = new ReentrantLock();
+        final LinkedHashMap<String, CacheEntry> map;
+        final int capacity;
+        final long capacityWeight;  // 0 = bounded by capacity
+        int hits;
+        int misses;
+        int evictions;
+        int expirations;
+        long weight;
+        long evictedWeight;
+        long hitWeight;
+        long writtenWeight;
+
+        Segment(int capacity, long capacityWeight) {
+            this.capacity = capacity;
+            this.capacityWeight = capacityWeight;
+            // LinkedHashMap with accessOrder=true for LRU behavior
+            this.map = new LinkedHashMap<String, CacheEntry>(capacity, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                    // With a weight budget, store() evicts instead
+                    if (Segment.this.capacityWeight <= 0 && size() > Segment.this.capacity) {
+                        evictions++;
+                        weight -= eldest.getValue().weight;
+                        evictedWeight += eldest.getValue().weight;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * Insert or replace an entry, then evict down to the weight budget.
+         * An entry heavier than the whole segment budget is not cached.
+         * Must hold the segment lock.
+         */
+        void store(String key, CacheEntry entry) {
+            writtenWeight += entry.weight;
+            boolean admit = capacityWeight <= 0 || entry.weight <= capacityWeight;
+            CacheEntry previous = admit ? map.put(key, entry) : map.remove(key);
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            if (!admit) {
+                return;
+            }
+            weight += entry.weight;
+            if (capacityWeight > 0) {
+                Iterator<CacheEntry> eldestFirst = map.values().iterator();
+                while (weight > capacityWeight && eldestFirst.hasNext()) {
+                    CacheEntry eldest = eldestFirst.next();
+                    eldestFirst.remove();
+                    weight -= eldest.weight;
+                    evictedWeight += eldest.weight;
+                    evictions++;
+                }
+            }
+        }
+    }
+
+    // Segment array is replaced wholesale on resize/reset
+    private volatile Segment[] segments;
+
+    // Configurable parameters (can be overridden per scenario)
+    private int maxSize;
+    private int segmentCount;
+    private volatile long ttlMs;
+    private volatile boolean resetTtlOnAccess;
+    private long maxWeight;  // 0 = bounded by maxSize
+    private volatile Weigher weigher;
+
+    public SegmentedLRUWithTTLStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.segmentCount = 16;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+        this.weigher = Weigher.estimatedBytes();
+        initSegments();
+    }
+
+    /**
+     * Build the segment array.
+     * The segment count is capped so that every segment holds at least one entry.
+     */
+    private synchronized void initSegments() {
+        int count = Math.min(toPowerOfTwo(segmentCount), Integer.highestOneBit(Math.max(1, maxSize)));
+        Segment[] newSegments = new Segment[count];
+        int base = maxSize / count;
+        int remainder = maxSize % count;
+        for (int i = 0; i < count; i++) {
+            newSegments[i] = new Segment(Math.max(1, base + (i < remainder ? 1 : 0)),
+                maxWeight > 0 ? Math.max(1, maxWeight / count) : 0);
+        }
+        this.segments = newSegments;
+    }
+
+    private static int toPowerOfTwo(int n) {
+        if (n <= 1) return 1;
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+
+    private Segment segmentFor(String key) {
+        int h = key.hashCode();
+        // Spread high bits so keys like "key_N" don't cluster in low bits
+        h ^= (h >>> 16);
+        Segment[] current = segments;
+        return current[h & (current.length - 1)];
+    }
+
+    @Override
+    public String get(String key) {
+        Segment segment = segmentFor(key);
+        long now = clock.currentTimeMillis();
+        segment.lock.lock();
+        try {
+            return getEntry(segment, key, now);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Look up several keys, taking each segment lock once for all of its keys.
+     */
+    @Override
+    public Map<String, String> getAll(Collection<String> keys) {
+        Map<String, String> values = new LinkedHashMap<>();
+        long now = clock.currentTimeMillis();
+        groupBySegment(keys).forEach((segment, segmentKeys) -> {
+            segment.lock.lock();
+            try {
+                for (String key : segmentKeys) {
+                    String value = getEntry(segment, key, now);
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Look up a key in its segment, counting the hit or miss. Must hold the segment lock.
+     */
+    private String getEntry(Segment segment, String key, long now) {
+        CacheEntry entry = segment.map.get(key);
+
+        if (entry == null) {
+            segment.misses++;
+            return null;
+        }
+
+        if (entry.isExpired(now)) {
+            segment.map.remove(key);
+            segment.weight -= entry.weight;
+            segment.expirations++;
+            segment.misses++;
+            return null;
+        }
+
+        // Optionally reset TTL on access
+        if (resetTtlOnAccess) {
+            entry.expirationTime = now + ttlMs;
+        }
+
+        segment.hits++;
+        segment.hitWeight += entry.weight;
+        return entry.value;
+    }
+
+    @Override
+    public void put(String key, String value) {
+        putExpiringAt(key, value, clock.currentTimeMillis() + ttlMs);
+    }
+
+    /**
+     * Store a value with an explicit expiration time instead of now + ttlMs
+     * (e.g. a copy that must not outlive its source).
+     */
+    public void putExpiringAt(String key, String value, long expirationTime) {
+        Segment segment = segmentFor(key);
+        CacheEntry entry = new CacheEntry(value, weigher.weigh(key, value), expirationTime);
+        segment.lock.lock();
+        try {
+            segment.store(key, entry);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Store several values, taking each segment lock once for all of its keys.
+     */
+    @Override
+    public void putAll(Map<String, String> entries) {
+        long expirationTime = clock.currentTimeMillis() + ttlMs;
+        groupBySegment(entries.keySet()).forEach((segment, segmentKeys) -> {
+            segment.lock.lock();
+            try {
+                for (String key : segmentKeys) {
+                    String value = entries.get(key);
+                    segment.store(key, new CacheEntry(value, weigher.weigh(key, value), expirationTime));
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Drop a key if present. Not counted as an eviction or expiration.
+     */
+    public void invalidate(String key) {
+        Segment segment = segmentFor(key);
+        segment.lock.lock();
+        try {
+            CacheEntry removed = segment.map.remove(key);
+            if (removed != null) {
+                segment.weight -= removed.weight;
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    private Map<Segment, List<String>> groupBySegment(Collection<String> keys) {
+        Map<Segment, List<String>> groups = new IdentityHashMap<>();
+        for (String key : keys) {
+            groups.computeIfAbsent(segmentFor(key), segment -> new ArrayList<>()).add(key);
+        }
+        return groups;
+    }
+
+    @Override
+    public synchronized void reset() {
+        // Re-read config values
+        if (cacheConfig != null) {
+            this.maxSize = cacheConfig.getMaxSize();
+            this.segmentCount = cacheConfig.getSegmentCount();
+            this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+            this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+            this.maxWeight = cacheConfig.getMaxWeightBytes();
+        }
+        initSegments();
+    }
+
+    @Override
+    public int size() {
+        return sumSegments(segment -> segment.map.size());
+    }
+
+    /**
+     * Sum a per-segment value, taking each segment lock in turn.
+     */
+    private int sumSegments(ToIntFunction<Segment> reader) {
+        int total = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                total += reader.applyAsInt(segment);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Sum a per-segment long value, taking each segment lock in turn.
+     */
+    private long sumSegmentsLong(ToLongFunction<Segment> reader) {
+        long total = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                total += reader.applyAsLong(segment);
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public synchronized void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        initSegments();
+    }
+
+    @Override
+    public void setWeigher(Weigher weigher) {
+        this.weigher = weigher;
+    }
+
+    /**
+     * Set the weight budget, split evenly between segments. Clears the cache.
+     */
+    @Override
+    public synchronized void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+        initSegments();
+    }
+
+    @Override
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * Override the configured segment count until the next reset().
+     * Clears the cache.
+     */
+    public synchronized void setSegmentCount(int segmentCount) {
+        this.segmentCount = segmentCount;
+        initSegments();
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    /**
+     * Use another clock for TTLs (an enclosing strategy passes its own).
+     */
+    public void setClock(CacheClock clock) {
+        this.clock = clock;
+    }
+
+    // Statistics getters (summed across segments)
+    @Override
+    public int getHits() {
+        return sumSegments(segment -> segment.hits);
+    }
+
+    @Override
+    public int getMisses() {
+        return sumSegments(segment -> segment.misses);
+    }
+
+    @Override
+    public int getEvictions() {
+        return sumSegments(segment -> segment.evictions);
+    }
+
+    @Override
+    public int getExpirations() {
+        return sumSegments(segment -> segment.expirations);
+    }
+
+    @Override
+    public long getWeightedSize() {
+        return sumSegmentsLong(segment -> segment.weight);
+    }
+
+    @Override
+    public long getEvictedWeight() {
+        return sumSegmentsLong(segment -> segment.evictedWeight);
+    }
+
+    @Override
+    public long getHitWeight() {
+        return sumSegmentsLong(segment -> segment.hitWeight);
+    }
+
+    @Override
+    public long getWrittenWeight() {
+        return sumSegmentsLong(segment -> segment.writtenWeight);
+    }
+
+    /**
+     * Get the number of segments actually in use.
+     * May be lower than the configured count for very small caches.
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int hitCount = getHits();
+        int totalRequests = hitCount + getMisses();
+        if (totalRequests == 0) return 0.0;
+        return (double) hitCount / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Segmented-LRU-with-TTL";
+    }
+}
@@ -1,39 +1,551 @@
 package com.example.strategy;
 
+import com.example.config.CacheConfig;
+import com.example.config.CacheConfig.RefreshQueueFullPolicy;
+import com.example.infrastructure.CacheClock;
+import com.example.vo.LoadResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
 /**
  * Stale-While-Revalidate Cache Strategy
  * Serves cached items even if expired while asynchronously fetching fresh data
  * Updates cache in background without blocking the request
+ *
+ * Features:
+ * - LRU eviction and TTL like LRUWithTTLStrategy, plus a grace period:
+ *   an entry past its TTL but within the grace period is served stale
+ * - A stale hit schedules at most one background revalidation per key
+ * - Revalidations run on a bounded pool; when its queue is full the
+ *   configured policy either drops the refresh or runs it on the caller
+ * - Entries past the grace period are removed and loaded synchronously
  */
 @Component
-public class StaleWhileRevalidateStrategy implements CacheStrategy {
-    
-    // TODO: Implement stale-while-revalidate
-    // - Serve stale data immediately if available
-    // - Trigger async background fetch for expired items
-    // - Update cache when background fetch completes
-    // - Use ExecutorService for async operations
-    
+public class StaleWhileRevalidateStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    // Cache entry with value and expiration time
+    private static class CacheEntry {
+        final String value;
+        long expirationTime;
+
+        CacheEntry(String value, long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+
+    // Lookup outcome decided under the lock, acted on after releasing it
+    private enum State { FRESH, STALE, MISS }
+
+    private record Lookup(State state, String value) {
+    }
+
+    // LRU cache using LinkedHashMap with access-order
+    private LinkedHashMap<String, CacheEntry> cache;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Keys with a revalidation queued or running, mapped to the time it was requested
+    private final ConcurrentHashMap<String, Long> refreshing = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor refreshExecutor;
+
+    // Bumped on reset so refreshes from a previous run don't write into this one
+    private volatile int generation;
+
+    // Statistics
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+    private final AtomicInteger staleHits = new AtomicInteger(0);
+    private final AtomicInteger evictions = new AtomicInteger(0);
+    private final AtomicInteger expirations = new AtomicInteger(0);  // Past the grace period
+    private final AtomicInteger revalidations = new AtomicInteger(0);  // Completed refreshes
+    private final AtomicInteger rejectedRevalidations = new AtomicInteger(0);  // Hit the queue-full policy
+    private final AtomicInteger maxRevalidationQueueDepth = new AtomicInteger(0);
+    private final AtomicLong totalRefreshLagMs = new AtomicLong(0);
+    private final AtomicLong maxRefreshLagMs = new AtomicLong(0);
+
+    // Configurable parameters (can be overridden per scenario)
+    private int maxSize;
+    private long ttlMs;
+    private long staleGraceMs;
+    private boolean resetTtlOnAccess;
+    private int refreshThreads;
+    private int refreshQueueCapacity;
+    private RefreshQueueFullPolicy refreshQueueFullPolicy;
+
+    public StaleWhileRevalidateStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.staleGraceMs = 10000;
+        this.resetTtlOnAccess = true;
+        this.refreshThreads = 4;
+        this.refreshQueueCapacity = 32;
+        this.refreshQueueFullPolicy = RefreshQueueFullPolicy.DISCARD;
+        initCache();
+        initRefreshExecutor();
+    }
+
+    private void initCache() {
+        // LinkedHashMap with accessOrder=true for LRU behavior
+        this.cache = new LinkedHashMap<String, CacheEntry>(maxSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private void initRefreshExecutor() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+        AtomicInteger threadCount = new AtomicInteger(0);
+        this.refreshExecutor = new ThreadPoolExecutor(
+            refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, refreshQueueCapacity)),
+            runnable -> {
+                Thread thread = new Thread(runnable, "swr-refresh-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Look up a key, serving stale values while a background refresh runs.
+     *
+     * @param key The cache key
+     * @param loader Backend fetch, used synchronously on a miss and in the background on a stale hit
+     * @return The value and whether it was fresh, stale, or loaded
+     */
+    @Override
+    public LoadResult get(String key, Function<String, String> loader) {
+        Lookup lookup = lookup(key);
+        switch (lookup.state()) {
+            case FRESH:
+                hits.incrementAndGet();
+                return LoadResult.hit(lookup.value());
+            case STALE:
+                return revalidate(key, lookup.value(), loader);
+            default:
+                misses.incrementAndGet();
+                String value = loader.apply(key);
+                put(key, value);
+                return LoadResult.loaded(value);
+        }
+    }
+
+    /**
+     * Asynchronous variant: misses complete when the loader does.
+     * Stale hits hand the refresh to the bounded pool, whose thread only
+     * starts the load; the install is chained on the loader's future, so
+     * neither the caller nor a pool thread waits for the backend.
+     */
+    @Override
+    public CompletableFuture<LoadResult> getAsync(
+            String key, Function<String, CompletableFuture<String>> asyncLoader) {
+        Lookup lookup = lookup(key);
+        switch (lookup.state()) {
+            case FRESH:
+                hits.incrementAndGet();
+                return CompletableFuture.completedFuture(LoadResult.hit(lookup.value()));
+            case STALE:
+                return revalidateAsync(key, lookup.value(), asyncLoader);
+            default:
+                misses.incrementAndGet();
+                return startLoad(key, asyncLoader).thenApply(value -> {
+                    put(key, value);
+                    return LoadResult.loaded(value);
+                });
+        }
+    }
+
+    /**
+     * Classify the entry for a key, dropping it if it's past the grace period.
+     */
+    private Lookup lookup(String key) {
+        lock.writeLock().lock();
+        try {
+            long now = clock.currentTimeMillis();
+            CacheEntry entry = cache.get(key);
+            if (entry == null) {
+                return new Lookup(State.MISS, null);
+            }
+            if (!entry.isExpired(now)) {
+                if (resetTtlOnAccess) {
+                    entry.expirationTime = now + ttlMs;
+                }
+                return new Lookup(State.FRESH, entry.value);
+            }
+            if (now - entry.expirationTime <= staleGraceMs) {
+                return new Lookup(State.STALE, entry.value);
+            }
+            cache.remove(key);
+            expirations.incrementAndGet();
+            return new Lookup(State.MISS, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Serve a stale value and make sure exactly one refresh for the key is pending.
+     */
+    private LoadResult revalidate(String key, String staleValue, Function<String, String> loader) {
+        long requestedAt = clock.currentTimeMillis();
+        if (refreshing.putIfAbsent(key, requestedAt) != null) {
+            // Another stale hit already scheduled the refresh
+            hits.incrementAndGet();
+            staleHits.incrementAndGet();
+            return LoadResult.stale(staleValue);
+        }
+
+        int currentGeneration = generation;
+        try {
+            refreshExecutor.execute(() -> refresh(key, loader, requestedAt, currentGeneration));
+            maxRevalidationQueueDepth.accumulateAndGet(refreshExecutor.getQueue().size(), Math::max);
+            hits.incrementAndGet();
+            staleHits.incrementAndGet();
+            return LoadResult.stale(staleValue);
+        } catch (RejectedExecutionException e) {
+            rejectedRevalidations.incrementAndGet();
+            if (refreshQueueFullPolicy == RefreshQueueFullPolicy.CALLER_RUNS) {
+                // The request pays for the fetch itself, so it counts as a miss
+                misses.incrementAndGet();
+                return LoadResult.loaded(refresh(key, loader, requestedAt, currentGeneration));
+            }
+            // Dropped: release the key so a later stale hit can try again
+            refreshing.remove(key, requestedAt);
+            hits.incrementAndGet();
+            staleHits.incrementAndGet();
+            return LoadResult.stale(staleValue);
+        }
+    }
+
+    /**
+     * Asynchronous revalidate: same single pending refresh and queue-full
+     * policy, but nothing blocks. Under CALLER_RUNS the returned future
+     * completes with the loaded value instead of the caller running the fetch.
+     */
+    private CompletableFuture<LoadResult> revalidateAsync(
+            String key, String staleValue, Function<String, CompletableFuture<String>> asyncLoader) {
+        long requestedAt = clock.currentTimeMillis();
+        if (refreshing.putIfAbsent(key, requestedAt) != null) {
+            // Another stale hit already scheduled the refresh
+            hits.incrementAndGet();
+            staleHits.incrementAndGet();
+            return CompletableFuture.completedFuture(LoadResult.stale(staleValue));
+        }
+
+        int currentGeneration = generation;
+        try {
+            refreshExecutor.execute(() -> refreshAsync(key, asyncLoader, requestedAt, currentGeneration));
+            maxRevalidationQueueDepth.accumulateAndGet(refreshExecutor.getQueue().size(), Math::max);
+            hits.incrementAndGet();
+            staleHits.incrementAndGet();
+            return CompletableFuture.completedFuture(LoadResult.stale(staleValue));
+        } catch (RejectedExecutionException e) {
+            rejectedRevalidations.incrementAndGet();
+            if (refreshQueueFullPolicy == RefreshQueueFullPolicy.CALLER_RUNS) {
+                // The request waits for the fetch, so it counts as a miss
+                misses.incrementAndGet();
+                return refreshAsync(key, asyncLoader, requestedAt, currentGeneration)
+                    .thenApply(LoadResult::loaded);
+            }
+            // Dropped: release the key so a later stale hit can try again
+            refreshing.remove(key, requestedAt);
+            hits.incrementAndGet();
+            staleHits.incrementAndGet();
+            return CompletableFuture.completedFuture(LoadResult.stale(staleValue));
+        }
+    }
+
+    /**
+     * Fetch a fresh value and install it, unless the cache was reset meanwhile.
+     */
+    private String refresh(String key, Function<String, String> loader, long requestedAt, int expectedGeneration) {
+        try {
+            String value = loader.apply(key);
+            install(key, value, requestedAt, expectedGeneration);
+            return value;
+        } finally {
+            refreshing.remove(key, requestedAt);
+        }
+    }
+
+    /**
+     * Start an async fetch and chain the install on it. The key is released
+     * when the load completes, whether or not it succeeded.
+     */
+    private CompletableFuture<String> refreshAsync(String key, Function<String, CompletableFuture<String>> asyncLoader,
+                                                   long requestedAt, int expectedGeneration) {
+        return startLoad(key, asyncLoader).whenComplete((value, error) -> {
+            try {
+                if (error == null) {
+                    install(key, value, requestedAt, expectedGeneration);
+                }
+            } finally {
+                refreshing.remove(key, requestedAt);
+            }
+        });
+    }
+
+    private void install(String key, String value, long requestedAt, int expectedGeneration) {
+        if (expectedGeneration == generation) {
+            put(key, value);
+            long lagMs = clock.currentTimeMillis() - requestedAt;
+            revalidations.incrementAndGet();
+            totalRefreshLagMs.addAndGet(lagMs);
+            maxRefreshLagMs.accumulateAndGet(lagMs, Math::max);
+        }
+    }
+
+    /**
+     * Call an async loader; one that throws or returns null gives a failed future.
+     */
+    private static CompletableFuture<String> startLoad(
+            String key, Function<String, CompletableFuture<String>> asyncLoader) {
+        try {
+            CompletableFuture<String> load = asyncLoader.apply(key);
+            return load != null ? load : CompletableFuture.failedFuture(
+                new NullPointerException("Async loader returned null for key " + key));
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    /**
+     * Plain lookup without a loader: only fresh values are returned.
+     * Stale entries are kept so a later loading get can still serve them.
+     */
     @Override
     public String get(String key) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        lock.writeLock().lock();
+        try {
+            long now = clock.currentTimeMillis();
+            CacheEntry entry = cache.get(key);
+
+            if (entry == null || entry.isExpired(now)) {
+                if (entry != null && now - entry.expirationTime > staleGraceMs) {
+                    cache.remove(key);
+                    expirations.incrementAndGet();
+                }
+                misses.incrementAndGet();
+                return null;
+            }
+
+            // Optionally reset TTL on access
+            if (resetTtlOnAccess) {
+                entry.expirationTime = now + ttlMs;
+            }
+
+            hits.incrementAndGet();
+            return entry.value;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
-    
+
     @Override
     public void put(String key, String value) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        lock.writeLock().lock();
+        try {
+            cache.put(key, new CacheEntry(value, clock.currentTimeMillis() + ttlMs));
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
-    
+
     @Override
     public void reset() {
-        throw new UnsupportedOperationException("Not implemented yet");
+        lock.writeLock().lock();
+        try {
+            generation++;
+            cache.clear();
+            refreshing.clear();
+            hits.set(0);
+            misses.set(0);
+            staleHits.set(0);
+            evictions.set(0);
+            expirations.set(0);
+            revalidations.set(0);
+            rejectedRevalidations.set(0);
+            maxRevalidationQueueDepth.set(0);
+            totalRefreshLagMs.set(0);
+            maxRefreshLagMs.set(0);
+
+            // Re-read config values
+            if (cacheConfig != null) {
+                this.maxSize = cacheConfig.getMaxSize();
+                this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+                this.staleGraceMs = cacheConfig.getStaleGraceMs();
+                this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+                this.refreshThreads = Math.max(1, cacheConfig.getRefreshThreads());
+                this.refreshQueueCapacity = cacheConfig.getRefreshQueueCapacity();
+                this.refreshQueueFullPolicy = cacheConfig.getRefreshQueueFullPolicy();
+            }
+            initCache();
+            initRefreshExecutor();
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
-    
+
     @Override
     public int size() {
-        throw new UnsupportedOperationException("Not implemented yet");
+        lock.readLock().lock();
+        try {
+            return cache.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public void setMaxSize(int maxSize) {
+        lock.writeLock().lock();
+        try {
+            this.maxSize = maxSize;
+            initCache();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    public void setStaleGraceMs(long staleGraceMs) {
+        this.staleGraceMs = staleGraceMs;
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public int getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public int getExpirations() {
+        return expirations.get();
     }
-}
 
+    /**
+     * Get the number of requests served a value past its TTL.
+     */
+    public int getStaleHits() {
+        return staleHits.get();
+    }
+
+    /**
+     * Get the number of background refreshes that completed.
+     */
+    public int getRevalidations() {
+        return revalidations.get();
+    }
+
+    /**
+     * Get the number of refreshes that found the queue full.
+     */
+    public int getRejectedRevalidations() {
+        return rejectedRevalidations.get();
+    }
+
+    /**
+     * Get the deepest the refresh queue has been since the last reset.
+     */
+    public int getMaxRevalidationQueueDepth() {
+        return maxRevalidationQueueDepth.get();
+    }
+
+    /**
+     * Get the average time from a stale hit requesting a refresh to the fresh value landing.
+     */
+    public double getAverageRefreshLagMs() {
+        int completed = revalidations.get();
+        if (completed == 0) return 0.0;
+        return (double) totalRefreshLagMs.get() / completed;
+    }
+
+    public long getMaxRefreshLagMs() {
+        return maxRefreshLagMs.get();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public long getStaleGraceMs() {
+        return staleGraceMs;
+    }
+
+    public double getHitRate() {
+        int totalRequests = hits.get() + misses.get();
+        if (totalRequests == 0) return 0.0;
+        return (double) hits.get() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Stale-While-Revalidate";
+    }
+}
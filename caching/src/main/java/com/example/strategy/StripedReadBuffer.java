@@ -0,0 +1,85 @@
+package com.example.strategy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lossy, striped buffer of access events for lock-free cache hit paths.
+ * Each thread offers into one of several bounded ring buffers chosen by its
+ * thread id. Producers give up instead of waiting when their ring is full or
+ * a CAS races. Draining replays the events in batches and must be done by
+ * one thread at a time (callers drain under their eviction lock).
+ */
+final class StripedReadBuffer<E> {
+
+    /**
+     * Bounded multi-producer, single-consumer ring buffer.
+     */
+    private static final class Ring<E> {
+        static final int SIZE = 16;
+        static final int MASK = SIZE - 1;
+
+        final AtomicLong writeCounter = new AtomicLong();
+        final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(SIZE);
+        volatile long readCounter;
+
+        long offer(E event) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            if (tail - head >= SIZE) {
+                return -1;
+            }
+            if (!writeCounter.compareAndSet(tail, tail + 1)) {
+                return -1;
+            }
+            buffer.lazySet((int) (tail & MASK), event);
+            return tail + 1 - head;
+        }
+
+        void drainTo(Consumer<E> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & MASK);
+                E event = buffer.get(index);
+                if (event == null) {
+                    // Producer claimed the slot but hasn't published yet
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(event);
+            }
+            readCounter = head;
+        }
+    }
+
+    private final Ring<E>[] rings;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    StripedReadBuffer() {
+        int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        rings = new Ring[stripes];
+        for (int i = 0; i < stripes; i++) {
+            rings[i] = new Ring<>();
+        }
+    }
+
+    /**
+     * Record an event in the calling thread's ring.
+     * @return Pending events in that ring after the offer, or -1 if the event was dropped
+     */
+    long offer(E event) {
+        int index = (int) (Thread.currentThread().threadId() * 0x9E3779B9L >>> 16) & (rings.length - 1);
+        return rings[index].offer(event);
+    }
+
+    /**
+     * Replay every buffered event. Single consumer only.
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Ring<E> ring : rings) {
+            ring.drainTo(consumer);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Two-Tier (L1/L2) Cache Strategy
+ * A small lock-striped L1 in front of a larger shared LRU with TTL (L2).
+ *
+ * Features:
+ * - L1 is a SegmentedLRUWithTTLStrategy, so hot keys are served without
+ *   touching the L2's single lock
+ * - Inclusive tiers: every value lives in L2, L1 only holds copies. An L1
+ *   copy never outlives its L2 entry: its expiry is capped at the L2
+ *   entry's, and an L2 capacity eviction drops the L1 copy too
+ * - L1 hits refresh the key's L2 recency (and TTL, with resetTtlOnAccess)
+ *   on one hit in L2_TOUCH_SAMPLE, so L2 keeps the keys L1 is serving
+ *   without every L1 hit taking L2's lock
+ * - Promotion: a key is copied to L1 after l1PromotionThreshold recent L2
+ *   hits, estimated with a count-min frequency sketch (1 = on first hit)
+ * - Demotion: L1 copies are dropped by L1 LRU eviction or by the shorter
+ *   L1 TTL, which also bounds how stale an L1 copy can get
+ * - Writes go to L2 and invalidate the L1 copy (or refresh it when
+ *   l1PromoteOnWrite is set)
+ *
+ * A promotion racing an L2 eviction of the same key can leave an L1 copy
+ * whose L2 entry is gone; it still expires no later than that entry would
+ * have.
+ */
+@Component
+public class TieredCacheStrategy implements BoundedCacheStrategy {
+
+    private static final int L1_MIN_ENTRIES_PER_SEGMENT = 8;
+
+    // One L1 hit in this many also touches the key in L2
+    private static final int L2_TOUCH_SAMPLE = 8;
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected; passed on to both tiers
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    // Tiers, not Spring beans so their state is private to this strategy
+    private final SegmentedLRUWithTTLStrategy l1 = new SegmentedLRUWithTTLStrategy();
+    private final LRUWithTTLStrategy l2 = new LRUWithTTLStrategy();
+
+    // Recent L2 hit counts for promotion decisions, guarded by its own monitor
+    private FrequencySketch promotionSketch;
+
+    // Statistics
+    private final AtomicInteger l1Hits = new AtomicInteger(0);
+    private final AtomicInteger l2Hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+    private final AtomicInteger promotions = new AtomicInteger(0);
+
+    // Configurable parameters (can be overridden per scenario)
+    private int l1MaxSize;
+    private int l1Segments;
+    private long l1TtlMs;
+    private int promotionThreshold;
+    private boolean promoteOnWrite;
+
+    public TieredCacheStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.l1MaxSize = 128;
+        this.l1Segments = 16;
+        this.l1TtlMs = 1000;
+        this.promotionThreshold = 2;
+        this.promoteOnWrite = false;
+        initTiers();
+    }
+
+    private void initTiers() {
+        l2.setEvictionListener(l1::invalidate);
+        l2.setClock(clock);
+        l1.setClock(clock);
+        l2.reset();
+        l1.reset();
+        l1.setResetTtlOnAccess(false);
+        configureL1();
+        this.promotionSketch = new FrequencySketch(l2.getMaxSize());
+    }
+
+    /**
+     * Size L1 from its own limit, never larger than L2, and cap its TTL at L2's.
+     * Stripes are capped so each holds at least L1_MIN_ENTRIES_PER_SEGMENT entries,
+     * otherwise a small L1 degenerates into one-entry segments that thrash.
+     */
+    private void configureL1() {
+        int size = Math.max(1, Math.min(l1MaxSize, l2.getMaxSize()));
+        l1.setSegmentCount(Math.min(l1Segments, Math.max(1, size / L1_MIN_ENTRIES_PER_SEGMENT)));
+        l1.setMaxSize(size);
+        l1.setTtlMs(Math.min(l1TtlMs, l2.getTtlMs()));
+    }
+
+    @Override
+    public String get(String key) {
+        String value = l1.get(key);
+        if (value != null) {
+            l1Hits.incrementAndGet();
+            if (ThreadLocalRandom.current().nextInt(L2_TOUCH_SAMPLE) == 0) {
+                l2.touch(key);
+            }
+            return value;
+        }
+
+        LRUWithTTLStrategy.ExpiringValue entry = l2.getWithExpiration(key);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        l2Hits.incrementAndGet();
+        if (shouldPromote(key)) {
+            // The copy must not outlive the L2 entry
+            long expirationTime = Math.min(clock.currentTimeMillis() + l1.getTtlMs(), entry.expirationTime());
+            l1.putExpiringAt(key, entry.value(), expirationTime);
+            promotions.incrementAndGet();
+        }
+        return entry.value();
+    }
+
+    private boolean shouldPromote(String key) {
+        if (promotionThreshold <= 1) {
+            return true;
+        }
+        synchronized (promotionSketch) {
+            promotionSketch.increment(key);
+            return promotionSketch.frequency(key) >= promotionThreshold;
+        }
+    }
+
+    @Override
+    public void put(String key, String value) {
+        l2.put(key, value);
+        if (promoteOnWrite) {
+            l1.put(key, value);
+        } else {
+            l1.invalidate(key);
+        }
+    }
+
+    @Override
+    public void reset() {
+        l1Hits.set(0);
+        l2Hits.set(0);
+        misses.set(0);
+        promotions.set(0);
+
+        // Re-read config values
+        if (cacheConfig != null) {
+            this.l1MaxSize = cacheConfig.getL1MaxSize();
+            this.l1Segments = cacheConfig.getSegmentCount();
+            this.l1TtlMs = cacheConfig.getL1TtlMs();
+            this.promotionThreshold = cacheConfig.getL1PromotionThreshold();
+            this.promoteOnWrite = cacheConfig.isL1PromoteOnWrite();
+            l2.setMaxSize(cacheConfig.getMaxSize());
+            l2.setTtlMs(cacheConfig.getTtlSeconds() * 1000);
+            l2.setResetTtlOnAccess(cacheConfig.isResetTtlOnAccess());
+        }
+        initTiers();
+    }
+
+    @Override
+    public int size() {
+        // Tiers are inclusive (an L2 eviction drops the L1 copy), so L2 holds every cached key
+        return l2.size();
+    }
+
+    // Configuration methods for scenarios (apply to L2, L1 follows its own limits)
+    @Override
+    public void setMaxSize(int maxSize) {
+        l2.setMaxSize(maxSize);
+        configureL1();
+        this.promotionSketch = new FrequencySketch(maxSize);
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        l2.setTtlMs(ttlMs);
+        l1.setTtlMs(Math.min(l1TtlMs, ttlMs));
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        l2.setResetTtlOnAccess(resetTtlOnAccess);
+    }
+
+    /**
+     * Override the L1 capacity until the next reset(). Clears L1.
+     */
+    public void setL1MaxSize(int l1MaxSize) {
+        this.l1MaxSize = l1MaxSize;
+        configureL1();
+    }
+
+    // Statistics getters (whole cache)
+    @Override
+    public int getHits() {
+        return l1Hits.get() + l2Hits.get();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public int getEvictions() {
+        return l2.getEvictions();
+    }
+
+    @Override
+    public int getExpirations() {
+        return l2.getExpirations();
+    }
+
+    // Per-tier statistics
+    public int getL1Hits() {
+        return l1Hits.get();
+    }
+
+    public int getL1Misses() {
+        return l1.getMisses();
+    }
+
+    /**
+     * Get L1 demotions: copies dropped by L1 LRU eviction or by the L1 TTL.
+     */
+    public int getL1Evictions() {
+        return l1.getEvictions() + l1.getExpirations();
+    }
+
+    public int getL1Size() {
+        return l1.size();
+    }
+
+    public int getL2Hits() {
+        return l2Hits.get();
+    }
+
+    public int getL2Misses() {
+        return l2.getMisses();
+    }
+
+    public int getL2Evictions() {
+        return l2.getEvictions();
+    }
+
+    /**
+     * Get the number of values copied from L2 into L1.
+     */
+    public int getPromotions() {
+        return promotions.get();
+    }
+
+    @Override
+    public int getMaxSize() {
+        return l2.getMaxSize();
+    }
+
+    @Override
+    public long getTtlMs() {
+        return l2.getTtlMs();
+    }
+
+    public double getHitRate() {
+        int totalRequests = getHits() + misses.get();
+        if (totalRequests == 0) return 0.0;
+        return (double) getHits() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "Tiered-L1-L2";
+    }
+}
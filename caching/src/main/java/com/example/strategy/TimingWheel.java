@@ -0,0 +1,191 @@
+package com.example.strategy;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for proactive TTL expiration.
+ *
+ * Four levels of 64 buckets each. A level-0 bucket covers one resolution
+ * step (the tick rounded up to a power of two) and each higher level is 64
+ * times coarser, so with a 10ms tick the wheel spans roughly 1s, 70s, 75min
+ * and 80h. Timers live in intrusive doubly-linked bucket lists, so schedule,
+ * reschedule and cancel are O(1). When time advances past a bucket its timers
+ * either expire or cascade to a finer level; each timer cascades at most once
+ * per level, which makes expiration O(1) amortized.
+ *
+ * Not thread-safe; callers guard it with their own lock.
+ */
+public class TimingWheel {
+
+    private static final int LEVELS = 4;
+    private static final int BUCKETS = 64;
+    private static final int BUCKET_MASK = BUCKETS - 1;
+    private static final int LEVEL_SHIFT = 6;
+
+    /**
+     * A schedulable timer. Strategies extend this for their cache entries.
+     */
+    public static class Timer {
+        private final String key;
+        private long deadline;
+        private Timer prev;
+        private Timer next;
+
+        public Timer(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getDeadline() {
+            return deadline;
+        }
+
+        public boolean isScheduled() {
+            return next != null;
+        }
+    }
+
+    private final Timer[][] wheel = new Timer[LEVELS][BUCKETS];
+    private final int[] shifts = new int[LEVELS];
+    private long currentTime;
+    private int size;
+
+    /**
+     * @param tickMs Resolution of the finest level, rounded up to a power of two
+     * @param startTime Current time in milliseconds
+     */
+    public TimingWheel(long tickMs, long startTime) {
+        int baseShift = 64 - Long.numberOfLeadingZeros(Math.max(1, tickMs) - 1);
+        for (int level = 0; level < LEVELS; level++) {
+            shifts[level] = baseShift + level * LEVEL_SHIFT;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                Timer sentinel = new Timer(null);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                wheel[level][bucket] = sentinel;
+            }
+        }
+        this.currentTime = startTime;
+    }
+
+    /**
+     * Schedule (or reschedule) a timer to fire at the given deadline.
+     */
+    public void schedule(Timer timer, long deadline) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+        }
+        timer.deadline = deadline;
+        link(findBucket(deadline), timer);
+    }
+
+    /**
+     * Cancel a timer. No-op if it isn't scheduled.
+     */
+    public void cancel(Timer timer) {
+        if (timer.isScheduled()) {
+            unlink(timer);
+        }
+    }
+
+    /**
+     * Advance the wheel to the given time, expiring every due timer.
+     * Timers in passed buckets that aren't due yet cascade to a finer level.
+     *
+     * @param now Current time in milliseconds
+     * @param onExpire Called once per expired timer, after it has been unscheduled
+     * @return Number of timers expired
+     */
+    public int advance(long now, Consumer<Timer> onExpire) {
+        long previousTime = currentTime;
+        if (now <= previousTime) {
+            return 0;
+        }
+        currentTime = now;
+
+        int expired = 0;
+        for (int level = 0; level < LEVELS; level++) {
+            long previousTicks = previousTime >>> shifts[level];
+            long currentTicks = now >>> shifts[level];
+            long delta = currentTicks - previousTicks;
+            if (delta <= 0) {
+                break;
+            }
+            expired += expireBuckets(level, previousTicks, delta, onExpire);
+        }
+        return expired;
+    }
+
+    private int expireBuckets(int level, long previousTicks, long delta, Consumer<Timer> onExpire) {
+        int expired = 0;
+        int steps = (int) Math.min(delta + 1, BUCKETS);
+        int start = (int) (previousTicks & BUCKET_MASK);
+        for (int i = 0; i < steps; i++) {
+            Timer sentinel = wheel[level][(start + i) & BUCKET_MASK];
+            Timer timer = sentinel.next;
+
+            // Detach the whole bucket before processing, timers may be re-linked into it
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+
+            while (timer != sentinel) {
+                Timer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                size--;
+
+                if (timer.deadline <= currentTime) {
+                    expired++;
+                    onExpire.accept(timer);
+                } else {
+                    link(findBucket(timer.deadline), timer);
+                }
+                timer = next;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Pick the finest level whose rotation still covers the deadline.
+     * Deadlines beyond the top level are parked in the top level and cascade later.
+     */
+    private Timer findBucket(long deadline) {
+        long duration = Math.max(0, deadline - currentTime);
+        for (int level = 0; level < LEVELS - 1; level++) {
+            if (duration < (1L << shifts[level + 1])) {
+                long ticks = deadline >>> shifts[level];
+                return wheel[level][(int) (ticks & BUCKET_MASK)];
+            }
+        }
+        long ticks = Math.min(deadline, currentTime + (1L << (shifts[LEVELS - 1] + LEVEL_SHIFT)) - 1)
+            >>> shifts[LEVELS - 1];
+        return wheel[LEVELS - 1][(int) (ticks & BUCKET_MASK)];
+    }
+
+    private void link(Timer sentinel, Timer timer) {
+        timer.prev = sentinel.prev;
+        timer.next = sentinel;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+        size++;
+    }
+
+    private void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        size--;
+    }
+
+    /**
+     * Get the number of scheduled timers.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.strategy;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 2Q Cache Strategy
+ * Johnson and Shasha's full 2Q: a FIFO for first-time keys in front of an
+ * LRU for keys that proved themselves.
+ *
+ * Features:
+ * - A1in: FIFO of keys seen once (Kin = 25% of capacity); hits there do not
+ *   reorder, so correlated re-references right after a load count only once
+ * - A1out: ghost FIFO of keys pushed out of A1in (Kout = 50% of capacity)
+ * - Am: LRU of keys re-requested while in A1out
+ * - A one-pass scan only cycles through A1in and cannot flush Am
+ * - Lock-free hit path (see GhostListCacheStrategy)
+ */
+@Component
+public final class TwoQueueStrategy extends GhostListCacheStrategy {
+
+    private static final int KIN_PERCENT = 25;
+    private static final int KOUT_PERCENT = 50;
+
+    private static final byte A1IN = 1;
+    private static final byte AM = 2;
+    private static final byte A1OUT = 3;
+
+    // Queues are guarded by the eviction lock
+    private final AccessQueue a1in = new AccessQueue(A1IN);
+    private final AccessQueue am = new AccessQueue(AM);
+    private final AccessQueue a1out = new AccessQueue(A1OUT);
+
+    // Queue sizes derived from maxSize
+    private int kin;
+    private int kout;
+
+    public TwoQueueStrategy() {
+        deriveQueueSizes();
+    }
+
+    @Override
+    protected void onHit(Node node) {
+        if (am.contains(node)) {
+            am.moveToTail(node);
+        }
+    }
+
+    @Override
+    protected void admit(Node node, Node ghost) {
+        if (ghost != null) {
+            recordRecentGhostHit();
+            a1out.unlink(ghost);
+            reclaim();
+            am.linkLast(node);
+        } else {
+            reclaim();
+            a1in.linkLast(node);
+        }
+    }
+
+    /**
+     * Free a slot if the cache is full: push the oldest A1in key out to A1out
+     * while A1in is over Kin, else evict the LRU of Am.
+     */
+    private void reclaim() {
+        if (a1in.size + am.size < getMaxSize()) {
+            return;
+        }
+        if (a1in.size > kin || am.size == 0) {
+            a1out.linkLast(evictToGhost(a1in.head));
+            if (a1out.size > kout) {
+                dropGhost(a1out.head);
+            }
+        } else {
+            evict(am.head);
+        }
+    }
+
+    @Override
+    protected void unlinkResident(Node node) {
+        if (a1in.contains(node)) {
+            a1in.unlink(node);
+        } else if (am.contains(node)) {
+            am.unlink(node);
+        }
+    }
+
+    @Override
+    protected void unlinkGhost(Node ghost) {
+        if (a1out.contains(ghost)) {
+            a1out.unlink(ghost);
+        }
+    }
+
+    @Override
+    protected void clearQueues() {
+        a1in.clear();
+        am.clear();
+        a1out.clear();
+        deriveQueueSizes();
+    }
+
+    private void deriveQueueSizes() {
+        this.kin = Math.max(1, getMaxSize() * KIN_PERCENT / 100);
+        this.kout = Math.max(1, getMaxSize() * KOUT_PERCENT / 100);
+    }
+
+    @Override
+    protected int recentSizeLocked() {
+        return a1in.size;
+    }
+
+    @Override
+    protected int recentTargetSizeLocked() {
+        return kin;
+    }
+
+    @Override
+    public String getName() {
+        return "2Q";
+    }
+}
@@ -0,0 +1,424 @@
+package com.example.strategy;
+
+import com.example.config.CacheConfig;
+import com.example.infrastructure.CacheClock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * W-TinyLFU Cache Strategy
+ * Window LRU in front of a segmented LRU main region, with a TinyLFU
+ * admission filter deciding which of the two eviction candidates survives.
+ *
+ * Features:
+ * - Admission window (1% of capacity) absorbs recency bursts
+ * - Main region split into probation (20%) and protected (80%) segments
+ * - 4-bit count-min sketch estimates key popularity and ages periodically
+ * - One-hit wonders evicted from the window lose against established keys
+ * - TTL-based expiration for entries
+ *
+ * The hit path only relinks nodes and bumps sketch counters, so it does not
+ * allocate.
+ */
+@Component
+public class WTinyLFUStrategy implements BoundedCacheStrategy {
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    // System time until the bean is injected (see CacheClock)
+    @Autowired
+    private CacheClock clock = CacheClock.SYSTEM;
+
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+
+    private static final byte WINDOW = 0;
+    private static final byte PROBATION = 1;
+    private static final byte PROTECTED = 2;
+
+    // Cache entry that is also a node in one of the three LRU queues
+    private static class Node {
+        final String key;
+        String value;
+        long expirationTime;
+        byte queue;
+        Node prev;
+        Node next;
+
+        Node(String key, String value, long expirationTime) {
+            this.key = key;
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean isExpired(long now) {
+            return now > expirationTime;
+        }
+    }
+
+    /**
+     * Intrusive doubly-linked LRU queue (head = least recently used).
+     */
+    private static class AccessQueue {
+        Node head;
+        Node tail;
+        int size;
+
+        void linkLast(Node node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void unlink(Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToTail(Node node) {
+            if (node != tail) {
+                unlink(node);
+                linkLast(node);
+            }
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    private final HashMap<String, Node> data = new HashMap<>();
+    private final AccessQueue window = new AccessQueue();
+    private final AccessQueue probation = new AccessQueue();
+    private final AccessQueue protectedQueue = new AccessQueue();
+    private final FrequencySketch sketch;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Statistics
+    private final AtomicInteger hits = new AtomicInteger(0);
+    private final AtomicInteger misses = new AtomicInteger(0);
+    private final AtomicInteger evictions = new AtomicInteger(0);
+    private final AtomicInteger expirations = new AtomicInteger(0);
+    private final AtomicInteger admissionRejections = new AtomicInteger(0);
+
+    // Configurable parameters (can be overridden per scenario)
+    private int maxSize;
+    private long ttlMs;
+    private boolean resetTtlOnAccess;
+
+    // Region sizes derived from maxSize
+    private int windowMaxSize;
+    private int mainMaxSize;
+    private int protectedMaxSize;
+
+    public WTinyLFUStrategy() {
+        // Initialize with defaults, will be overridden by config
+        this.maxSize = 100;
+        this.ttlMs = 5000;
+        this.resetTtlOnAccess = true;
+        this.sketch = new FrequencySketch(maxSize);
+        initCache();
+    }
+
+    /**
+     * Clear all entries and recompute region sizes. Must hold lock
+     * (or be called from the constructor).
+     */
+    private void initCache() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+        sketch.ensureCapacity(maxSize);
+
+        this.windowMaxSize = Math.max(1, maxSize * WINDOW_PERCENT / 100);
+        this.mainMaxSize = Math.max(0, maxSize - windowMaxSize);
+        this.protectedMaxSize = mainMaxSize * PROTECTED_PERCENT / 100;
+    }
+
+    @Override
+    public String get(String key) {
+        lock.lock();
+        try {
+            sketch.increment(key);
+            Node node = data.get(key);
+
+            if (node == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+
+            long now = clock.currentTimeMillis();
+            if (node.isExpired(now)) {
+                removeNode(node);
+                expirations.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+
+            // Optionally reset TTL on access
+            if (resetTtlOnAccess) {
+                node.expirationTime = now + ttlMs;
+            }
+
+            onHit(node);
+            hits.incrementAndGet();
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(String key, String value) {
+        lock.lock();
+        try {
+            long expirationTime = clock.currentTimeMillis() + ttlMs;
+            Node existing = data.get(key);
+            if (existing != null) {
+                existing.value = value;
+                existing.expirationTime = expirationTime;
+                onHit(existing);
+                return;
+            }
+
+            Node node = new Node(key, value, expirationTime);
+            node.queue = WINDOW;
+            data.put(key, node);
+            window.linkLast(node);
+            evictFromWindow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reorder a node after a hit.
+     * Probation hits are promoted to protected, demoting protected overflow.
+     */
+    private void onHit(Node node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.moveToTail(node);
+                break;
+            case PROBATION:
+                probation.unlink(node);
+                node.queue = PROTECTED;
+                protectedQueue.linkLast(node);
+                if (protectedQueue.size > protectedMaxSize) {
+                    Node demoted = protectedQueue.head;
+                    protectedQueue.unlink(demoted);
+                    demoted.queue = PROBATION;
+                    probation.linkLast(demoted);
+                }
+                break;
+            default:
+                protectedQueue.moveToTail(node);
+                break;
+        }
+    }
+
+    /**
+     * Move window overflow into probation, then let TinyLFU pick
+     * between the window candidate and the probation victim.
+     */
+    private void evictFromWindow() {
+        while (window.size > windowMaxSize) {
+            Node candidate = window.head;
+            window.unlink(candidate);
+
+            if (mainMaxSize == 0) {
+                data.remove(candidate.key);
+                evictions.incrementAndGet();
+                continue;
+            }
+
+            candidate.queue = PROBATION;
+            probation.linkLast(candidate);
+
+            if (probation.size + protectedQueue.size > mainMaxSize) {
+                Node victim = probation.head != candidate ? probation.head : protectedQueue.head;
+                if (victim == null) {
+                    victim = candidate;
+                }
+                Node evicted = admit(candidate, victim) ? victim : candidate;
+                if (evicted == candidate) {
+                    admissionRejections.incrementAndGet();
+                }
+                removeNode(evicted);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * TinyLFU admission: the candidate replaces the victim only if it is
+     * estimated to be more popular.
+     */
+    private boolean admit(Node candidate, Node victim) {
+        if (candidate == victim) {
+            return false;
+        }
+        return sketch.frequency(candidate.key) > sketch.frequency(victim.key);
+    }
+
+    private void removeNode(Node node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.unlink(node);
+                break;
+            case PROBATION:
+                probation.unlink(node);
+                break;
+            default:
+                protectedQueue.unlink(node);
+                break;
+        }
+        data.remove(node.key);
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            hits.set(0);
+            misses.set(0);
+            evictions.set(0);
+            expirations.set(0);
+            admissionRejections.set(0);
+
+            // Re-read config values
+            if (cacheConfig != null) {
+                this.maxSize = cacheConfig.getMaxSize();
+                this.ttlMs = cacheConfig.getTtlSeconds() * 1000;
+                this.resetTtlOnAccess = cacheConfig.isResetTtlOnAccess();
+            }
+            initCache();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return data.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Configuration methods for scenarios
+    @Override
+    public void setMaxSize(int maxSize) {
+        lock.lock();
+        try {
+            this.maxSize = maxSize;
+            initCache();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void setTtlMs(long ttlMs) {
+        this.ttlMs = ttlMs;
+    }
+
+    @Override
+    public void setResetTtlOnAccess(boolean resetTtlOnAccess) {
+        this.resetTtlOnAccess = resetTtlOnAccess;
+    }
+
+    // Statistics getters
+    @Override
+    public int getHits() {
+        return hits.get();
+    }
+
+    @Override
+    public int getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public int getEvictions() {
+        return evictions.get();
+    }
+
+    @Override
+    public int getExpirations() {
+        return expirations.get();
+    }
+
+    /**
+     * Get the number of window candidates the admission filter rejected.
+     */
+    public int getAdmissionRejections() {
+        return admissionRejections.get();
+    }
+
+    public int getSketchResets() {
+        lock.lock();
+        try {
+            return sketch.getResets();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSketchSizeBytes() {
+        lock.lock();
+        try {
+            return sketch.getSizeBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public long getTtlMs() {
+        return ttlMs;
+    }
+
+    public double getHitRate() {
+        int totalRequests = hits.get() + misses.get();
+        if (totalRequests == 0) return 0.0;
+        return (double) hits.get() / totalRequests * 100;
+    }
+
+    @Override
+    public String getName() {
+        return "W-TinyLFU";
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.strategy;
+
+/**
+ * Computes the weight of a cache entry, used for byte-budget eviction and
+ * for reporting how much memory a cache holds.
+ */
+@FunctionalInterface
+public interface Weigher {
+
+    /**
+     * Approximate per-entry overhead on a 64-bit JVM with compressed oops:
+     * the two String objects and their byte[] headers, the LinkedHashMap
+     * node and the cache's own entry object.
+     */
+    long ENTRY_OVERHEAD_BYTES = 112;
+
+    /**
+     * Get the weight of an entry
+     * @param key The cache key
+     * @param value The cached value
+     * @return Weight, never negative
+     */
+    long weigh(String key, String value);
+
+    /**
+     * Every entry weighs 1, so a weight budget is an entry count.
+     */
+    static Weigher entries() {
+        return (key, value) -> 1;
+    }
+
+    /**
+     * Estimated retained heap bytes: the fixed overhead plus one byte per
+     * character (compact Latin-1 strings; non-Latin-1 text takes two).
+     */
+    static Weigher estimatedBytes() {
+        return (key, value) -> ENTRY_OVERHEAD_BYTES + key.length() + value.length();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.strategy;
+
+/**
+ * Bounded cache that can also be capped by total entry weight (a byte budget).
+ * Weights are always tracked so services can report bytes held; the weight
+ * budget only drives eviction when it is set above zero, in which case the
+ * entry-count limit no longer applies.
+ *
+ * Implemented by the LRU with TTL strategies (plain and segmented) only;
+ * every other strategy is bounded by entry count and reports no byte stats.
+ */
+public interface WeightedCacheStrategy extends BoundedCacheStrategy {
+
+    /**
+     * Set how entries are weighed
+     * Existing entries keep their old weight until replaced; set before loading
+     * @param weigher Entry weigher, e.g. Weigher.estimatedBytes()
+     */
+    void setWeigher(Weigher weigher);
+
+    /**
+     * Set the weight budget
+     * Existing entries may be dropped when the capacity changes
+     * @param maxWeight Maximum total weight, or 0 to bound by entry count (maxSize)
+     */
+    void setMaxWeight(long maxWeight);
+
+    long getMaxWeight();
+
+    /**
+     * Get the total weight of the entries currently held
+     */
+    long getWeightedSize();
+
+    /**
+     * Get the total weight of entries removed by capacity eviction
+     */
+    long getEvictedWeight();
+
+    /**
+     * Get the total weight of values served from the cache
+     */
+    long getHitWeight();
+
+    /**
+     * Get the total weight of values stored (loads after misses and plain puts)
+     */
+    long getWrittenWeight();
+}
@@ -4,16 +4,16 @@ import com.example.vo.LatencyStats;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Utility class for cache test calculations.
  * Provides latency statistics, key generation, and other test helpers.
+ * The key patterns here are simple and unseeded; see the workload package
+ * for Zipf, drifting, scan and loop workloads with repeatable seeds.
  */
 public class CacheTestUtils {
 
-    private static final Random random = new Random();
-
     /**
      * Calculate latency percentiles from sorted latency list.
      * 
@@ -86,31 +86,45 @@ public class CacheTestUtils {
      * @return Generated key
      */
     public static String generateKey(int index, KeyPattern pattern, int maxKeys) {
+        return "key_" + generateLongKey(index, pattern, maxKeys);
+    }
+
+    /**
+     * Generate the numeric part of a key, without building a String.
+     * generateKey returns "key_" followed by this number.
+     * 
+     * @param index Request index (1-based)
+     * @param pattern Key generation pattern
+     * @param maxKeys Maximum number of unique keys (for bounded patterns)
+     * @return Generated key number
+     */
+    public static long generateLongKey(int index, KeyPattern pattern, int maxKeys) {
+        // Per-thread generator: long-keyed loads draw keys on all load threads at once
+        ThreadLocalRandom random = ThreadLocalRandom.current();
         switch (pattern) {
             case SEQUENTIAL:
                 // Keys cycle through 1 to maxKeys
-                return "key_" + ((index - 1) % maxKeys + 1);
+                return (index - 1) % maxKeys + 1;
                 
             case RANDOM:
                 // Random key within range
-                return "key_" + (random.nextInt(maxKeys) + 1);
+                return random.nextInt(maxKeys) + 1;
                 
             case HOT_KEY:
                 // 80% of requests go to 20% of keys (Zipf-like distribution)
                 if (random.nextDouble() < 0.8) {
                     int hotKeyCount = Math.max(1, maxKeys / 5);
-                    return "key_" + (random.nextInt(hotKeyCount) + 1);
+                    return random.nextInt(hotKeyCount) + 1;
                 } else {
-                    return "key_" + (random.nextInt(maxKeys) + 1);
+                    return random.nextInt(maxKeys) + 1;
                 }
                 
             case BURST:
                 // Same key repeated in bursts of 10
-                int burstKey = ((index - 1) / 10) % maxKeys + 1;
-                return "key_" + burstKey;
+                return ((index - 1) / 10) % maxKeys + 1;
                 
             default:
-                return "key_" + index;
+                return index;
         }
     }
 
@@ -168,6 +182,16 @@ public class CacheTestUtils {
         return index -> generateKey(index, KeyPattern.BURST, maxKeys);
     }
 
+    /**
+     * Create a hot key generator producing key numbers instead of Strings.
+     * 
+     * @param maxKeys Maximum unique keys
+     * @return Key number generator function
+     */
+    public static java.util.function.IntToLongFunction hotLongKeyGenerator(int maxKeys) {
+        return index -> generateLongKey(index, KeyPattern.HOT_KEY, maxKeys);
+    }
+
     /**
      * Calculate throughput in requests per second.
      *
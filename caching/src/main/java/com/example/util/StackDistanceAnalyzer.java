@@ -0,0 +1,160 @@
+package com.example.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One-pass LRU miss-ratio-curve analyzer (Mattson stack distances).
+ * An access hits in an LRU cache of size C exactly when fewer than C other
+ * distinct keys were accessed since the key's previous access, so one pass
+ * over a key stream yields the hit rate at every cache size.
+ *
+ * Features:
+ * - Stack distances counted with a Fenwick tree over access times, marking
+ *   each key's most recent access (O(log n) per access)
+ * - Optional SHARDS spatial sampling (Waldspurger et al., FAST 2015): only
+ *   keys whose hash falls under the sampling rate R are tracked, and their
+ *   distances are scaled by 1/R. Memory and time shrink by R; the count of
+ *   sampled accesses is corrected to its expectation (SHARDS-adj).
+ *   Estimates are good once a few thousand distinct keys are sampled; with
+ *   only a few hundred, which hot keys happen to be sampled skews the curve
+ */
+public class StackDistanceAnalyzer {
+
+    // Hash space for the sampling threshold
+    private static final long SAMPLING_MODULUS = 1L << 24;
+
+    private final double samplingRate;
+    private final long samplingThreshold;
+
+    private final Map<Long, Integer> lastAccess = new HashMap<>();
+    private int[] tree;  // Fenwick tree over sampled access times (1-based)
+    private long[] distanceCounts = new long[64];  // Sampled accesses by stack distance
+    private int time;  // Sampled accesses so far
+    private long accesses;  // All accesses, sampled or not
+    private long coldMisses;  // Sampled first accesses
+    private long[] cumulativeCounts;  // Sampled hits at distance <= d, rebuilt after new accesses
+
+    /**
+     * @param expectedAccesses Length of the key stream (sizes the tree; it grows if exceeded)
+     * @param samplingRate Fraction of keys to track, in (0, 1]; 1 is exact
+     */
+    public StackDistanceAnalyzer(int expectedAccesses, double samplingRate) {
+        if (!(samplingRate > 0 && samplingRate <= 1)) {
+            throw new IllegalArgumentException("samplingRate must be in (0, 1]: " + samplingRate);
+        }
+        this.samplingRate = samplingRate;
+        this.samplingThreshold = Math.max(1, Math.round(samplingRate * SAMPLING_MODULUS));
+        this.tree = new int[Math.max(16, (int) Math.ceil(expectedAccesses * samplingRate * 1.1)) + 1];
+    }
+
+    /**
+     * Record one access to a key.
+     */
+    public void access(long key) {
+        accesses++;
+        cumulativeCounts = null;
+        if (samplingRate < 1 && (mix(key) & (SAMPLING_MODULUS - 1)) >= samplingThreshold) {
+            return;
+        }
+
+        time++;
+        if (time >= tree.length) {
+            grow();
+        }
+        Integer previous = lastAccess.put(key, time);
+        if (previous == null) {
+            coldMisses++;
+        } else {
+            // Keys whose most recent access is at or after the previous one, this key included
+            int distance = prefixSum(time - 1) - prefixSum(previous - 1);
+            if (distance >= distanceCounts.length) {
+                distanceCounts = Arrays.copyOf(distanceCounts, Math.max(distance + 1, distanceCounts.length * 2));
+            }
+            distanceCounts[distance]++;
+            add(previous, -1);
+        }
+        add(time, 1);
+    }
+
+    /**
+     * Hit rate (percent) of an LRU cache holding cacheSize entries over the stream.
+     */
+    public double hitRate(int cacheSize) {
+        double expectedSampled = accesses * samplingRate;
+        if (expectedSampled <= 0) {
+            return 0.0;
+        }
+
+        // A sampled distance d stands for d / R distinct keys
+        if (cumulativeCounts == null) {
+            cumulativeCounts = new long[distanceCounts.length];
+            for (int d = 1; d < distanceCounts.length; d++) {
+                cumulativeCounts[d] = cumulativeCounts[d - 1] + distanceCounts[d];
+            }
+        }
+        int maxDistance = (int) Math.max(0, Math.min(distanceCounts.length - 1, Math.floor(cacheSize * samplingRate)));
+        double hits = cumulativeCounts[maxDistance];
+        if (maxDistance >= 1) {
+            // SHARDS-adj: credit the sampling error to the smallest distance
+            hits += expectedSampled - time;
+        }
+        double hitRate = hits / expectedSampled * 100;
+        return Math.max(0.0, Math.min(100.0, hitRate));
+    }
+
+    /**
+     * Estimated number of distinct keys; the curve is flat beyond this size.
+     */
+    public int getDistinctKeys() {
+        return (int) Math.round(lastAccess.size() / samplingRate);
+    }
+
+    public long getAccesses() {
+        return accesses;
+    }
+
+    public int getSampledAccesses() {
+        return time;
+    }
+
+    public long getColdMisses() {
+        return coldMisses;
+    }
+
+    private void add(int index, int delta) {
+        for (int i = index; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefixSum(int index) {
+        int sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Double the tree, rebuilding it from the live most-recent-access marks.
+     */
+    private void grow() {
+        tree = new int[tree.length * 2];
+        for (int accessTime : lastAccess.values()) {
+            add(accessTime, 1);
+        }
+    }
+
+    private static long mix(long key) {
+        // MurmurHash3 finalizer: spreads sequential keys over the hash space
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
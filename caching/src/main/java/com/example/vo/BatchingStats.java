@@ -0,0 +1,92 @@
+package com.example.vo;
+
+import java.util.Map;
+
+/**
+ * Value object for micro-batching loader statistics
+ */
+public class BatchingStats {
+    
+    private long maxDelayMs;  // Configured batching window
+    private int maxBatchSize;  // Configured size trigger
+    private int batches;  // Backend batch calls
+    private int keysLoaded;  // Distinct keys fetched across all batches
+    private double averageBatchSize;
+    private int largestBatch;
+    private Map<String, Integer> batchSizeHistogram;  // Power-of-two buckets, e.g. "4-7" -> count
+    private double averageQueueDelayMs;  // Time a miss waited for its batch to dispatch
+    private double maxQueueDelayMs;
+    
+    // Getters and setters
+    public long getMaxDelayMs() {
+        return maxDelayMs;
+    }
+    
+    public void setMaxDelayMs(long maxDelayMs) {
+        this.maxDelayMs = maxDelayMs;
+    }
+    
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+    
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    public int getBatches() {
+        return batches;
+    }
+    
+    public void setBatches(int batches) {
+        this.batches = batches;
+    }
+    
+    public int getKeysLoaded() {
+        return keysLoaded;
+    }
+    
+    public void setKeysLoaded(int keysLoaded) {
+        this.keysLoaded = keysLoaded;
+    }
+    
+    public double getAverageBatchSize() {
+        return averageBatchSize;
+    }
+    
+    public void setAverageBatchSize(double averageBatchSize) {
+        this.averageBatchSize = averageBatchSize;
+    }
+    
+    public int getLargestBatch() {
+        return largestBatch;
+    }
+    
+    public void setLargestBatch(int largestBatch) {
+        this.largestBatch = largestBatch;
+    }
+    
+    public Map<String, Integer> getBatchSizeHistogram() {
+        return batchSizeHistogram;
+    }
+    
+    public void setBatchSizeHistogram(Map<String, Integer> batchSizeHistogram) {
+        this.batchSizeHistogram = batchSizeHistogram;
+    }
+    
+    public double getAverageQueueDelayMs() {
+        return averageQueueDelayMs;
+    }
+    
+    public void setAverageQueueDelayMs(double averageQueueDelayMs) {
+        this.averageQueueDelayMs = averageQueueDelayMs;
+    }
+    
+    public double getMaxQueueDelayMs() {
+        return maxQueueDelayMs;
+    }
+    
+    public void setMaxQueueDelayMs(double maxQueueDelayMs) {
+        this.maxQueueDelayMs = maxQueueDelayMs;
+    }
+}
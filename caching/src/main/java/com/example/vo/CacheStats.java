@@ -12,6 +12,50 @@ public class CacheStats {
     private int expiredItems;
     private int staleHits;  // For stale-while-revalidate
     private int coalescedRequests;  // For request coalescing
+    private int segmentCount;  // For lock-striped strategies
+    private int droppedAccessEvents;  // For buffered LRU (hits that skipped LRU reordering)
+    private int sketchSizeBytes;  // For W-TinyLFU frequency sketch
+    private int sketchResets;  // For W-TinyLFU (sketch aging passes)
+    private int admissionRejections;  // For W-TinyLFU (window candidates rejected)
+    private long onHeapBytes;  // Retained heap measured by the footprint run
+    private long offHeapBytes;  // Direct memory reserved by off-heap strategies
+    private int lazyExpirations;  // Entries found expired on access
+    private int proactiveExpirations;  // Entries expired by a timing wheel before access
+    private int earlyRecomputes;  // Live entries refetched early by XFetch
+    private int recentGhostHits;  // For ghost-list policies (ARC B1, 2Q A1out, S3-FIFO G)
+    private int frequentGhostHits;  // For ARC (B2)
+    private int ghostEntries;  // Keys remembered after eviction
+    private int recentSize;  // ARC T1 / 2Q A1in / S3-FIFO S resident entries
+    private int recentTargetSize;  // ARC adaptive target p / 2Q fixed Kin / S3-FIFO S capacity
+    // Byte stats are null (n/a) for strategies that don't weigh entries
+    private Long maxBytes;  // For weighted strategies (0 = capped by entries)
+    private Long bytesUsed;  // Estimated weight of cached entries
+    private Long bytesEvicted;
+    private Double byteHitRate;  // Bytes served from cache per byte requested, %
+    private int revalidations;  // For stale-while-revalidate (background refreshes completed)
+    private int rejectedRevalidations;  // For stale-while-revalidate (refresh queue full)
+    private int maxRevalidationQueueDepth;  // For stale-while-revalidate
+    private double averageRefreshLagMs;  // Stale hit to fresh value installed
+    private long maxRefreshLagMs;
+    private int l1Hits;  // For tiered cache
+    private int l1Misses;
+    private int l1Evictions;  // L1 demotions (LRU eviction or L1 TTL)
+    private int l1Size;
+    private int l2Hits;
+    private int l2Misses;
+    private int l2Evictions;
+    private int promotions;  // L2 hits copied into L1 (tiered), S to M moves (S3-FIFO)
+    private int memoryHits;  // For disk tier
+    private int diskHits;
+    private double diskHitRate;  // Disk hits per memory miss, %
+    private double averageDiskReadMicros;  // Disk-tier lookup latency, hits and misses
+    private double maxDiskReadMicros;
+    private int spills;  // Entries moved from memory to disk
+    private int diskEntries;
+    private int diskSegments;
+    private long diskMappedBytes;
+    private long diskLiveBytes;
+    private int diskCompactions;
     
     // Getters and setters
     public int getCurrentSize() {
@@ -69,5 +113,349 @@ public class CacheStats {
     public void setCoalescedRequests(int coalescedRequests) {
         this.coalescedRequests = coalescedRequests;
     }
+    
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+    
+    public void setSegmentCount(int segmentCount) {
+        this.segmentCount = segmentCount;
+    }
+    
+    public int getDroppedAccessEvents() {
+        return droppedAccessEvents;
+    }
+    
+    public void setDroppedAccessEvents(int droppedAccessEvents) {
+        this.droppedAccessEvents = droppedAccessEvents;
+    }
+    
+    public int getSketchSizeBytes() {
+        return sketchSizeBytes;
+    }
+    
+    public void setSketchSizeBytes(int sketchSizeBytes) {
+        this.sketchSizeBytes = sketchSizeBytes;
+    }
+    
+    public int getSketchResets() {
+        return sketchResets;
+    }
+    
+    public void setSketchResets(int sketchResets) {
+        this.sketchResets = sketchResets;
+    }
+    
+    public int getAdmissionRejections() {
+        return admissionRejections;
+    }
+    
+    public void setAdmissionRejections(int admissionRejections) {
+        this.admissionRejections = admissionRejections;
+    }
+    
+    public long getOnHeapBytes() {
+        return onHeapBytes;
+    }
+    
+    public void setOnHeapBytes(long onHeapBytes) {
+        this.onHeapBytes = onHeapBytes;
+    }
+    
+    public long getOffHeapBytes() {
+        return offHeapBytes;
+    }
+    
+    public void setOffHeapBytes(long offHeapBytes) {
+        this.offHeapBytes = offHeapBytes;
+    }
+    
+    public int getLazyExpirations() {
+        return lazyExpirations;
+    }
+    
+    public void setLazyExpirations(int lazyExpirations) {
+        this.lazyExpirations = lazyExpirations;
+    }
+    
+    public int getProactiveExpirations() {
+        return proactiveExpirations;
+    }
+    
+    public void setProactiveExpirations(int proactiveExpirations) {
+        this.proactiveExpirations = proactiveExpirations;
+    }
+    
+    public int getRevalidations() {
+        return revalidations;
+    }
+    
+    public void setRevalidations(int revalidations) {
+        this.revalidations = revalidations;
+    }
+    
+    public int getRejectedRevalidations() {
+        return rejectedRevalidations;
+    }
+    
+    public void setRejectedRevalidations(int rejectedRevalidations) {
+        this.rejectedRevalidations = rejectedRevalidations;
+    }
+    
+    public int getMaxRevalidationQueueDepth() {
+        return maxRevalidationQueueDepth;
+    }
+    
+    public void setMaxRevalidationQueueDepth(int maxRevalidationQueueDepth) {
+        this.maxRevalidationQueueDepth = maxRevalidationQueueDepth;
+    }
+    
+    public double getAverageRefreshLagMs() {
+        return averageRefreshLagMs;
+    }
+    
+    public void setAverageRefreshLagMs(double averageRefreshLagMs) {
+        this.averageRefreshLagMs = averageRefreshLagMs;
+    }
+    
+    public long getMaxRefreshLagMs() {
+        return maxRefreshLagMs;
+    }
+    
+    public void setMaxRefreshLagMs(long maxRefreshLagMs) {
+        this.maxRefreshLagMs = maxRefreshLagMs;
+    }
+    
+    public int getL1Hits() {
+        return l1Hits;
+    }
+    
+    public void setL1Hits(int l1Hits) {
+        this.l1Hits = l1Hits;
+    }
+    
+    public int getL1Misses() {
+        return l1Misses;
+    }
+    
+    public void setL1Misses(int l1Misses) {
+        this.l1Misses = l1Misses;
+    }
+    
+    public int getL1Evictions() {
+        return l1Evictions;
+    }
+    
+    public void setL1Evictions(int l1Evictions) {
+        this.l1Evictions = l1Evictions;
+    }
+    
+    public int getL1Size() {
+        return l1Size;
+    }
+    
+    public void setL1Size(int l1Size) {
+        this.l1Size = l1Size;
+    }
+    
+    public int getL2Hits() {
+        return l2Hits;
+    }
+    
+    public void setL2Hits(int l2Hits) {
+        this.l2Hits = l2Hits;
+    }
+    
+    public int getL2Misses() {
+        return l2Misses;
+    }
+    
+    public void setL2Misses(int l2Misses) {
+        this.l2Misses = l2Misses;
+    }
+    
+    public int getL2Evictions() {
+        return l2Evictions;
+    }
+    
+    public void setL2Evictions(int l2Evictions) {
+        this.l2Evictions = l2Evictions;
+    }
+    
+    public int getPromotions() {
+        return promotions;
+    }
+    
+    public void setPromotions(int promotions) {
+        this.promotions = promotions;
+    }
+    
+    public int getMemoryHits() {
+        return memoryHits;
+    }
+    
+    public void setMemoryHits(int memoryHits) {
+        this.memoryHits = memoryHits;
+    }
+    
+    public int getDiskHits() {
+        return diskHits;
+    }
+    
+    public void setDiskHits(int diskHits) {
+        this.diskHits = diskHits;
+    }
+    
+    public double getDiskHitRate() {
+        return diskHitRate;
+    }
+    
+    public void setDiskHitRate(double diskHitRate) {
+        this.diskHitRate = diskHitRate;
+    }
+    
+    public double getAverageDiskReadMicros() {
+        return averageDiskReadMicros;
+    }
+    
+    public void setAverageDiskReadMicros(double averageDiskReadMicros) {
+        this.averageDiskReadMicros = averageDiskReadMicros;
+    }
+    
+    public double getMaxDiskReadMicros() {
+        return maxDiskReadMicros;
+    }
+    
+    public void setMaxDiskReadMicros(double maxDiskReadMicros) {
+        this.maxDiskReadMicros = maxDiskReadMicros;
+    }
+    
+    public int getSpills() {
+        return spills;
+    }
+    
+    public void setSpills(int spills) {
+        this.spills = spills;
+    }
+    
+    public int getDiskEntries() {
+        return diskEntries;
+    }
+    
+    public void setDiskEntries(int diskEntries) {
+        this.diskEntries = diskEntries;
+    }
+    
+    public int getDiskSegments() {
+        return diskSegments;
+    }
+    
+    public void setDiskSegments(int diskSegments) {
+        this.diskSegments = diskSegments;
+    }
+    
+    public long getDiskMappedBytes() {
+        return diskMappedBytes;
+    }
+    
+    public void setDiskMappedBytes(long diskMappedBytes) {
+        this.diskMappedBytes = diskMappedBytes;
+    }
+    
+    public long getDiskLiveBytes() {
+        return diskLiveBytes;
+    }
+    
+    public void setDiskLiveBytes(long diskLiveBytes) {
+        this.diskLiveBytes = diskLiveBytes;
+    }
+    
+    public int getDiskCompactions() {
+        return diskCompactions;
+    }
+    
+    public void setDiskCompactions(int diskCompactions) {
+        this.diskCompactions = diskCompactions;
+    }
+    
+    public int getEarlyRecomputes() {
+        return earlyRecomputes;
+    }
+    
+    public void setEarlyRecomputes(int earlyRecomputes) {
+        this.earlyRecomputes = earlyRecomputes;
+    }
+    
+    public int getRecentGhostHits() {
+        return recentGhostHits;
+    }
+    
+    public void setRecentGhostHits(int recentGhostHits) {
+        this.recentGhostHits = recentGhostHits;
+    }
+    
+    public int getFrequentGhostHits() {
+        return frequentGhostHits;
+    }
+    
+    public void setFrequentGhostHits(int frequentGhostHits) {
+        this.frequentGhostHits = frequentGhostHits;
+    }
+    
+    public int getGhostEntries() {
+        return ghostEntries;
+    }
+    
+    public void setGhostEntries(int ghostEntries) {
+        this.ghostEntries = ghostEntries;
+    }
+    
+    public int getRecentSize() {
+        return recentSize;
+    }
+    
+    public void setRecentSize(int recentSize) {
+        this.recentSize = recentSize;
+    }
+    
+    public int getRecentTargetSize() {
+        return recentTargetSize;
+    }
+    
+    public void setRecentTargetSize(int recentTargetSize) {
+        this.recentTargetSize = recentTargetSize;
+    }
+    
+    public Long getMaxBytes() {
+        return maxBytes;
+    }
+    
+    public void setMaxBytes(Long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+    
+    public Long getBytesUsed() {
+        return bytesUsed;
+    }
+    
+    public void setBytesUsed(Long bytesUsed) {
+        this.bytesUsed = bytesUsed;
+    }
+    
+    public Long getBytesEvicted() {
+        return bytesEvicted;
+    }
+    
+    public void setBytesEvicted(Long bytesEvicted) {
+        this.bytesEvicted = bytesEvicted;
+    }
+    
+    public Double getByteHitRate() {
+        return byteHitRate;
+    }
+    
+    public void setByteHitRate(Double byteHitRate) {
+        this.byteHitRate = byteHitRate;
+    }
 }
 
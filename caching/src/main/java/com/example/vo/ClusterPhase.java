@@ -0,0 +1,92 @@
+package com.example.vo;
+
+import java.util.Map;
+
+/**
+ * Value object for one phase of a cluster run (between topology changes)
+ */
+public class ClusterPhase {
+    
+    private String event;  // What started the phase, e.g. "add node-5"
+    private int nodeCount;
+    private int requests;
+    private double keysRemappedPercent;  // Keys whose owning node changed at the start of the phase
+    private double hitRate;
+    private double hitRateFirstWindow;  // Hit rate over the first requests of the phase
+    private double missSpike;  // Previous phase's last-window hit rate minus this phase's first-window hit rate
+    private Map<String, Integer> nodeRequests;  // Requests routed to each node during the phase
+    private double jainsFairnessIndex;  // Fairness of nodeRequests (1.0 = perfectly even)
+    
+    // Getters and setters
+    public String getEvent() {
+        return event;
+    }
+    
+    public void setEvent(String event) {
+        this.event = event;
+    }
+    
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+    
+    public int getRequests() {
+        return requests;
+    }
+    
+    public void setRequests(int requests) {
+        this.requests = requests;
+    }
+    
+    public double getKeysRemappedPercent() {
+        return keysRemappedPercent;
+    }
+    
+    public void setKeysRemappedPercent(double keysRemappedPercent) {
+        this.keysRemappedPercent = keysRemappedPercent;
+    }
+    
+    public double getHitRate() {
+        return hitRate;
+    }
+    
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+    
+    public double getHitRateFirstWindow() {
+        return hitRateFirstWindow;
+    }
+    
+    public void setHitRateFirstWindow(double hitRateFirstWindow) {
+        this.hitRateFirstWindow = hitRateFirstWindow;
+    }
+    
+    public double getMissSpike() {
+        return missSpike;
+    }
+    
+    public void setMissSpike(double missSpike) {
+        this.missSpike = missSpike;
+    }
+    
+    public Map<String, Integer> getNodeRequests() {
+        return nodeRequests;
+    }
+    
+    public void setNodeRequests(Map<String, Integer> nodeRequests) {
+        this.nodeRequests = nodeRequests;
+    }
+    
+    public double getJainsFairnessIndex() {
+        return jainsFairnessIndex;
+    }
+    
+    public void setJainsFairnessIndex(double jainsFairnessIndex) {
+        this.jainsFairnessIndex = jainsFairnessIndex;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.vo;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Value object for simulated cache cluster statistics
+ */
+public class ClusterStats {
+    
+    private int nodeCount;  // Nodes at the end of the run
+    private int virtualNodes;  // Ring points per node
+    private long hopLatencyMicros;  // Simulated network hop per get/put
+    private Map<String, Integer> nodeRequests;  // Requests routed to each node over the whole run
+    private Map<String, Integer> nodeSizes;  // Entries held by each live node at the end
+    private double jainsFairnessIndex;  // Fairness of nodeRequests
+    private List<ClusterPhase> phases;  // Topology-change runs only
+    
+    // Getters and setters
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    
+    public void setNodeCount(int nodeCount) {
+        this.nodeCount = nodeCount;
+    }
+    
+    public int getVirtualNodes() {
+        return virtualNodes;
+    }
+    
+    public void setVirtualNodes(int virtualNodes) {
+        this.virtualNodes = virtualNodes;
+    }
+    
+    public long getHopLatencyMicros() {
+        return hopLatencyMicros;
+    }
+    
+    public void setHopLatencyMicros(long hopLatencyMicros) {
+        this.hopLatencyMicros = hopLatencyMicros;
+    }
+    
+    public Map<String, Integer> getNodeRequests() {
+        return nodeRequests;
+    }
+    
+    public void setNodeRequests(Map<String, Integer> nodeRequests) {
+        this.nodeRequests = nodeRequests;
+    }
+    
+    public Map<String, Integer> getNodeSizes() {
+        return nodeSizes;
+    }
+    
+    public void setNodeSizes(Map<String, Integer> nodeSizes) {
+        this.nodeSizes = nodeSizes;
+    }
+    
+    public double getJainsFairnessIndex() {
+        return jainsFairnessIndex;
+    }
+    
+    public void setJainsFairnessIndex(double jainsFairnessIndex) {
+        this.jainsFairnessIndex = jainsFairnessIndex;
+    }
+    
+    public List<ClusterPhase> getPhases() {
+        return phases;
+    }
+    
+    public void setPhases(List<ClusterPhase> phases) {
+        this.phases = phases;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.vo;
+
+/**
+ * Value object for one strategy run at one concurrency level
+ */
+public class ConcurrencySweepPoint {
+    
+    private String strategy;
+    private String executionMode;  // PLATFORM or VIRTUAL
+    private int concurrency;  // Requests in flight at once
+    private int totalRequests;
+    private double hitRate;
+    private double throughputKeysPerSec;  // Requests per wall-clock second
+    private long p50LatencyMs;
+    private long p99LatencyMs;
+    private boolean knee;  // Last level before throughput stops scaling
+    
+    // Getters and setters
+    public String getStrategy() {
+        return strategy;
+    }
+    
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+    
+    public String getExecutionMode() {
+        return executionMode;
+    }
+    
+    public void setExecutionMode(String executionMode) {
+        this.executionMode = executionMode;
+    }
+    
+    public int getConcurrency() {
+        return concurrency;
+    }
+    
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+    
+    public int getTotalRequests() {
+        return totalRequests;
+    }
+    
+    public void setTotalRequests(int totalRequests) {
+        this.totalRequests = totalRequests;
+    }
+    
+    public double getHitRate() {
+        return hitRate;
+    }
+    
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+    
+    public double getThroughputKeysPerSec() {
+        return throughputKeysPerSec;
+    }
+    
+    public void setThroughputKeysPerSec(double throughputKeysPerSec) {
+        this.throughputKeysPerSec = throughputKeysPerSec;
+    }
+    
+    public long getP50LatencyMs() {
+        return p50LatencyMs;
+    }
+    
+    public void setP50LatencyMs(long p50LatencyMs) {
+        this.p50LatencyMs = p50LatencyMs;
+    }
+    
+    public long getP99LatencyMs() {
+        return p99LatencyMs;
+    }
+    
+    public void setP99LatencyMs(long p99LatencyMs) {
+        this.p99LatencyMs = p99LatencyMs;
+    }
+    
+    public boolean isKnee() {
+        return knee;
+    }
+    
+    public void setKnee(boolean knee) {
+        this.knee = knee;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.vo;
+
+/**
+ * Outcome of a cache lookup that may load the value itself.
+ * Tells the load generator how the value was obtained.
+ */
+public class LoadResult {
+
+    private final String value;
+    private final boolean cacheHit;
+    private final boolean backendFetch;
+    private final boolean stale;  // Served past its TTL (stale-while-revalidate)
+    private final boolean coalesced;  // Shared another request's in-flight fetch
+
+    private LoadResult(String value, boolean cacheHit, boolean backendFetch,
+                       boolean stale, boolean coalesced) {
+        this.value = value;
+        this.cacheHit = cacheHit;
+        this.backendFetch = backendFetch;
+        this.stale = stale;
+        this.coalesced = coalesced;
+    }
+
+    public static LoadResult hit(String value) {
+        return new LoadResult(value, true, false, false, false);
+    }
+
+    public static LoadResult loaded(String value) {
+        return new LoadResult(value, false, true, false, false);
+    }
+
+    public static LoadResult coalesced(String value) {
+        return new LoadResult(value, false, false, false, true);
+    }
+
+    public static LoadResult stale(String value) {
+        return new LoadResult(value, true, false, true, false);
+    }
+
+    // Getters
+    public String getValue() {
+        return value;
+    }
+
+    public boolean isCacheHit() {
+        return cacheHit;
+    }
+
+    public boolean isBackendFetch() {
+        return backendFetch;
+    }
+
+    public boolean isStale() {
+        return stale;
+    }
+
+    public boolean isCoalesced() {
+        return coalesced;
+    }
+}
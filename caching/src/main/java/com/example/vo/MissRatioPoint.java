@@ -0,0 +1,45 @@
+package com.example.vo;
+
+/**
+ * Value object for one cache size on a miss-ratio curve
+ */
+public class MissRatioPoint {
+    
+    private int cacheSize;
+    private double hitRate;
+    private double missRatio;  // 100 - hitRate
+    
+    public MissRatioPoint() {
+    }
+    
+    public MissRatioPoint(int cacheSize, double hitRate) {
+        this.cacheSize = cacheSize;
+        this.hitRate = hitRate;
+        this.missRatio = 100 - hitRate;
+    }
+    
+    // Getters and setters
+    public int getCacheSize() {
+        return cacheSize;
+    }
+    
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+    
+    public double getHitRate() {
+        return hitRate;
+    }
+    
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+    
+    public double getMissRatio() {
+        return missRatio;
+    }
+    
+    public void setMissRatio(double missRatio) {
+        this.missRatio = missRatio;
+    }
+}
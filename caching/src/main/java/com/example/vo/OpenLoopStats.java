@@ -0,0 +1,54 @@
+package com.example.vo;
+
+/**
+ * Value object for an open-loop (constant arrival rate) run
+ */
+public class OpenLoopStats {
+    
+    private double targetRatePerSec;
+    private String arrivalProcess;  // FIXED or POISSON
+    private long scheduledDurationMs;  // (totalRequests - 1) / rate: when the schedule ends (its mean, for Poisson)
+    private long wallClockMs;  // Until the last response
+    private double completedRatePerSec;  // Responses per wall-clock second
+    
+    // Getters and setters
+    public double getTargetRatePerSec() {
+        return targetRatePerSec;
+    }
+    
+    public void setTargetRatePerSec(double targetRatePerSec) {
+        this.targetRatePerSec = targetRatePerSec;
+    }
+    
+    public String getArrivalProcess() {
+        return arrivalProcess;
+    }
+    
+    public void setArrivalProcess(String arrivalProcess) {
+        this.arrivalProcess = arrivalProcess;
+    }
+    
+    public long getScheduledDurationMs() {
+        return scheduledDurationMs;
+    }
+    
+    public void setScheduledDurationMs(long scheduledDurationMs) {
+        this.scheduledDurationMs = scheduledDurationMs;
+    }
+    
+    public long getWallClockMs() {
+        return wallClockMs;
+    }
+    
+    public void setWallClockMs(long wallClockMs) {
+        this.wallClockMs = wallClockMs;
+    }
+    
+    public double getCompletedRatePerSec() {
+        return completedRatePerSec;
+    }
+    
+    public void setCompletedRatePerSec(double completedRatePerSec) {
+        this.completedRatePerSec = completedRatePerSec;
+    }
+}
@@ -13,6 +13,9 @@ public class RequestRecord {
     private final boolean wasStale;  // For stale-while-revalidate
     private final boolean wasCoalesced;  // For request coalescing
     private final boolean success;
+    private final long completedAtMs = System.currentTimeMillis();  // Records are created when the request finishes
+    private long allocatedBytes = -1;  // Heap allocated by the lookup and load (-1 = not measured)
+    private long correctedLatencyMs = -1;  // From the intended send time, open-loop runs only (-1 = closed loop)
     
     public RequestRecord(String key, long latencyMs, boolean cacheHit, boolean backendFetch, 
                         boolean wasStale, boolean wasCoalesced, boolean success) {
@@ -53,5 +56,24 @@ public class RequestRecord {
     public boolean isSuccess() {
         return success;
     }
+    
+    public long getCompletedAtMs() {
+        return completedAtMs;
+    }
+    
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+    
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+    
+    public long getCorrectedLatencyMs() {
+        return correctedLatencyMs;
+    }
+    
+    public void setCorrectedLatencyMs(long correctedLatencyMs) {
+        this.correctedLatencyMs = correctedLatencyMs;
+    }
 }
-
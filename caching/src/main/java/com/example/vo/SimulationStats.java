@@ -0,0 +1,81 @@
+package com.example.vo;
+
+/**
+ * Value object for a run on the virtual clock (simulated runs only)
+ */
+public class SimulationStats {
+    
+    private double requestIntervalMs;  // Virtual time between request arrivals
+    private long backendLatencyMs;  // Modeled fetch latency (plus or minus jitter)
+    private long virtualDurationMs;  // Simulated traffic time
+    private long wallClockMs;  // Real time the simulation took
+    private double speedup;  // virtualDurationMs / wallClockMs
+    private long events;  // Arrivals plus fetch completions processed
+    private int peakInFlightFetches;  // Most backend fetches outstanding at once
+    private String keyTrace;  // Trace replayed instead of the scenario's keys (null = none)
+    
+    // Getters and setters
+    public double getRequestIntervalMs() {
+        return requestIntervalMs;
+    }
+    
+    public void setRequestIntervalMs(double requestIntervalMs) {
+        this.requestIntervalMs = requestIntervalMs;
+    }
+    
+    public long getBackendLatencyMs() {
+        return backendLatencyMs;
+    }
+    
+    public void setBackendLatencyMs(long backendLatencyMs) {
+        this.backendLatencyMs = backendLatencyMs;
+    }
+    
+    public long getVirtualDurationMs() {
+        return virtualDurationMs;
+    }
+    
+    public void setVirtualDurationMs(long virtualDurationMs) {
+        this.virtualDurationMs = virtualDurationMs;
+    }
+    
+    public long getWallClockMs() {
+        return wallClockMs;
+    }
+    
+    public void setWallClockMs(long wallClockMs) {
+        this.wallClockMs = wallClockMs;
+    }
+    
+    public double getSpeedup() {
+        return speedup;
+    }
+    
+    public void setSpeedup(double speedup) {
+        this.speedup = speedup;
+    }
+    
+    public long getEvents() {
+        return events;
+    }
+    
+    public void setEvents(long events) {
+        this.events = events;
+    }
+    
+    public int getPeakInFlightFetches() {
+        return peakInFlightFetches;
+    }
+    
+    public void setPeakInFlightFetches(int peakInFlightFetches) {
+        this.peakInFlightFetches = peakInFlightFetches;
+    }
+    
+    public String getKeyTrace() {
+        return keyTrace;
+    }
+    
+    public void setKeyTrace(String keyTrace) {
+        this.keyTrace = keyTrace;
+    }
+}
@@ -2,6 +2,8 @@ package com.example.vo;
 
 import com.example.util.CacheTestUtils;
 
+import java.util.List;
+
 /**
  * Value object representing test execution results
  * Similar to load-balancing module's TestResult
@@ -17,6 +19,22 @@ public class TestResult {
     private long durationMs;
     private CacheStats cacheStats;
     private LatencyStats latency;
+    private LatencyStats correctedLatency;  // Open-loop runs only: from intended send times (coordinated omission corrected)
+    private long gcCount;  // Collections during the run (footprint runs only)
+    private long gcTimeMs;  // Accumulated collection time during the run
+    private int backendRoundTrips;  // Backend calls (a batch fetch counts once)
+    private int maxBackendFetchesPer100Ms;  // Backend burstiness: busiest 100 ms window of fetch completions
+    private double throughputKeysPerSec;  // Keys served per wall-clock second (multi-get and hot-key runs)
+    private BatchingStats batchingStats;  // Micro-batching loader runs only
+    private WarmStartStats warmStartStats;  // Warm-start runs only
+    private ClusterStats clusterStats;  // Cluster runs only
+    private List<ThreadSweepPoint> threadSweep;  // Thread-sweep runs only
+    private List<ConcurrencySweepPoint> concurrencySweep;  // Concurrency-sweep runs only
+    private List<MissRatioPoint> missRatioCurve;  // Miss-ratio-curve runs only
+    private SimulationStats simulationStats;  // Simulated (virtual clock) runs only
+    private OpenLoopStats openLoopStats;  // Open-loop runs only
+    private double allocatedBytesPerRequest;  // Average heap allocated by a request's lookup and load
+    private double allocatedBytesPerHit;  // Same, hits only
     
     // TODO: Add more fields as needed
     // - evictionCount
@@ -96,6 +114,134 @@ public class TestResult {
         this.latency = latency;
     }
     
+    public long getGcCount() {
+        return gcCount;
+    }
+    
+    public void setGcCount(long gcCount) {
+        this.gcCount = gcCount;
+    }
+    
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+    
+    public void setGcTimeMs(long gcTimeMs) {
+        this.gcTimeMs = gcTimeMs;
+    }
+    
+    public int getBackendRoundTrips() {
+        return backendRoundTrips;
+    }
+    
+    public void setBackendRoundTrips(int backendRoundTrips) {
+        this.backendRoundTrips = backendRoundTrips;
+    }
+    
+    public int getMaxBackendFetchesPer100Ms() {
+        return maxBackendFetchesPer100Ms;
+    }
+    
+    public void setMaxBackendFetchesPer100Ms(int maxBackendFetchesPer100Ms) {
+        this.maxBackendFetchesPer100Ms = maxBackendFetchesPer100Ms;
+    }
+    
+    public double getThroughputKeysPerSec() {
+        return throughputKeysPerSec;
+    }
+    
+    public void setThroughputKeysPerSec(double throughputKeysPerSec) {
+        this.throughputKeysPerSec = throughputKeysPerSec;
+    }
+    
+    public BatchingStats getBatchingStats() {
+        return batchingStats;
+    }
+    
+    public void setBatchingStats(BatchingStats batchingStats) {
+        this.batchingStats = batchingStats;
+    }
+    
+    public WarmStartStats getWarmStartStats() {
+        return warmStartStats;
+    }
+    
+    public void setWarmStartStats(WarmStartStats warmStartStats) {
+        this.warmStartStats = warmStartStats;
+    }
+    
+    public ClusterStats getClusterStats() {
+        return clusterStats;
+    }
+    
+    public void setClusterStats(ClusterStats clusterStats) {
+        this.clusterStats = clusterStats;
+    }
+    
+    public double getAllocatedBytesPerRequest() {
+        return allocatedBytesPerRequest;
+    }
+    
+    public void setAllocatedBytesPerRequest(double allocatedBytesPerRequest) {
+        this.allocatedBytesPerRequest = allocatedBytesPerRequest;
+    }
+    
+    public double getAllocatedBytesPerHit() {
+        return allocatedBytesPerHit;
+    }
+    
+    public void setAllocatedBytesPerHit(double allocatedBytesPerHit) {
+        this.allocatedBytesPerHit = allocatedBytesPerHit;
+    }
+    
+    public List<ThreadSweepPoint> getThreadSweep() {
+        return threadSweep;
+    }
+    
+    public void setThreadSweep(List<ThreadSweepPoint> threadSweep) {
+        this.threadSweep = threadSweep;
+    }
+    
+    public LatencyStats getCorrectedLatency() {
+        return correctedLatency;
+    }
+    
+    public void setCorrectedLatency(LatencyStats correctedLatency) {
+        this.correctedLatency = correctedLatency;
+    }
+    
+    public OpenLoopStats getOpenLoopStats() {
+        return openLoopStats;
+    }
+    
+    public void setOpenLoopStats(OpenLoopStats openLoopStats) {
+        this.openLoopStats = openLoopStats;
+    }
+    
+    public List<ConcurrencySweepPoint> getConcurrencySweep() {
+        return concurrencySweep;
+    }
+    
+    public void setConcurrencySweep(List<ConcurrencySweepPoint> concurrencySweep) {
+        this.concurrencySweep = concurrencySweep;
+    }
+    
+    public List<MissRatioPoint> getMissRatioCurve() {
+        return missRatioCurve;
+    }
+    
+    public void setMissRatioCurve(List<MissRatioPoint> missRatioCurve) {
+        this.missRatioCurve = missRatioCurve;
+    }
+    
+    public SimulationStats getSimulationStats() {
+        return simulationStats;
+    }
+    
+    public void setSimulationStats(SimulationStats simulationStats) {
+        this.simulationStats = simulationStats;
+    }
+    
     public double getHitRate() {
         if (totalRequests == 0) return 0.0;
         return (double) cacheHits / totalRequests * 100;
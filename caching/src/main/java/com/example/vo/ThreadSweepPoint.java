@@ -0,0 +1,63 @@
+package com.example.vo;
+
+/**
+ * Value object for one strategy run at one load generator thread count
+ */
+public class ThreadSweepPoint {
+    
+    private String strategy;
+    private int threads;
+    private double hitRate;
+    private double throughputKeysPerSec;  // Requests per wall-clock second
+    private long p50LatencyMs;
+    private long p99LatencyMs;
+    
+    // Getters and setters
+    public String getStrategy() {
+        return strategy;
+    }
+    
+    public void setStrategy(String strategy) {
+        this.strategy = strategy;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+    
+    public double getHitRate() {
+        return hitRate;
+    }
+    
+    public void setHitRate(double hitRate) {
+        this.hitRate = hitRate;
+    }
+    
+    public double getThroughputKeysPerSec() {
+        return throughputKeysPerSec;
+    }
+    
+    public void setThroughputKeysPerSec(double throughputKeysPerSec) {
+        this.throughputKeysPerSec = throughputKeysPerSec;
+    }
+    
+    public long getP50LatencyMs() {
+        return p50LatencyMs;
+    }
+    
+    public void setP50LatencyMs(long p50LatencyMs) {
+        this.p50LatencyMs = p50LatencyMs;
+    }
+    
+    public long getP99LatencyMs() {
+        return p99LatencyMs;
+    }
+    
+    public void setP99LatencyMs(long p99LatencyMs) {
+        this.p99LatencyMs = p99LatencyMs;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.vo;
+
+/**
+ * Value object for the key-trace recording and replay state
+ */
+public class TraceStatus {
+    
+    private boolean recording;
+    private String recordingPath;
+    private long recordedRequests;  // Requests written so far
+    private boolean replaying;
+    private String replayPath;
+    private long replayRecords;  // Requests in the trace; runs longer than this wrap around
+    
+    // Getters and setters
+    public boolean isRecording() {
+        return recording;
+    }
+    
+    public void setRecording(boolean recording) {
+        this.recording = recording;
+    }
+    
+    public String getRecordingPath() {
+        return recordingPath;
+    }
+    
+    public void setRecordingPath(String recordingPath) {
+        this.recordingPath = recordingPath;
+    }
+    
+    public long getRecordedRequests() {
+        return recordedRequests;
+    }
+    
+    public void setRecordedRequests(long recordedRequests) {
+        this.recordedRequests = recordedRequests;
+    }
+    
+    public boolean isReplaying() {
+        return replaying;
+    }
+    
+    public void setReplaying(boolean replaying) {
+        this.replaying = replaying;
+    }
+    
+    public String getReplayPath() {
+        return replayPath;
+    }
+    
+    public void setReplayPath(String replayPath) {
+        this.replayPath = replayPath;
+    }
+    
+    public long getReplayRecords() {
+        return replayRecords;
+    }
+    
+    public void setReplayRecords(long replayRecords) {
+        this.replayRecords = replayRecords;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.vo;
+
+/**
+ * Value object comparing a cold restart with a warm (snapshot-restored) one
+ */
+public class WarmStartStats {
+    
+    private int snapshotEntries;  // Entries in the snapshot taken after the priming run
+    private long snapshotBytes;
+    private long snapshotWriteMs;
+    private int restoredEntries;  // Entries loaded before the warm run
+    private long restoreMs;
+    private double coldHitRate;  // Whole-run hit rate
+    private double warmHitRate;
+    private double coldSteadyStateHitRate;  // Hit rate over the last quarter of the run
+    private double warmSteadyStateHitRate;
+    private int coldRequestsToSteadyState;  // Requests completed before a rolling window reached steady state
+    private int warmRequestsToSteadyState;
+    private long coldTimeToSteadyStateMs;  // Run start to the end of that window
+    private long warmTimeToSteadyStateMs;
+    private int coldBackendFetches;
+    private int warmBackendFetches;
+    
+    // Getters and setters
+    public int getSnapshotEntries() {
+        return snapshotEntries;
+    }
+    
+    public void setSnapshotEntries(int snapshotEntries) {
+        this.snapshotEntries = snapshotEntries;
+    }
+    
+    public long getSnapshotBytes() {
+        return snapshotBytes;
+    }
+    
+    public void setSnapshotBytes(long snapshotBytes) {
+        this.snapshotBytes = snapshotBytes;
+    }
+    
+    public long getSnapshotWriteMs() {
+        return snapshotWriteMs;
+    }
+    
+    public void setSnapshotWriteMs(long snapshotWriteMs) {
+        this.snapshotWriteMs = snapshotWriteMs;
+    }
+    
+    public int getRestoredEntries() {
+        return restoredEntries;
+    }
+    
+    public void setRestoredEntries(int restoredEntries) {
+        this.restoredEntries = restoredEntries;
+    }
+    
+    public long getRestoreMs() {
+        return restoreMs;
+    }
+    
+    public void setRestoreMs(long restoreMs) {
+        this.restoreMs = restoreMs;
+    }
+    
+    public double getColdHitRate() {
+        return coldHitRate;
+    }
+    
+    public void setColdHitRate(double coldHitRate) {
+        this.coldHitRate = coldHitRate;
+    }
+    
+    public double getWarmHitRate() {
+        return warmHitRate;
+    }
+    
+    public void setWarmHitRate(double warmHitRate) {
+        this.warmHitRate = warmHitRate;
+    }
+    
+    public double getColdSteadyStateHitRate() {
+        return coldSteadyStateHitRate;
+    }
+    
+    public void setColdSteadyStateHitRate(double coldSteadyStateHitRate) {
+        this.coldSteadyStateHitRate = coldSteadyStateHitRate;
+    }
+    
+    public double getWarmSteadyStateHitRate() {
+        return warmSteadyStateHitRate;
+    }
+    
+    public void setWarmSteadyStateHitRate(double warmSteadyStateHitRate) {
+        this.warmSteadyStateHitRate = warmSteadyStateHitRate;
+    }
+    
+    public int getColdRequestsToSteadyState() {
+        return coldRequestsToSteadyState;
+    }
+    
+    public void setColdRequestsToSteadyState(int coldRequestsToSteadyState) {
+        this.coldRequestsToSteadyState = coldRequestsToSteadyState;
+    }
+    
+    public int getWarmRequestsToSteadyState() {
+        return warmRequestsToSteadyState;
+    }
+    
+    public void setWarmRequestsToSteadyState(int warmRequestsToSteadyState) {
+        this.warmRequestsToSteadyState = warmRequestsToSteadyState;
+    }
+    
+    public long getColdTimeToSteadyStateMs() {
+        return coldTimeToSteadyStateMs;
+    }
+    
+    public void setColdTimeToSteadyStateMs(long coldTimeToSteadyStateMs) {
+        this.coldTimeToSteadyStateMs = coldTimeToSteadyStateMs;
+    }
+    
+    public long getWarmTimeToSteadyStateMs() {
+        return warmTimeToSteadyStateMs;
+    }
+    
+    public void setWarmTimeToSteadyStateMs(long warmTimeToSteadyStateMs) {
+        this.warmTimeToSteadyStateMs = warmTimeToSteadyStateMs;
+    }
+    
+    public int getColdBackendFetches() {
+        return coldBackendFetches;
+    }
+    
+    public void setColdBackendFetches(int coldBackendFetches) {
+        this.coldBackendFetches = coldBackendFetches;
+    }
+    
+    public int getWarmBackendFetches() {
+        return warmBackendFetches;
+    }
+    
+    public void setWarmBackendFetches(int warmBackendFetches) {
+        this.warmBackendFetches = warmBackendFetches;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * Walker/Vose alias table: samples a discrete distribution in O(1).
+ * Built in O(n) from the weights; each sample is one uniform int and one
+ * uniform double, whatever the distribution's shape.
+ */
+public final class AliasTable {
+
+    private final double[] probability;  // Chance of keeping column i
+    private final int[] alias;  // Outcome taken otherwise
+
+    /**
+     * @param weights Non-negative weights, not all zero (need not sum to 1)
+     */
+    public AliasTable(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("Alias table needs at least one weight");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (!(weight >= 0)) {
+                throw new IllegalArgumentException("Weights must be non-negative: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Weights must not all be zero");
+        }
+
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Scale so the average column is 1, then pair under-full with over-full columns
+        double[] scaled = new double[n];
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Leftovers are full columns (up to rounding)
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Zipf(s) over ranks 0..n-1: rank r has weight 1 / (r + 1)^s.
+     */
+    public static AliasTable zipf(int n, double s) {
+        double[] weights = new double[n];
+        for (int r = 0; r < n; r++) {
+            weights[r] = 1.0 / Math.pow(r + 1, s);
+        }
+        return new AliasTable(weights);
+    }
+
+    /**
+     * Draw an outcome in 0..size()-1.
+     */
+    public int sample(SplittableRandom random) {
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? column : alias[column];
+    }
+
+    public int size() {
+        return probability.length;
+    }
+}
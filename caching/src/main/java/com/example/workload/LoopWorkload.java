@@ -0,0 +1,26 @@
+package com.example.workload;
+
+/**
+ * Cyclic access to loopLength keys: 1, 2, ..., loopLength, 1, 2, ...
+ * LRU's worst case: once loopLength exceeds the cache, every request misses,
+ * while a policy that keeps any fixed subset hits on cacheSize / loopLength
+ * of them. No randomness, so identical on every run.
+ */
+public class LoopWorkload implements Workload {
+
+    private final int loopLength;
+
+    public LoopWorkload(int loopLength) {
+        this.loopLength = loopLength;
+    }
+
+    @Override
+    public long nextKey(int index) {
+        return (index - 1) % loopLength + 1;
+    }
+
+    @Override
+    public String getName() {
+        return "loop-" + loopLength;
+    }
+}
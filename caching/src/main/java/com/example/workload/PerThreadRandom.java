@@ -0,0 +1,32 @@
+package com.example.workload;
+
+import java.util.SplittableRandom;
+
+/**
+ * One SplittableRandom per thread, all split from a seeded root.
+ * Draws never contend: each thread only touches its own generator. Streams
+ * are handed out in the order threads first draw, so a workload driven from
+ * one thread (as the load generator does when submitting) produces the
+ * same keys on every run with the same seed.
+ */
+public final class PerThreadRandom {
+
+    private final SplittableRandom root;
+    private final ThreadLocal<SplittableRandom> current;
+
+    public PerThreadRandom(long seed) {
+        this.root = new SplittableRandom(seed);
+        this.current = ThreadLocal.withInitial(this::split);
+    }
+
+    private synchronized SplittableRandom split() {
+        return root.split();
+    }
+
+    /**
+     * The calling thread's generator.
+     */
+    public SplittableRandom get() {
+        return current.get();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.workload;
+
+/**
+ * Hot traffic with periodic scans mixed in.
+ * Each period of periodRequests requests starts with a sequential scan of
+ * scanLength keys that are never requested again (numbered above the hot
+ * key set), followed by requests from the underlying workload. A scan
+ * flushes an LRU cache of hot keys; scan-resistant policies (ARC, 2Q,
+ * S3-FIFO, W-TinyLFU) keep most of them.
+ */
+public class ScanMixWorkload implements Workload {
+
+    private final Workload hot;
+    private final int hotKeys;
+    private final int periodRequests;
+    private final int scanLength;
+
+    /**
+     * @param hot Traffic between scans, over keys 1..hotKeys
+     * @param hotKeys Size of the hot workload's key set; scan keys start above it
+     * @param periodRequests Requests per period, scan included
+     * @param scanLength Scan requests at the start of each period
+     */
+    public ScanMixWorkload(Workload hot, int hotKeys, int periodRequests, int scanLength) {
+        if (scanLength >= periodRequests) {
+            throw new IllegalArgumentException("scanLength must be shorter than periodRequests");
+        }
+        this.hot = hot;
+        this.hotKeys = hotKeys;
+        this.periodRequests = periodRequests;
+        this.scanLength = scanLength;
+    }
+
+    @Override
+    public long nextKey(int index) {
+        int period = (index - 1) / periodRequests;
+        int offset = (index - 1) % periodRequests;
+        if (offset < scanLength) {
+            return hotKeys + (long) period * scanLength + offset + 1;
+        }
+        return hot.nextKey(index);
+    }
+
+    @Override
+    public String getName() {
+        return "scan-mix-" + hot.getName();
+    }
+}
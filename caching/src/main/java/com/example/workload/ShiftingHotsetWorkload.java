@@ -0,0 +1,41 @@
+package com.example.workload;
+
+/**
+ * Zipf(s) traffic whose hot set drifts over time.
+ * Every shiftEveryRequests requests, popularity ranks move shiftKeys keys
+ * along the key space (wrapping around), so yesterday's hottest keys cool
+ * down and cold keys heat up. Frequency-based policies have to age out old
+ * counts to follow it; recency-based ones adapt immediately.
+ */
+public class ShiftingHotsetWorkload implements Workload {
+
+    private final int keys;
+    private final double s;
+    private final int shiftEveryRequests;
+    private final int shiftKeys;
+    private final AliasTable table;
+    private final PerThreadRandom random;
+
+    public ShiftingHotsetWorkload(int keys, double s, int shiftEveryRequests, int shiftKeys, long seed) {
+        if (shiftEveryRequests <= 0) {
+            throw new IllegalArgumentException("shiftEveryRequests must be positive: " + shiftEveryRequests);
+        }
+        this.keys = keys;
+        this.s = s;
+        this.shiftEveryRequests = shiftEveryRequests;
+        this.shiftKeys = shiftKeys;
+        this.table = AliasTable.zipf(keys, s);
+        this.random = new PerThreadRandom(seed);
+    }
+
+    @Override
+    public long nextKey(int index) {
+        long offset = (long) ((index - 1) / shiftEveryRequests) * shiftKeys;
+        return (table.sample(random.get()) + offset) % keys + 1;
+    }
+
+    @Override
+    public String getName() {
+        return "shifting-hotset-" + s;
+    }
+}
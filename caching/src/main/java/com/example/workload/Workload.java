@@ -0,0 +1,38 @@
+package com.example.workload;
+
+import java.util.function.Function;
+import java.util.function.IntToLongFunction;
+
+/**
+ * A synthetic key stream.
+ * Keys are numbered from 1, as in CacheTestUtils.generateLongKey, and the
+ * String form is "key_{n}". Implementations are thread-safe and draw from a
+ * PerThreadRandom, so generating a key is O(1) and uncontended.
+ */
+public interface Workload {
+
+    /**
+     * Key number for a request.
+     * @param index Request index (1-based)
+     */
+    long nextKey(int index);
+
+    /**
+     * Short description, used in scenario names (e.g. "zipf-0.99").
+     */
+    String getName();
+
+    /**
+     * This workload as a load generator key generator.
+     */
+    default Function<Integer, String> keyGenerator() {
+        return index -> "key_" + nextKey(index);
+    }
+
+    /**
+     * This workload as key numbers, for long-keyed caches.
+     */
+    default IntToLongFunction longKeyGenerator() {
+        return this::nextKey;
+    }
+}
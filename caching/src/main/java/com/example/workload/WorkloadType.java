@@ -0,0 +1,39 @@
+package com.example.workload;
+
+/**
+ * Workloads selectable from the REST API, with defaults scaled to the
+ * scenario's key count.
+ */
+public enum WorkloadType {
+    /** Zipf(0.99) over the key set */
+    ZIPF,
+    /** Zipf(0.99) whose hot set moves 5% of the key set every 2 x keys requests */
+    SHIFTING_HOTSET,
+    /** Zipf(0.99) with a one-time scan of keys / 2 new keys every 5 x keys requests */
+    SCAN_MIX,
+    /** The key set in a fixed cycle */
+    LOOP;
+
+    private static final double DEFAULT_ZIPF_S = 0.99;
+
+    /**
+     * Build this workload.
+     * @param keys Size of the key set (scans add keys beyond it)
+     * @param seed Seed for the random draws
+     */
+    public Workload create(int keys, long seed) {
+        switch (this) {
+            case ZIPF:
+                return new ZipfWorkload(keys, DEFAULT_ZIPF_S, seed);
+            case SHIFTING_HOTSET:
+                return new ShiftingHotsetWorkload(keys, DEFAULT_ZIPF_S, keys * 2, Math.max(1, keys / 20), seed);
+            case SCAN_MIX:
+                return new ScanMixWorkload(new ZipfWorkload(keys, DEFAULT_ZIPF_S, seed), keys,
+                    keys * 5, Math.max(1, keys / 2));
+            case LOOP:
+                return new LoopWorkload(keys);
+            default:
+                throw new IllegalStateException("Unknown workload " + this);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.workload;
+
+/**
+ * Zipf(s) popularity over a fixed key set: the key of rank r (key r + 1)
+ * is requested with probability proportional to 1 / (r + 1)^s.
+ * s around 0.6-1.0 matches most measured web and key-value traces; s = 0
+ * is uniform.
+ */
+public class ZipfWorkload implements Workload {
+
+    private final int keys;
+    private final double s;
+    private final AliasTable table;
+    private final PerThreadRandom random;
+
+    public ZipfWorkload(int keys, double s, long seed) {
+        this.keys = keys;
+        this.s = s;
+        this.table = AliasTable.zipf(keys, s);
+        this.random = new PerThreadRandom(seed);
+    }
+
+    @Override
+    public long nextKey(int index) {
+        return table.sample(random.get()) + 1;
+    }
+
+    @Override
+    public String getName() {
+        return "zipf-" + s;
+    }
+
+    public int getKeys() {
+        return keys;
+    }
+}